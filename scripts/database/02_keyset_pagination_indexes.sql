@@ -0,0 +1,22 @@
+-- Wildlife Conservation Platform - Keyset Pagination Indexes
+-- Supports cursor pagination of the article feeds, which seek on (publish_date, id)
+-- or (created_at, id) instead of scanning and discarding OFFSET rows
+-- This script is idempotent and can be run multiple times safely
+
+-- Published feed: WHERE published = true ORDER BY publish_date DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_article_feed
+    ON articles (publish_date DESC, id DESC)
+    WHERE published = TRUE AND publish_date IS NOT NULL;
+
+-- Category feed: WHERE published = true AND category = ? ORDER BY publish_date DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_article_category_feed
+    ON articles (category, publish_date DESC, id DESC)
+    WHERE published = TRUE AND publish_date IS NOT NULL;
+
+-- Author feed (drafts included): WHERE author_id = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_article_author_feed
+    ON articles (author_id, created_at DESC, id DESC);
+
+COMMENT ON INDEX idx_article_feed IS 'Keyset pagination of the published article feed';
+COMMENT ON INDEX idx_article_category_feed IS 'Keyset pagination of published articles per category';
+COMMENT ON INDEX idx_article_author_feed IS 'Keyset pagination of articles per author';
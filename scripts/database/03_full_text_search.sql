@@ -0,0 +1,58 @@
+-- Wildlife Conservation Platform - Full-Text Search
+-- Adds a weighted tsvector column kept current by a trigger, a GIN index for ranked
+-- full-text search and a trigram index on title for typo-tolerant fallback matching
+-- This script is idempotent and can be run multiple times safely
+
+-- Trigram similarity operators (%, <%, similarity, word_similarity)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Search document column (not mapped by JPA, maintained by the trigger below)
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+-- Build the weighted document: title (A), excerpt (B), content with HTML tags stripped (C)
+CREATE OR REPLACE FUNCTION articles_search_vector(title TEXT, excerpt TEXT, content TEXT)
+    RETURNS tsvector AS $$
+BEGIN
+    RETURN setweight(to_tsvector('english', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(excerpt, '')), 'B')
+        || setweight(to_tsvector('english', coalesce(regexp_replace(content, '<[^>]+>', ' ', 'g'), '')), 'C');
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- Recompute the document only when a searchable column is written
+CREATE OR REPLACE FUNCTION update_articles_search_vector()
+    RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector = articles_search_vector(NEW.title, NEW.excerpt, NEW.content);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (
+        SELECT 1 FROM information_schema.triggers
+        WHERE trigger_name = 'update_articles_search_vector'
+    ) THEN
+        CREATE TRIGGER update_articles_search_vector
+        BEFORE INSERT OR UPDATE OF title, excerpt, content ON articles
+        FOR EACH ROW EXECUTE FUNCTION update_articles_search_vector();
+    END IF;
+END $$;
+
+-- Backfill rows written before the trigger existed
+UPDATE articles
+SET search_vector = articles_search_vector(title, excerpt, content)
+WHERE search_vector IS NULL;
+
+-- Ranked search: WHERE search_vector @@ websearch_to_tsquery('english', ?)
+CREATE INDEX IF NOT EXISTS idx_article_search_vector
+    ON articles USING GIN (search_vector);
+
+-- Typo fallback: WHERE ? <% title ORDER BY word_similarity(?, title) DESC
+CREATE INDEX IF NOT EXISTS idx_article_title_trgm
+    ON articles USING GIN (title gin_trgm_ops);
+
+COMMENT ON COLUMN articles.search_vector IS 'Weighted full-text document (title A, excerpt B, content C), maintained by trigger';
+COMMENT ON INDEX idx_article_search_vector IS 'Full-text search over title, excerpt and content';
+COMMENT ON INDEX idx_article_title_trgm IS 'Trigram matching on title for misspelled search terms';
@@ -0,0 +1,25 @@
+-- Wildlife Conservation Platform - Article Filter Indexes
+-- Supports the filtered public feed (GET /api/articles?category=&featured=), which always
+-- restricts to published articles and orders by publish_date DESC, id DESC
+-- This script is idempotent and can be run multiple times safely
+
+-- The public feed requires a publish date; backfill articles published before it was always set
+UPDATE articles
+SET publish_date = created_at
+WHERE published = TRUE AND publish_date IS NULL;
+
+-- Category filter: served by idx_article_category_feed from 02_keyset_pagination_indexes.sql
+-- (category, publish_date DESC, id DESC) WHERE published AND publish_date IS NOT NULL
+
+-- Featured filter: WHERE published = true AND featured = ? ORDER BY publish_date DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_article_featured_feed
+    ON articles (featured, publish_date DESC, id DESC)
+    WHERE published = TRUE AND publish_date IS NOT NULL;
+
+-- Category and featured together (e.g. the featured strip of a category page)
+CREATE INDEX IF NOT EXISTS idx_article_category_featured_feed
+    ON articles (category, publish_date DESC, id DESC)
+    WHERE published = TRUE AND featured = TRUE AND publish_date IS NOT NULL;
+
+COMMENT ON INDEX idx_article_featured_feed IS 'Published feed filtered by featured flag';
+COMMENT ON INDEX idx_article_category_featured_feed IS 'Featured published articles per category';
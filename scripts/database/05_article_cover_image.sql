@@ -0,0 +1,31 @@
+-- Wildlife Conservation Platform - Article Cover Image
+-- Denormalizes the URL of an article's first image into cover_image_url, so article list
+-- endpoints can render cards from narrow summary rows without reading or parsing the images JSON.
+-- The application keeps the column in step on create and update (ArticleMapper).
+-- This script is idempotent and can be run multiple times safely
+
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS cover_image_url VARCHAR(1000);
+
+COMMENT ON COLUMN articles.cover_image_url IS 'URL of the first entry of images, for list views';
+
+-- Backfill from images[0].url. Rows are converted one at a time so a malformed images
+-- value is reported and skipped instead of aborting the whole backfill.
+DO $$
+DECLARE
+    r RECORD;
+BEGIN
+    FOR r IN
+        SELECT id, images FROM articles
+        WHERE cover_image_url IS NULL
+          AND images IS NOT NULL
+          AND btrim(images) NOT IN ('', '[]')
+    LOOP
+        BEGIN
+            UPDATE articles
+            SET cover_image_url = NULLIF(left(r.images::jsonb -> 0 ->> 'url', 1000), '')
+            WHERE id = r.id;
+        EXCEPTION WHEN invalid_text_representation THEN
+            RAISE NOTICE 'Skipping article %: images is not valid JSON', r.id;
+        END;
+    END LOOP;
+END $$;
@@ -0,0 +1,69 @@
+-- Wildlife Conservation Platform - Article Media as jsonb
+-- Converts articles.images and articles.videos from TEXT to jsonb arrays. The application maps
+-- them with @JdbcTypeCode(SqlTypes.JSON) and writes the stored JSON straight into responses,
+-- so the database is now the place that guarantees the values are well-formed arrays.
+-- This script is idempotent and can be run multiple times safely
+
+-- Parses a TEXT value as a JSON array, falling back to an empty array for blank,
+-- malformed or non-array values instead of failing the conversion
+CREATE OR REPLACE FUNCTION pg_temp.media_to_jsonb(value TEXT)
+    RETURNS jsonb AS $$
+DECLARE
+    parsed jsonb;
+BEGIN
+    IF value IS NULL OR btrim(value) = '' THEN
+        RETURN '[]'::jsonb;
+    END IF;
+    parsed := value::jsonb;
+    IF jsonb_typeof(parsed) <> 'array' THEN
+        RAISE NOTICE 'Replacing non-array media value: %', left(value, 100);
+        RETURN '[]'::jsonb;
+    END IF;
+    RETURN parsed;
+EXCEPTION WHEN invalid_text_representation THEN
+    RAISE NOTICE 'Replacing malformed media value: %', left(value, 100);
+    RETURN '[]'::jsonb;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'articles' AND column_name = 'images' AND data_type = 'text'
+    ) THEN
+        ALTER TABLE articles
+            ALTER COLUMN images DROP DEFAULT,
+            ALTER COLUMN images TYPE jsonb USING pg_temp.media_to_jsonb(images);
+    END IF;
+
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'articles' AND column_name = 'videos' AND data_type = 'text'
+    ) THEN
+        ALTER TABLE articles
+            ALTER COLUMN videos DROP DEFAULT,
+            ALTER COLUMN videos TYPE jsonb USING pg_temp.media_to_jsonb(videos);
+    END IF;
+END $$;
+
+ALTER TABLE articles
+    ALTER COLUMN images SET DEFAULT '[]'::jsonb,
+    ALTER COLUMN videos SET DEFAULT '[]'::jsonb;
+
+-- Both columns always hold an array (the entity never writes null)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'chk_articles_images_array') THEN
+        ALTER TABLE articles ADD CONSTRAINT chk_articles_images_array
+            CHECK (images IS NOT NULL AND jsonb_typeof(images) = 'array');
+    END IF;
+
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'chk_articles_videos_array') THEN
+        ALTER TABLE articles ADD CONSTRAINT chk_articles_videos_array
+            CHECK (videos IS NOT NULL AND jsonb_typeof(videos) = 'array');
+    END IF;
+END $$;
+
+COMMENT ON COLUMN articles.images IS 'jsonb array of image references (id, url, caption, alt, sizes)';
+COMMENT ON COLUMN articles.videos IS 'jsonb array of video references (id, url, caption, thumbnail, duration, format)';
@@ -0,0 +1,22 @@
+-- Wildlife Conservation Platform - Article Tags
+-- Tags are mapped again (Article.tags, an element collection over article_tags). The application
+-- answers tag filters and tag counts from an in-memory bitmap index built from this table at
+-- startup; the index below serves the SQL tag filter used until that index is ready, or when
+-- a filter matches too many articles to pass as an id list.
+-- This script is idempotent and can be run multiple times safely
+
+-- Tags are stored trimmed; drop blank tags and rows that would collide once trimmed
+DELETE FROM article_tags WHERE btrim(tag) = '';
+
+DELETE FROM article_tags t
+USING article_tags d
+WHERE t.article_id = d.article_id
+  AND t.tag <> d.tag
+  AND btrim(t.tag) = btrim(d.tag)
+  AND t.tag <> btrim(t.tag)
+  AND (d.tag = btrim(d.tag) OR d.tag < t.tag);
+
+UPDATE article_tags SET tag = btrim(tag) WHERE tag <> btrim(tag);
+
+-- Tag lookups (tag -> articles); the primary key (article_id, tag) covers article -> tags
+CREATE INDEX IF NOT EXISTS idx_article_tags_tag ON article_tags (tag, article_id);
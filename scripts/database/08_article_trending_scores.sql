@@ -0,0 +1,15 @@
+-- Wildlife Conservation Platform - Trending Scores
+-- Trending articles are ranked in memory from exponentially decayed view counts. The application
+-- replaces the contents of this table with its current scores every minute and on shutdown, and
+-- reads them back at startup, decayed by the time elapsed since saved_at.
+-- Rows are not tied to articles by a foreign key: deleted or unpublished articles are skipped on
+-- restore and dropped by the next save.
+-- This script is idempotent and can be run multiple times safely
+
+CREATE TABLE IF NOT EXISTS article_trending_scores (
+    window_name VARCHAR(10) NOT NULL,
+    article_id BIGINT NOT NULL,
+    score DOUBLE PRECISION NOT NULL,
+    saved_at TIMESTAMP WITHOUT TIME ZONE NOT NULL,
+    PRIMARY KEY (window_name, article_id)
+);
@@ -0,0 +1,46 @@
+-- Wildlife Conservation Platform - Pooled Id Sequences
+-- Article and User ids are generated from sequences with a pooled optimizer instead of IDENTITY
+-- columns. Hibernate reserves 50 ids per nextval, so new rows get their id without a round trip
+-- and inserts can be sent as JDBC batches (hibernate.jdbc.batch_size, order_inserts).
+-- The sequences must step by the entities' allocationSize (50), and start past every id already
+-- handed out by the BIGSERIAL sequences. The column defaults are switched to the new sequences
+-- too, so SQL inserts without an id (bulk import, manual fixes) draw from the same range; a default
+-- takes the top of a block that no application instance was given, so the two never collide.
+-- The old articles_id_seq and users_id_seq are left in place but no longer used.
+-- This script is idempotent and can be run multiple times safely
+
+CREATE SEQUENCE IF NOT EXISTS article_id_seq INCREMENT BY 50 START WITH 1 OWNED BY articles.id;
+CREATE SEQUENCE IF NOT EXISTS user_id_seq INCREMENT BY 50 START WITH 1 OWNED BY users.id;
+
+-- A sequence created by ddl-auto may exist already; make sure it steps by the allocation size
+ALTER SEQUENCE article_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_id_seq INCREMENT BY 50;
+
+-- Move each sequence past the highest id in use, never backwards (safe while the application runs)
+DO $$
+DECLARE
+    spec RECORD;
+    highest BIGINT;
+BEGIN
+    FOR spec IN
+        SELECT * FROM (VALUES ('articles', 'article_id_seq', 'articles_id_seq'),
+                              ('users', 'user_id_seq', 'users_id_seq')) AS s(tbl, seq, serial_seq)
+    LOOP
+        EXECUTE format('SELECT GREATEST(COALESCE(MAX(id), 0), (SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM %I)) FROM %I',
+                       spec.seq, spec.tbl)
+            INTO highest;
+        IF to_regclass(spec.serial_seq) IS NOT NULL THEN
+            EXECUTE format('SELECT GREATEST(%s, (SELECT CASE WHEN is_called THEN last_value ELSE 0 END FROM %I))',
+                           highest, spec.serial_seq)
+                INTO highest;
+        END IF;
+
+        IF highest > 0 THEN
+            PERFORM setval(spec.seq, highest, true);
+        END IF;
+        RAISE NOTICE '% ids continue after %', spec.tbl, highest;
+    END LOOP;
+END $$;
+
+ALTER TABLE articles ALTER COLUMN id SET DEFAULT nextval('article_id_seq');
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('user_id_seq');
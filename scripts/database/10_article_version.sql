@@ -0,0 +1,19 @@
+-- Wildlife Conservation Platform - Article Version
+-- Adds the optimistic-lock version the application increments on every article update
+-- (Article.version). An update made against an older version fails, so PATCH /api/articles/{id}
+-- returns 409 instead of silently overwriting a concurrent editor's change.
+-- Also stops the updated_at trigger from firing on updates that change nothing.
+-- This script is idempotent and can be run multiple times safely
+
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN articles.version IS 'Optimistic lock version, incremented by the application on each update';
+
+-- Recreate the trigger with a WHEN clause: a no-op UPDATE keeps its updated_at
+DROP TRIGGER IF EXISTS update_articles_updated_at ON articles;
+
+CREATE TRIGGER update_articles_updated_at
+BEFORE UPDATE ON articles
+FOR EACH ROW
+WHEN (OLD.* IS DISTINCT FROM NEW.*)
+EXECUTE FUNCTION update_updated_at_column();
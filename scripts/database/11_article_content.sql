@@ -0,0 +1,95 @@
+-- Wildlife Conservation Platform - Article Content
+-- Moves article bodies out of the articles row into article_content, keyed by article id.
+-- Every list query and view-count UPDATE touches the articles row; without the body it stays
+-- narrow, and the body is read only by the endpoints that return it.
+-- The application stores bodies of at least wildlife.content.compress-threshold bytes deflated
+-- (encoding 'deflate'), so body is stored EXTERNAL: PostgreSQL does not try to compress it again.
+-- Bodies moved here by this script start as 'plain' and are compressed by the application at startup.
+-- Requires 03_full_text_search.sql; run this script again if 03 is re-run, since 03 restores
+-- the search trigger that reads articles.content.
+-- This script is idempotent and can be run multiple times safely
+
+CREATE TABLE IF NOT EXISTS article_content (
+    article_id BIGINT PRIMARY KEY REFERENCES articles(id) ON DELETE CASCADE,
+    encoding VARCHAR(16) NOT NULL DEFAULT 'plain',
+    body BYTEA NOT NULL,
+    search_vector tsvector
+);
+
+ALTER TABLE article_content ALTER COLUMN body SET STORAGE EXTERNAL;
+
+COMMENT ON TABLE article_content IS 'Article bodies, stored apart from the articles row';
+COMMENT ON COLUMN article_content.encoding IS 'plain (UTF-8 text) or deflate (zlib-compressed UTF-8 text)';
+COMMENT ON COLUMN article_content.search_vector IS 'Full-text document of the body (weight C), computed from the plain text on write';
+
+-- Document of a body, from its plain text with HTML tags stripped.
+-- The application passes the plain text on every write, since deflated bodies cannot be read here.
+CREATE OR REPLACE FUNCTION article_content_vector(content TEXT)
+    RETURNS tsvector AS $$
+BEGIN
+    RETURN setweight(to_tsvector('english', coalesce(regexp_replace(content, '<[^>]+>', ' ', 'g'), '')), 'C');
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- Whole-article document: title (A), excerpt (B) and the stored body document (C)
+CREATE OR REPLACE FUNCTION articles_document(target_id BIGINT, title TEXT, excerpt TEXT)
+    RETURNS tsvector AS $$
+BEGIN
+    RETURN setweight(to_tsvector('english', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(excerpt, '')), 'B')
+        || coalesce((SELECT c.search_vector FROM article_content c WHERE c.article_id = target_id), ''::tsvector);
+END;
+$$ LANGUAGE plpgsql STABLE;
+
+-- Articles: recompute the document when the title or excerpt is written
+CREATE OR REPLACE FUNCTION update_articles_search_vector()
+    RETURNS TRIGGER AS $$
+BEGIN
+    NEW.search_vector = articles_document(NEW.id, NEW.title, NEW.excerpt);
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Bodies: refresh the owning article's document when its body document changes
+CREATE OR REPLACE FUNCTION update_article_content_search_vector()
+    RETURNS TRIGGER AS $$
+DECLARE
+    changed_id BIGINT;
+BEGIN
+    changed_id = CASE WHEN TG_OP = 'DELETE' THEN OLD.article_id ELSE NEW.article_id END;
+    UPDATE articles a
+    SET search_vector = articles_document(a.id, a.title, a.excerpt)
+    WHERE a.id = changed_id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Copy bodies out of articles.content, drop the column (the old search trigger depends on it)
+-- and rebuild every document from the moved bodies
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1 FROM information_schema.columns
+        WHERE table_name = 'articles' AND column_name = 'content'
+    ) THEN
+        EXECUTE 'INSERT INTO article_content (article_id, encoding, body, search_vector) '
+             || 'SELECT id, ''plain'', convert_to(content, ''UTF8''), article_content_vector(content) '
+             || 'FROM articles WHERE content IS NOT NULL AND content <> '''' '
+             || 'ON CONFLICT (article_id) DO NOTHING';
+        DROP TRIGGER IF EXISTS update_articles_search_vector ON articles;
+        ALTER TABLE articles DROP COLUMN content;
+        UPDATE articles SET search_vector = articles_document(id, title, excerpt);
+    END IF;
+END $$;
+
+DROP TRIGGER IF EXISTS update_articles_search_vector ON articles;
+
+CREATE TRIGGER update_articles_search_vector
+BEFORE INSERT OR UPDATE OF title, excerpt ON articles
+FOR EACH ROW EXECUTE FUNCTION update_articles_search_vector();
+
+DROP TRIGGER IF EXISTS update_article_content_search_vector ON article_content;
+
+CREATE TRIGGER update_article_content_search_vector
+AFTER INSERT OR DELETE OR UPDATE OF search_vector ON article_content
+FOR EACH ROW EXECUTE FUNCTION update_article_content_search_vector();
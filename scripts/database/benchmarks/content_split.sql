@@ -0,0 +1,89 @@
+-- Wildlife Conservation Platform - Article Content: Inline vs Separate Table
+-- Compares the two hot paths that touch the articles row, before and after 11_article_content.sql:
+--   before (inline) -> content is a column of the articles row
+--   after  (split)  -> content lives in article_content, the articles row is narrow
+-- Bodies are ~1.8 KB of hard-to-compress text: just under the TOAST threshold, so before the
+-- split they stay inline and every UPDATE of the row copies them. Longer bodies are TOASTed and
+-- copied by pointer, so the gap in UPDATE cost narrows while the list scan gap stays.
+-- Everything runs on temporary tables, so the real tables are not touched.
+-- Compare the execution time, shared buffers and WAL bytes of each pair of plans.
+--
+-- Run with: psql -h localhost -U wildlife_user -d wildlife -f scripts/database/benchmarks/content_split.sql
+
+\set rows 20000
+
+DROP TABLE IF EXISTS pg_temp.bench_inline;
+DROP TABLE IF EXISTS pg_temp.bench_split;
+DROP TABLE IF EXISTS pg_temp.bench_split_content;
+
+CREATE TEMP TABLE bench_inline (
+    id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    excerpt VARCHAR(500) NOT NULL,
+    content TEXT,
+    category VARCHAR(100),
+    published BOOLEAN NOT NULL,
+    views INTEGER NOT NULL,
+    publish_date TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL
+);
+
+INSERT INTO bench_inline
+SELECT n,
+       'Benchmark article ' || n,
+       'Excerpt of benchmark article ' || n || ', long enough to look like a real summary line',
+       (SELECT string_agg(md5(random()::text || n), ' ') FROM generate_series(1, 55)),
+       (ARRAY['Birds', 'Big Cats', 'Primates', 'Marine', 'Reptiles'])[1 + n % 5],
+       n % 10 <> 0,
+       (random() * 1000)::int,
+       now() - (n || ' minutes')::interval,
+       now()
+FROM generate_series(1, :rows) AS n;
+
+CREATE TEMP TABLE bench_split AS
+SELECT id, title, excerpt, category, published, views, publish_date, updated_at FROM bench_inline;
+ALTER TABLE bench_split ADD PRIMARY KEY (id);
+
+CREATE TEMP TABLE bench_split_content AS
+SELECT id AS article_id, 'plain'::varchar(16) AS encoding, convert_to(content, 'UTF8') AS body FROM bench_inline;
+ALTER TABLE bench_split_content ADD PRIMARY KEY (article_id);
+
+VACUUM ANALYZE bench_inline;
+VACUUM ANALYZE bench_split;
+VACUUM ANALYZE bench_split_content;
+
+\echo '== Heap size of the articles row table =='
+SELECT pg_size_pretty(pg_relation_size('bench_inline')) AS inline_heap,
+       pg_size_pretty(pg_relation_size('bench_split'))  AS split_heap,
+       pg_size_pretty(pg_relation_size('bench_split_content')) AS split_content_heap;
+
+\echo '== View-count flush: one UPDATE of 2,000 rows (what ViewCounter sends) =='
+EXPLAIN (ANALYZE, BUFFERS, WAL)
+UPDATE bench_inline SET views = views + 1 WHERE id % 10 = 1;
+
+EXPLAIN (ANALYZE, BUFFERS, WAL)
+UPDATE bench_split SET views = views + 1 WHERE id % 10 = 1;
+
+\echo '== List scan: newest published articles of a category, no supporting index =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, title, excerpt, category, views, publish_date
+FROM bench_inline
+WHERE published AND category = 'Birds'
+ORDER BY publish_date DESC, id DESC
+LIMIT 20;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT id, title, excerpt, category, views, publish_date
+FROM bench_split
+WHERE published AND category = 'Birds'
+ORDER BY publish_date DESC, id DESC
+LIMIT 20;
+
+\echo '== Detail read: one article with its body =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench_inline WHERE id = 4242;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.*, c.encoding, c.body
+FROM bench_split a LEFT JOIN bench_split_content c ON c.article_id = a.id
+WHERE a.id = 4242;
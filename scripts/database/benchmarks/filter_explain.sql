@@ -0,0 +1,60 @@
+-- Wildlife Conservation Platform - Filtered Feed Query Plans
+-- EXPLAINs the queries issued by ArticleListRepositoryImpl for the filter combinations of
+-- GET /api/articles, to confirm each one is an index scan on a partial feed index that stops
+-- after LIMIT rows (no Seq Scan, no Sort node). Run against a database with realistic data,
+-- or after loading the synthetic dataset from search_benchmark.sql into public.articles.
+--
+-- Expected plans:
+--   unfiltered        -> Index Scan using idx_article_feed
+--   category          -> Index Scan using idx_article_category_feed
+--   featured          -> Index Scan using idx_article_featured_feed
+--   category+featured -> Index Scan using idx_article_category_featured_feed
+--   count(category)   -> Index Only Scan using idx_article_category_feed
+--
+-- Run with: psql -h localhost -U wildlife_user -d wildlife -f scripts/database/benchmarks/filter_explain.sql
+
+ANALYZE articles;
+
+-- Unfiltered first page
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id, a.title, a.excerpt, a.category, a.published, a.featured, a.views,
+       a.author_id, a.cover_image_url, a.created_at, a.updated_at, a.publish_date
+FROM articles a
+WHERE a.published = true AND a.publish_date IS NOT NULL
+ORDER BY a.publish_date DESC, a.id DESC
+LIMIT 11;
+
+-- Category filter, keyset page
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id, a.title, a.excerpt, a.category, a.published, a.featured, a.views,
+       a.author_id, a.cover_image_url, a.created_at, a.updated_at, a.publish_date
+FROM articles a
+WHERE a.published = true AND a.publish_date IS NOT NULL AND a.category = 'Mammals'
+  AND (a.publish_date < now() - interval '1 day'
+       OR (a.publish_date = now() - interval '1 day' AND a.id < 1000000))
+ORDER BY a.publish_date DESC, a.id DESC
+LIMIT 11;
+
+-- Featured filter
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id, a.title, a.excerpt, a.category, a.published, a.featured, a.views,
+       a.author_id, a.cover_image_url, a.created_at, a.updated_at, a.publish_date
+FROM articles a
+WHERE a.published = true AND a.publish_date IS NOT NULL AND a.featured = true
+ORDER BY a.publish_date DESC, a.id DESC
+LIMIT 11;
+
+-- Category and featured
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id, a.title, a.excerpt, a.category, a.published, a.featured, a.views,
+       a.author_id, a.cover_image_url, a.created_at, a.updated_at, a.publish_date
+FROM articles a
+WHERE a.published = true AND a.publish_date IS NOT NULL AND a.category = 'Mammals' AND a.featured = true
+ORDER BY a.publish_date DESC, a.id DESC
+LIMIT 11;
+
+-- Page count for a category (offset mode only)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(a.id)
+FROM articles a
+WHERE a.published = true AND a.publish_date IS NOT NULL AND a.category = 'Mammals';
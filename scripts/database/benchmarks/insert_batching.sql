@@ -0,0 +1,58 @@
+-- Wildlife Conservation Platform - Article Inserts: IDENTITY vs Pooled Sequence + Batching
+-- Replays the statements the application sends to create 5,000 articles, with psql sending each
+-- statement separately, the way JDBC does:
+--   before (IDENTITY)        -> one INSERT ... RETURNING id per article; Hibernate needs the id
+--                               immediately, so it cannot batch and pays a round trip per row
+--   after  (pooled sequence) -> one nextval per 50 articles, then one batched INSERT per 50 rows
+--                               (what pgjdbc sends for a batch with reWriteBatchedInserts=true)
+-- Rows go into a temporary copy of the articles table, so the real table is not touched.
+-- Run over a network connection (not a local socket) to see the round-trip cost the change
+-- removes, and compare the rows_per_second printed after each block.
+--
+-- Run with: psql -h localhost -U wildlife_user -d wildlife -f scripts/database/benchmarks/insert_batching.sql
+
+\set rows 5000
+\set batch 50
+
+DROP TABLE IF EXISTS pg_temp.bench_articles;
+CREATE TEMP TABLE bench_articles (LIKE articles INCLUDING DEFAULTS);
+ALTER TABLE bench_articles ALTER COLUMN id DROP DEFAULT;
+CREATE TEMP SEQUENCE bench_identity_seq;
+CREATE TEMP SEQUENCE bench_pooled_seq INCREMENT BY 50;
+
+\echo '== Before: IDENTITY, one INSERT ... RETURNING id per article =='
+SELECT clock_timestamp() AS started \gset
+\o /dev/null
+SELECT format(
+    'INSERT INTO bench_articles (id, title, excerpt, category, featured, published, views, images, videos, created_at, updated_at) ' ||
+    'VALUES (nextval(''bench_identity_seq''), %L, %L, ''Wildlife'', false, true, 0, ''[]'', ''[]'', now(), now()) RETURNING id',
+    'Benchmark article ' || n, 'Excerpt ' || n)
+FROM generate_series(1, :rows) AS n
+\gexec
+\o
+SELECT :rows AS rows,
+       round(extract(epoch FROM clock_timestamp() - :'started'::timestamptz) * 1000) AS elapsed_ms,
+       round(:rows / extract(epoch FROM clock_timestamp() - :'started'::timestamptz)) AS rows_per_second;
+
+TRUNCATE bench_articles;
+
+\echo '== After: pooled sequence, one nextval and one batched INSERT per 50 articles =='
+SELECT clock_timestamp() AS started \gset
+\o /dev/null
+SELECT unnest(ARRAY[
+    'SELECT nextval(''bench_pooled_seq'')',
+    format(
+        'INSERT INTO bench_articles (id, title, excerpt, category, featured, published, views, images, videos, created_at, updated_at) ' ||
+        'SELECT currval(''bench_pooled_seq'') - %s + i, ''Benchmark article '' || (%s + i), ''Excerpt '' || (%s + i), ' ||
+        '''Wildlife'', false, true, 0, ''[]'', ''[]'', now(), now() ' ||
+        'FROM generate_series(1, %s) AS i',
+        :batch, b * :batch, b * :batch, :batch)
+])
+FROM generate_series(0, :rows / :batch - 1) AS b
+\gexec
+\o
+SELECT :rows AS rows,
+       round(extract(epoch FROM clock_timestamp() - :'started'::timestamptz) * 1000) AS elapsed_ms,
+       round(:rows / extract(epoch FROM clock_timestamp() - :'started'::timestamptz)) AS rows_per_second;
+
+DROP TABLE bench_articles;
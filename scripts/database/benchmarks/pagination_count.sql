@@ -0,0 +1,66 @@
+-- Wildlife Conservation Platform - Paged Feed: Page + COUNT(*) vs Count-Free Page
+-- Compares the database work per page of GET /api/articles in its two offset modes:
+--   exact totals      -> the page query (LIMIT size) plus a COUNT(*) over every matching row
+--   cached/count-free -> one page query reading size+1 rows (withTotal=false, or totals served
+--                        from PublishedArticleCounts); the extra row only decides hasNext
+-- The page query stops after LIMIT rows on the feed index, whereas the count visits every
+-- published row, so the difference grows with the table, not with the page size.
+-- Run against a database with realistic data, or after loading the synthetic dataset from
+-- search_benchmark.sql into public.articles. Compare the "Execution Time" lines.
+--
+-- Run with: psql -h localhost -U wildlife_user -d wildlife -f scripts/database/benchmarks/pagination_count.sql
+
+ANALYZE articles;
+
+\echo '== Exact totals, unfiltered page 1: page query + count =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id, a.title, a.excerpt, a.category, a.published, a.featured, a.views,
+       a.author_id, a.cover_image_url, a.publish_date, a.created_at, a.updated_at
+FROM articles a
+WHERE a.published = true AND a.publish_date IS NOT NULL
+ORDER BY a.publish_date DESC, a.id DESC
+LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(a.id)
+FROM articles a
+WHERE a.published = true AND a.publish_date IS NOT NULL;
+
+\echo '== Count-free, unfiltered page 1: size+1 rows only =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id, a.title, a.excerpt, a.category, a.published, a.featured, a.views,
+       a.author_id, a.cover_image_url, a.publish_date, a.created_at, a.updated_at
+FROM articles a
+WHERE a.published = true AND a.publish_date IS NOT NULL
+ORDER BY a.publish_date DESC, a.id DESC
+LIMIT 11;
+
+\echo '== Exact totals, category page 1: page query + count =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id, a.title, a.excerpt, a.category, a.published, a.featured, a.views,
+       a.author_id, a.cover_image_url, a.publish_date, a.created_at, a.updated_at
+FROM articles a
+WHERE a.published = true AND a.publish_date IS NOT NULL AND a.category = 'Mammals'
+ORDER BY a.publish_date DESC, a.id DESC
+LIMIT 10;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(a.id)
+FROM articles a
+WHERE a.published = true AND a.publish_date IS NOT NULL AND a.category = 'Mammals';
+
+\echo '== Count-free, category page 1: size+1 rows only =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id, a.title, a.excerpt, a.category, a.published, a.featured, a.views,
+       a.author_id, a.cover_image_url, a.publish_date, a.created_at, a.updated_at
+FROM articles a
+WHERE a.published = true AND a.publish_date IS NOT NULL AND a.category = 'Mammals'
+ORDER BY a.publish_date DESC, a.id DESC
+LIMIT 11;
+
+\echo '== Cache reconcile: one grouped count for all cached totals (runs every 10 minutes, not per page) =='
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.category, a.featured, count(a.id)
+FROM articles a
+WHERE a.published = true AND a.publish_date IS NOT NULL
+GROUP BY a.category, a.featured;
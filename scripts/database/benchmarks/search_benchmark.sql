@@ -0,0 +1,95 @@
+-- Wildlife Conservation Platform - Search Benchmark
+-- Compares the legacy LOWER(...) LIKE '%term%' search with the full-text search path
+-- on a synthetic 100k-article dataset. Everything is created in a scratch "bench"
+-- schema and dropped at the end, so the real articles table is never touched.
+--
+-- Requires 03_full_text_search.sql (for articles_search_vector and pg_trgm).
+-- Run with: psql -h localhost -U wildlife_user -d wildlife -f scripts/database/benchmarks/search_benchmark.sql
+
+\timing on
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+
+-- Same columns as the real table, without defaults or foreign keys
+CREATE TABLE bench.articles (LIKE public.articles);
+ALTER TABLE bench.articles ADD PRIMARY KEY (id);
+-- Bodies live in article_content since 11_article_content.sql; the benchmark keeps them inline
+ALTER TABLE bench.articles ADD COLUMN IF NOT EXISTS content TEXT;
+
+-- Vocabulary for synthetic text
+CREATE TEMP TABLE bench_words AS
+SELECT ARRAY[
+    'elephant', 'tiger', 'leopard', 'rhino', 'gorilla', 'orangutan', 'pangolin', 'snow',
+    'forest', 'savanna', 'wetland', 'reef', 'coral', 'migration', 'poaching', 'habitat',
+    'conservation', 'ranger', 'corridor', 'breeding', 'population', 'survey', 'camera',
+    'trap', 'community', 'village', 'river', 'delta', 'monsoon', 'drought', 'climate',
+    'species', 'endangered', 'protected', 'reserve', 'national', 'park', 'sanctuary',
+    'research', 'tracking', 'collar', 'satellite', 'nest', 'hatchling', 'turtle', 'shark',
+    'whale', 'dolphin', 'vulture', 'eagle', 'owl', 'hornbill', 'butterfly', 'frog'
+] AS w;
+
+-- 100k articles: ~8 word titles, ~30 word excerpts, ~600 word bodies wrapped in HTML
+INSERT INTO bench.articles (id, title, content, excerpt, published, featured, category, views,
+                            images, videos, publish_date, created_at, updated_at, author_id)
+SELECT g,
+       initcap(array_to_string(ARRAY(
+           SELECT w[1 + floor(random() * array_length(w, 1))::int]
+           FROM bench_words, generate_series(1, 8) WHERE g > 0), ' ')),
+       '<p>' || array_to_string(ARRAY(
+           SELECT w[1 + floor(random() * array_length(w, 1))::int]
+           FROM bench_words, generate_series(1, 600) WHERE g > 0), ' ') || '</p>',
+       array_to_string(ARRAY(
+           SELECT w[1 + floor(random() * array_length(w, 1))::int]
+           FROM bench_words, generate_series(1, 30) WHERE g > 0), ' '),
+       random() < 0.9,
+       random() < 0.05,
+       (ARRAY['Mammals', 'Birds', 'Marine', 'Reptiles', 'Habitats'])[1 + floor(random() * 5)::int],
+       floor(random() * 10000)::int,
+       '[]', '[]',
+       now() - (g || ' minutes')::interval,
+       now() - (g || ' minutes')::interval,
+       now() - (g || ' minutes')::interval,
+       1
+FROM generate_series(1, 100000) AS g;
+
+UPDATE bench.articles SET search_vector = articles_search_vector(title, excerpt, content);
+
+CREATE INDEX ON bench.articles USING GIN (search_vector);
+CREATE INDEX ON bench.articles USING GIN (title gin_trgm_ops);
+ANALYZE bench.articles;
+
+-- 1. Legacy search (ArticleRepository.searchPublishedArticles): sequential scan over every content row
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bench.articles a WHERE a.published = true AND
+       (LOWER(a.title) LIKE '%pangolin poaching%' OR
+        LOWER(a.content) LIKE '%pangolin poaching%' OR
+        LOWER(a.excerpt) LIKE '%pangolin poaching%')
+ORDER BY a.publish_date DESC
+LIMIT 21;
+
+-- 2. Full-text search, first page (ArticleRepository.searchRanked): GIN bitmap scan, headline on final rows only
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT p.id, p.title, p.score,
+       ts_headline('english', coalesce(p.excerpt, '') || ' ' || coalesce(regexp_replace(p.content, '<[^>]+>', ' ', 'g'), ''),
+                   p.query, 'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10') AS snippet
+FROM (
+    SELECT a.id, a.title, a.excerpt, a.content, q.query,
+           ts_rank_cd(a.search_vector, q.query) AS score
+    FROM bench.articles a
+    CROSS JOIN websearch_to_tsquery('english', 'pangolin poaching') AS q(query)
+    WHERE a.published = true AND a.search_vector @@ q.query
+    ORDER BY score DESC, a.id DESC
+    LIMIT 21
+) p
+ORDER BY p.score DESC, p.id DESC;
+
+-- 3. Trigram fallback for a misspelled term
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id, a.title, word_similarity('pangollin', a.title) AS score
+FROM bench.articles a
+WHERE a.published = true AND 'pangollin' <% a.title
+ORDER BY score DESC, a.id DESC
+LIMIT 21;
+
+DROP SCHEMA bench CASCADE;
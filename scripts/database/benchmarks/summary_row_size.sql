@@ -0,0 +1,54 @@
+-- Wildlife Conservation Platform - List Row Size: Full Entity vs Summary Projection
+-- Compares the bytes read per row by the old list queries (SELECT a.*, including content,
+-- images and videos) with the summary projection used by the list endpoints since
+-- 05_article_cover_image.sql. Run against a database with realistic data, or after loading
+-- the synthetic dataset from search_benchmark.sql into public.articles.
+--
+-- pg_column_size reports the stored (possibly compressed) size; the application additionally
+-- decompresses TOASTed content and parses the images/videos JSON for every full row, which the
+-- summary rows avoid entirely.
+--
+-- Run with: psql -h localhost -U wildlife_user -d wildlife -f scripts/database/benchmarks/summary_row_size.sql
+
+ANALYZE articles;
+
+-- Average and total stored bytes per published row
+SELECT count(*)                                                   AS published_rows,
+       round(avg(pg_column_size(a.*)))                            AS full_row_avg_bytes,
+       round(avg(pg_column_size(ROW(a.id, a.title, a.excerpt, a.category, a.published,
+                                    a.featured, a.views, a.author_id, a.cover_image_url,
+                                    a.publish_date, a.created_at, a.updated_at))))
+                                                                  AS summary_row_avg_bytes,
+       pg_size_pretty(sum(pg_column_size(a.*)))                   AS full_total,
+       pg_size_pretty(sum(pg_column_size(ROW(a.id, a.title, a.excerpt, a.category, a.published,
+                                             a.featured, a.views, a.author_id, a.cover_image_url,
+                                             a.publish_date, a.created_at, a.updated_at))))
+                                                                  AS summary_total
+FROM articles a
+WHERE a.published = true;
+
+-- Size of the columns the summary no longer reads (what the JVM used to allocate).
+-- Bodies are in article_content since 11_article_content.sql (stored size, possibly deflated).
+SELECT round(avg(coalesce(octet_length(c.body), 0)))      AS content_avg_bytes,
+       round(avg(octet_length(coalesce(a.images::text, '')))) AS images_avg_bytes,
+       round(avg(octet_length(coalesce(a.videos::text, '')))) AS videos_avg_bytes
+FROM articles a
+LEFT JOIN article_content c ON c.article_id = a.id
+WHERE a.published = true;
+
+-- Old list query (first page of a category, entity load)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.*
+FROM articles a
+WHERE a.published = true AND a.category = (SELECT category FROM articles WHERE category IS NOT NULL LIMIT 1)
+ORDER BY a.publish_date DESC, a.id DESC
+LIMIT 20;
+
+-- Summary list query (same page, projection)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id, a.title, a.excerpt, a.category, a.published, a.featured, a.views,
+       a.author_id, a.cover_image_url, a.publish_date, a.created_at, a.updated_at
+FROM articles a
+WHERE a.published = true AND a.category = (SELECT category FROM articles WHERE category IS NOT NULL LIMIT 1)
+ORDER BY a.publish_date DESC, a.id DESC
+LIMIT 20;
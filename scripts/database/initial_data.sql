@@ -1,13 +1,12 @@
 -- Insert into articles
 INSERT INTO articles (
-    id, title, content, excerpt, published, featured, category,
+    id, title, excerpt, published, featured, category,
     views, images, videos, publish_date, author_id
 )
 VALUES
 -- Article 1
 (1,
  'Orangutans of Borneo: Protecting the Last Forest Gardeners',
- '<p>Discover the critical situation facing Bornean orangutans and learn how conservation efforts are working to save these incredible forest gardeners.</p>',
  'Discover the critical situation facing Bornean orangutans and learn how conservation efforts are working to save these incredible forest gardeners.',
  true,
  false,
@@ -21,7 +20,6 @@ VALUES
 -- Article 2
 (2,
  'Bengal Tigers: Guardians of the Sundarbans',
- '<p>Explore the unique ecosystem of the Sundarbans and the magnificent Bengal tigers that call this mangrove forest home.</p>',
  'Explore the unique ecosystem of the Sundarbans and the magnificent Bengal tigers that call this mangrove forest home.',
  true,
  false,
@@ -35,7 +33,6 @@ VALUES
 -- Article 3
 (3,
  'African Elephants: The Gentle Giants of the Savanna',
- '<p>Learn about the complex social structures of African elephants and the conservation challenges they face in the modern world.</p>',
  'Learn about the complex social structures of African elephants and the conservation challenges they face in the modern world.',
  true,
  false,
@@ -46,6 +43,15 @@ VALUES
  '2024-01-01',
  3);
 
+-- Article bodies are stored apart from the articles row (see 11_article_content.sql)
+INSERT INTO article_content (article_id, encoding, body, search_vector)
+SELECT id, 'plain', convert_to(content, 'UTF8'), article_content_vector(content)
+FROM (VALUES
+(1, '<p>Discover the critical situation facing Bornean orangutans and learn how conservation efforts are working to save these incredible forest gardeners.</p>'),
+(2, '<p>Explore the unique ecosystem of the Sundarbans and the magnificent Bengal tigers that call this mangrove forest home.</p>'),
+(3, '<p>Learn about the complex social structures of African elephants and the conservation challenges they face in the modern world.</p>')
+) AS seed(id, content);
+
 -- Insert tags for article 1
 INSERT INTO article_tags (article_id, tag) VALUES
 (1, 'Primates'),
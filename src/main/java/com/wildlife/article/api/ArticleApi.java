@@ -1,5 +1,6 @@
 package com.wildlife.article.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.wildlife.article.service.ArticleService;
 import com.wildlife.shared.dto.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,7 +18,9 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -45,7 +49,7 @@ public interface ArticleApi {
 
     @Operation(summary = "Get all published articles", 
                description = "Retrieve published articles with optional filtering and pagination")
-    ResponseEntity<Page<ArticleDto>> getPublishedArticles(
+    ResponseEntity<Page<ArticleSummaryDto>> getPublishedArticles(
             @Parameter(description = "Search term for title, content, or excerpt")
             @RequestParam(required = false) String search,
             
@@ -58,6 +62,9 @@ public interface ArticleApi {
             @Parameter(description = "Filter by tags (comma-separated)")
             @RequestParam(required = false) List<String> tags,
             
+            @Parameter(description = "Whether articles must carry 'any' (default) or 'all' of the tags")
+            @RequestParam(required = false) String tagMatch,
+            
             Pageable pageable);
 
     @Operation(summary = "Get article by ID", 
@@ -65,10 +72,21 @@ public interface ArticleApi {
     ResponseEntity<Object> getArticleById(
             @Parameter(description = "Article ID") Long id);
 
+    @Operation(summary = "Get articles by IDs", 
+               description = "Retrieve up to " + ArticleService.MAX_BATCH_IDS + " articles in one request, in the " +
+                             "order of the ids. Each entry has a status of FOUND, NOT_FOUND or FORBIDDEN (a draft " +
+                             "the caller may not read). Views are only counted when countViews is true.")
+    @GetMapping("/batch")
+    ResponseEntity<List<ArticleBatchItem>> getArticlesByIds(
+            @Parameter(description = "Article IDs (comma-separated)", required = true)
+            @RequestParam List<Long> ids,
+            @Parameter(description = "Whether to count a view of each published article")
+            @RequestParam(defaultValue = "false") boolean countViews);
+
     @Operation(summary = "Get featured articles", 
                description = "Retrieve featured articles for homepage display")
     @GetMapping("/featured")
-    ResponseEntity<List<ArticleDto>> getFeaturedArticles(
+    ResponseEntity<List<ArticleSummaryDto>> getFeaturedArticles(
             @Parameter(description = "Maximum number of articles to return")
             @RequestParam(defaultValue = "6") int limit);
 
@@ -85,46 +103,90 @@ public interface ArticleApi {
     @GetMapping("/tags")
     ResponseEntity<ApiResponse.TagsDataResponse> getTags();
 
+    @Operation(summary = "Get tag counts", 
+               description = "Number of published articles per tag, most used first. When tags are given, " +
+                             "counts are restricted to the articles matching them (facet counts).")
+    @GetMapping("/tags/counts")
+    ResponseEntity<List<TagCount>> getTagCounts(
+            @Parameter(description = "Restrict counts to articles with these tags (comma-separated)")
+            @RequestParam(required = false) List<String> tags,
+            @Parameter(description = "Whether articles must carry 'any' (default) or 'all' of the tags")
+            @RequestParam(required = false) String tagMatch,
+            @Parameter(description = "Maximum number of tags to return")
+            @RequestParam(defaultValue = "50") int limit);
+
+    @Operation(summary = "Get articles by tags", 
+               description = "Retrieve published articles carrying any or all of the given tags, newest first")
+    @GetMapping("/by-tags")
+    ResponseEntity<ApiResponse.ArticleDataResponse<ArticleSummaryDto>> getArticlesByTags(
+            @Parameter(description = "Tags to match (comma-separated)", required = true)
+            @RequestParam List<String> tags,
+            @Parameter(description = "Whether articles must carry 'any' (default) or 'all' of the tags")
+            @RequestParam(required = false) String tagMatch,
+            @Parameter(description = "Page number (1-based)")
+            @RequestParam(defaultValue = "1") Integer page,
+            @Parameter(description = "Page size")
+            @RequestParam(defaultValue = "10") Integer size);
+
     @Operation(summary = "Get articles by category", 
-               description = "Retrieve published articles in a specific category")
+               description = "Retrieve published articles in a specific category. " +
+                             "Supplying a cursor (empty for the first page) switches to keyset pagination.")
     @GetMapping("/category/{category}")
-    ResponseEntity<Page<ArticleDto>> getArticlesByCategory(
+    ResponseEntity<Object> getArticlesByCategory(
             @Parameter(description = "Category name") @PathVariable String category,
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
             Pageable pageable);
 
     @Operation(summary = "Search articles", 
-               description = "Search published articles by title, content, or excerpt")
+               description = "Full-text search of published articles by title, excerpt, or content. " +
+                             "Results are ranked by relevance with highlighted snippets and paged by cursor; " +
+                             "when nothing matches, titles similar to the term are suggested.")
     @GetMapping("/search")
-    ResponseEntity<Page<ArticleDto>> searchArticles(
-            @Parameter(description = "Search term", required = true) 
+    ResponseEntity<ApiResponse.ArticleCursorDataResponse<ArticleSearchHit>> searchArticles(
+            @Parameter(description = "Search term (supports quoted phrases, OR and -exclusion)", required = true) 
             @RequestParam String q,
-            Pageable pageable);
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Number of results per page")
+            @RequestParam(required = false) Integer limit);
 
     @Operation(summary = "Get most viewed articles", 
                description = "Retrieve articles ordered by view count")
     @GetMapping("/most-viewed")
-    ResponseEntity<Page<ArticleDto>> getMostViewedArticles(Pageable pageable);
+    ResponseEntity<Page<ArticleSummaryDto>> getMostViewedArticles(Pageable pageable);
 
     @Operation(summary = "Get recent articles", 
                description = "Retrieve recently published articles")
     @GetMapping("/recent")
-    ResponseEntity<List<ArticleDto>> getRecentArticles(
+    ResponseEntity<List<ArticleSummaryDto>> getRecentArticles(
             @Parameter(description = "Number of days to look back")
             @RequestParam(defaultValue = "7") int days,
             @Parameter(description = "Maximum number of articles")
             @RequestParam(defaultValue = "10") int limit);
 
+    @Operation(summary = "Get trending articles", 
+               description = "Published articles ranked by views with exponential time decay: a view one " +
+                             "window old counts about a third as much as a view made now")
+    @GetMapping("/trending")
+    ResponseEntity<List<ArticleSummaryDto>> getTrendingArticles(
+            @Parameter(description = "Decay window: 'hour', 'day' (default) or 'week'")
+            @RequestParam(required = false) String window,
+            @Parameter(description = "Maximum number of articles")
+            @RequestParam(defaultValue = "10") int limit);
+
     @Operation(summary = "Get related articles", 
-               description = "Get articles related to a specific article by category and tags")
+               description = "Get the published articles most similar to a specific article by category, " +
+                             "tags and title/excerpt text, from precomputed related-article lists")
     @GetMapping("/{id}/related")
-    ResponseEntity<List<ArticleDto>> getRelatedArticles(
+    ResponseEntity<List<ArticleSummaryDto>> getRelatedArticles(
             @Parameter(description = "Article ID") @PathVariable Long id,
-            @Parameter(description = "Maximum number of related articles")
+            @Parameter(description = "Maximum number of related articles (at most 50)")
             @RequestParam(defaultValue = "5") int limit);
 
     @Operation(summary = "Get articles by author", 
                description = "Retrieve articles by a specific author")
-    ResponseEntity<Page<ArticleDto>> getArticlesByAuthor(
+    ResponseEntity<Page<ArticleSummaryDto>> getArticlesByAuthor(
             @Parameter(description = "Author ID") @PathVariable Long authorId,
             Pageable pageable);
 
@@ -142,6 +204,16 @@ public interface ArticleApi {
             @Parameter(description = "Article ID") Long id,
             @Valid ArticleDto articleDto);
 
+    @Operation(summary = "Patch article", 
+               description = "Change only the fields present in a JSON Merge Patch body (RFC 7386); null clears " +
+                             "optional fields. Send the article's version as If-Match (or a \"version\" field) to " +
+                             "get 409 instead of overwriting someone else's change (requires ownership or admin role)",
+               security = @SecurityRequirement(name = "bearerAuth"))
+    ResponseEntity<ArticleDto> patchArticle(
+            @Parameter(description = "Article ID") Long id,
+            JsonNode patch,
+            @Parameter(description = "Expected article version, e.g. \"3\"") String ifMatch);
+
     @Operation(summary = "Delete article", 
                description = "Delete an article (requires ownership or admin role)",
                security = @SecurityRequirement(name = "bearerAuth"))
@@ -152,7 +224,7 @@ public interface ArticleApi {
                description = "Retrieve articles created by the authenticated user",
                security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping("/my-articles")
-    ResponseEntity<Page<ArticleDto>> getCurrentUserArticles(Pageable pageable);
+    ResponseEntity<Page<ArticleSummaryDto>> getCurrentUserArticles(Pageable pageable);
 
     // ==================== ADMIN ENDPOINTS ====================
 
@@ -162,6 +234,20 @@ public interface ArticleApi {
     @GetMapping("/statistics")
     ResponseEntity<ArticleService.ArticleStatsDto> getArticleStatistics();
 
+    @Operation(summary = "Export all articles", 
+               description = "Stream every article, drafts and tags included, as NDJSON (one JSON object per line) " +
+                             "in id order (admin only)",
+               security = @SecurityRequirement(name = "bearerAuth"))
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    ResponseEntity<StreamingResponseBody> exportArticles();
+
+    @Operation(summary = "Import articles", 
+               description = "Create articles from an NDJSON stream in the export format, inserted in batches. " +
+                             "Imported articles get new ids; unknown authors are replaced by the caller (admin only)",
+               security = @SecurityRequirement(name = "bearerAuth"))
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    ResponseEntity<ArticleImportResult> importArticles(HttpServletRequest request) throws IOException;
+
     /**
      * Publish a draft article
      * 
@@ -0,0 +1,64 @@
+package com.wildlife.article.api;
+
+/**
+ * One entry of a batch article fetch, in the position of its id in the request.
+ * The article is only present when the status is FOUND.
+ */
+public class ArticleBatchItem {
+
+    public enum Status {
+        FOUND,
+        NOT_FOUND,
+        FORBIDDEN
+    }
+
+    private Long id;
+    private Status status;
+    private ArticleDto article;
+
+    // Constructors
+    public ArticleBatchItem() {}
+
+    public ArticleBatchItem(Long id, Status status, ArticleDto article) {
+        this.id = id;
+        this.status = status;
+        this.article = article;
+    }
+
+    public static ArticleBatchItem found(ArticleDto article) {
+        return new ArticleBatchItem(article.getId(), Status.FOUND, article);
+    }
+
+    public static ArticleBatchItem notFound(Long id) {
+        return new ArticleBatchItem(id, Status.NOT_FOUND, null);
+    }
+
+    public static ArticleBatchItem forbidden(Long id) {
+        return new ArticleBatchItem(id, Status.FORBIDDEN, null);
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public ArticleDto getArticle() {
+        return article;
+    }
+
+    public void setArticle(ArticleDto article) {
+        this.article = article;
+    }
+}
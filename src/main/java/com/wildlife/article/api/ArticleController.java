@@ -1,13 +1,23 @@
 package com.wildlife.article.api;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.wildlife.article.service.ArticleService;
+import com.wildlife.article.tag.TagMatch;
+import com.wildlife.article.transfer.ArticleTransferService;
+import com.wildlife.article.trending.TrendingWindow;
 import com.wildlife.shared.dto.ApiResponse;
+import com.wildlife.shared.dto.CursorPage;
+import com.wildlife.shared.exception.InvalidRequestException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,10 +27,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -43,10 +57,16 @@ import java.util.List;
 public class ArticleController implements ArticleApi {
 
     private final ArticleService articleService;
+    private final ArticleTransferService articleTransferService;
+    private final int maxPageSize;
 
     @Autowired
-    public ArticleController(ArticleService articleService) {
+    public ArticleController(ArticleService articleService,
+                             ArticleTransferService articleTransferService,
+                             @Value("${wildlife.pagination.max-page-size:100}") int maxPageSize) {
         this.articleService = articleService;
+        this.articleTransferService = articleTransferService;
+        this.maxPageSize = maxPageSize;
     }
 
     /**
@@ -54,19 +74,29 @@ public class ArticleController implements ArticleApi {
      */
     private Pageable convertPagination(Integer page, Integer size) {
         int pageNumber = (page != null && page > 0) ? page - 1 : 0; // Convert 1-based to 0-based
-        int pageSize = (size != null && size > 0) ? size : 10; // Default to 10 if not specified
-        return PageRequest.of(pageNumber, pageSize);
+        return PageRequest.of(pageNumber, resolvePageSize(size, null));
+    }
+
+    /**
+     * Resolve the requested page size, preferring 'limit' over 'size' for frontend compatibility.
+     * The result is capped at wildlife.pagination.max-page-size.
+     */
+    private int resolvePageSize(Integer size, Integer limit) {
+        int pageSize = (limit != null && limit > 0) ? limit : (size != null && size > 0) ? size : 10;
+        return Math.min(pageSize, maxPageSize);
     }
 
     @Override
-    public ResponseEntity<Page<ArticleDto>> getPublishedArticles(
+    public ResponseEntity<Page<ArticleSummaryDto>> getPublishedArticles(
             String search,
             String category,
             Boolean featured,
             List<String> tags,
+            String tagMatch,
             @PageableDefault(size = 10) Pageable pageable) {
         
-        Page<ArticleDto> articles = articleService.getPublishedArticles(search, category, featured, tags, pageable);
+        Page<ArticleSummaryDto> articles = articleService.getPublishedArticles(
+                search, category, featured, tags, TagMatch.from(tagMatch), pageable);
         return ResponseEntity.ok(articles);
     }
 
@@ -74,23 +104,46 @@ public class ArticleController implements ArticleApi {
      * Main articles endpoint with frontend-compatible response format
      * This handles the pagination conversion from 1-based (frontend) to 0-based (Spring Data JPA)
      * Returns: { "data": { "articles": [...], "pagination": {...} } }
+     * When 'cursor' is present (empty for the first page) the feed is keyset paginated and
+     * pagination carries { "limit", "hasNext", "nextCursor" } instead of page totals.
+     * With withTotal=false, pages are read without any count and pagination omits "total" and "pages".
      */
     @GetMapping
-    public ResponseEntity<ApiResponse.ArticleDataResponse<ArticleDto>> getPublishedArticlesForFrontend(
+    public ResponseEntity<Object> getPublishedArticlesForFrontend(
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) Boolean featured,
             @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) String tagMatch,
             @RequestParam(defaultValue = "1") Integer page,
             @RequestParam(defaultValue = "10") Integer size,
-            @RequestParam(required = false) Integer limit) {
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "true") boolean withTotal) {
         
         // Use 'limit' if provided, otherwise use 'size' - for frontend compatibility
-        int pageSize = (limit != null && limit > 0) ? limit : (size != null && size > 0) ? size : 10;
+        int pageSize = resolvePageSize(size, limit);
+        TagMatch match = TagMatch.from(tagMatch);
+        
+        // Cursor mode: keyset pagination on (publish_date, id), no count query
+        if (cursor != null) {
+            CursorPage<ArticleSummaryDto> articles = articleService.getPublishedArticlesByCursor(
+                    search, category, featured, tags, match, cursor, pageSize);
+            return ResponseEntity.ok(ApiResponse.ArticleCursorDataResponse.fromCursorPage(articles));
+        }
         
         // Convert 1-based pagination from frontend to 0-based for Spring Data JPA
         Pageable pageable = convertPagination(page, pageSize);
-        Page<ArticleDto> articles = articleService.getPublishedArticles(search, category, featured, tags, pageable);
+        
+        // Count-free mode: one query for size+1 rows, hasNext only
+        if (!withTotal) {
+            Slice<ArticleSummaryDto> articles = articleService.getPublishedArticlesSlice(
+                    search, category, featured, tags, match, pageable);
+            return ResponseEntity.ok(ApiResponse.ArticleDataResponse.fromSlice(articles));
+        }
+        
+        Page<ArticleSummaryDto> articles = articleService.getPublishedArticles(
+                search, category, featured, tags, match, pageable);
         
         // Return in frontend-compatible format
         return ResponseEntity.ok(ApiResponse.ArticleDataResponse.fromPage(articles));
@@ -113,10 +166,17 @@ public class ArticleController implements ArticleApi {
         return ResponseEntity.ok(wrappedResponse);
     }
 
+    @Override
+    @GetMapping("/batch")
+    public ResponseEntity<List<ArticleBatchItem>> getArticlesByIds(@RequestParam List<Long> ids,
+                                                                   @RequestParam(defaultValue = "false") boolean countViews) {
+        return ResponseEntity.ok(articleService.getArticlesByIds(ids, countViews));
+    }
+
     @Override
     @GetMapping("/featured")
-    public ResponseEntity<List<ArticleDto>> getFeaturedArticles(@RequestParam(defaultValue = "6") int limit) {
-        List<ArticleDto> articles = articleService.getFeaturedArticles(limit);
+    public ResponseEntity<List<ArticleSummaryDto>> getFeaturedArticles(@RequestParam(defaultValue = "6") int limit) {
+        List<ArticleSummaryDto> articles = articleService.getFeaturedArticles(limit);
         return ResponseEntity.ok(articles);
     }
 
@@ -136,38 +196,84 @@ public class ArticleController implements ArticleApi {
         return ResponseEntity.ok(response);
     }
 
+    @Override
+    @GetMapping("/tags/counts")
+    public ResponseEntity<List<TagCount>> getTagCounts(@RequestParam(required = false) List<String> tags,
+                                                       @RequestParam(required = false) String tagMatch,
+                                                       @RequestParam(defaultValue = "50") int limit) {
+        List<TagCount> counts = articleService.getTagCounts(tags, TagMatch.from(tagMatch), limit);
+        return ResponseEntity.ok(counts);
+    }
+
+    /**
+     * Tag filter with frontend-compatible response format
+     * Returns: { "data": { "articles": [...], "pagination": {...} } }
+     */
+    @Override
+    @GetMapping("/by-tags")
+    public ResponseEntity<ApiResponse.ArticleDataResponse<ArticleSummaryDto>> getArticlesByTags(
+            @RequestParam List<String> tags,
+            @RequestParam(required = false) String tagMatch,
+            @RequestParam(defaultValue = "1") Integer page,
+            @RequestParam(defaultValue = "10") Integer size) {
+        Page<ArticleSummaryDto> articles = articleService.getArticlesByTags(
+                tags, TagMatch.from(tagMatch), convertPagination(page, size));
+        return ResponseEntity.ok(ApiResponse.ArticleDataResponse.fromPage(articles));
+    }
+
+    /**
+     * Category feed - page-based by default, keyset paginated when a cursor parameter is present
+     */
     @Override
     @GetMapping("/category/{category}")
-    public ResponseEntity<Page<ArticleDto>> getArticlesByCategory(@PathVariable String category, Pageable pageable) {
-        Page<ArticleDto> articles = articleService.getArticlesByCategory(category, pageable);
+    public ResponseEntity<Object> getArticlesByCategory(@PathVariable String category,
+                                                        @RequestParam(required = false) String cursor,
+                                                        Pageable pageable) {
+        if (cursor != null) {
+            CursorPage<ArticleSummaryDto> articles = articleService.getArticlesByCategoryCursor(
+                    category, cursor, resolvePageSize(pageable.getPageSize(), null));
+            return ResponseEntity.ok(ApiResponse.ArticleCursorDataResponse.fromCursorPage(articles));
+        }
+        Page<ArticleSummaryDto> articles = articleService.getArticlesByCategory(category, pageable);
         return ResponseEntity.ok(articles);
     }
 
     @Override
     @GetMapping("/search")
-    public ResponseEntity<Page<ArticleDto>> searchArticles(@RequestParam String q, Pageable pageable) {
-        Page<ArticleDto> articles = articleService.searchArticles(q, pageable);
-        return ResponseEntity.ok(articles);
+    public ResponseEntity<ApiResponse.ArticleCursorDataResponse<ArticleSearchHit>> searchArticles(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<ArticleSearchHit> hits = articleService.searchArticles(q, cursor, resolvePageSize(null, limit));
+        return ResponseEntity.ok(ApiResponse.ArticleCursorDataResponse.fromCursorPage(hits));
     }
 
     @Override
     @GetMapping("/most-viewed")
-    public ResponseEntity<Page<ArticleDto>> getMostViewedArticles(Pageable pageable) {
-        Page<ArticleDto> articles = articleService.getMostViewedArticles(pageable);
+    public ResponseEntity<Page<ArticleSummaryDto>> getMostViewedArticles(Pageable pageable) {
+        Page<ArticleSummaryDto> articles = articleService.getMostViewedArticles(pageable);
+        return ResponseEntity.ok(articles);
+    }
+
+    @Override
+    @GetMapping("/trending")
+    public ResponseEntity<List<ArticleSummaryDto>> getTrendingArticles(@RequestParam(required = false) String window,
+                                                                       @RequestParam(defaultValue = "10") int limit) {
+        List<ArticleSummaryDto> articles = articleService.getTrendingArticles(TrendingWindow.from(window), limit);
         return ResponseEntity.ok(articles);
     }
 
     @Override
     @GetMapping("/recent")
-    public ResponseEntity<List<ArticleDto>> getRecentArticles(@RequestParam(defaultValue = "7") int days, @RequestParam(defaultValue = "10") int limit) {
-        List<ArticleDto> articles = articleService.getRecentArticles(days, limit);
+    public ResponseEntity<List<ArticleSummaryDto>> getRecentArticles(@RequestParam(defaultValue = "7") int days, @RequestParam(defaultValue = "10") int limit) {
+        List<ArticleSummaryDto> articles = articleService.getRecentArticles(days, limit);
         return ResponseEntity.ok(articles);
     }
 
     @Override
     @GetMapping("/{id}/related")
-    public ResponseEntity<List<ArticleDto>> getRelatedArticles(@PathVariable Long id, @RequestParam(defaultValue = "5") int limit) {
-        List<ArticleDto> articles = articleService.getRelatedArticles(id, limit);
+    public ResponseEntity<List<ArticleSummaryDto>> getRelatedArticles(@PathVariable Long id, @RequestParam(defaultValue = "5") int limit) {
+        List<ArticleSummaryDto> articles = articleService.getRelatedArticles(id, limit);
         return ResponseEntity.ok(articles);
     }
 
@@ -175,20 +281,28 @@ public class ArticleController implements ArticleApi {
      * Get articles by author with frontend-compatible response format
      * This handles the pagination conversion from 1-based (frontend) to 0-based (Spring Data JPA)
      * Returns: { "data": { "articles": [...], "pagination": {...} } }
+     * Supports the same 'cursor' mode as the main articles endpoint.
      */
     @GetMapping("/author/{authorId}")
-    public ResponseEntity<ApiResponse.ArticleDataResponse<ArticleDto>> getArticlesByAuthorForFrontend(
+    public ResponseEntity<Object> getArticlesByAuthorForFrontend(
             @PathVariable Long authorId,
             @RequestParam(defaultValue = "1") Integer page,
             @RequestParam(defaultValue = "10") Integer size,
-            @RequestParam(required = false) Integer limit) {
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         
         // Use 'limit' if provided, otherwise use 'size' - for frontend compatibility
-        int pageSize = (limit != null && limit > 0) ? limit : (size != null && size > 0) ? size : 10;
+        int pageSize = resolvePageSize(size, limit);
+        
+        // Cursor mode: keyset pagination on (created_at, id), no count query
+        if (cursor != null) {
+            CursorPage<ArticleSummaryDto> articles = articleService.getArticlesByAuthorCursor(authorId, cursor, pageSize);
+            return ResponseEntity.ok(ApiResponse.ArticleCursorDataResponse.fromCursorPage(articles));
+        }
         
         // Convert 1-based pagination from frontend to 0-based for Spring Data JPA
         Pageable pageable = convertPagination(page, pageSize);
-        Page<ArticleDto> articles = articleService.getArticlesByAuthor(authorId, pageable);
+        Page<ArticleSummaryDto> articles = articleService.getArticlesByAuthor(authorId, pageable);
         
         // Return in frontend-compatible format
         return ResponseEntity.ok(ApiResponse.ArticleDataResponse.fromPage(articles));
@@ -198,8 +312,8 @@ public class ArticleController implements ArticleApi {
      * Interface implementation for getArticlesByAuthor - kept for interface compliance
      */
     @Override
-    public ResponseEntity<Page<ArticleDto>> getArticlesByAuthor(Long authorId, Pageable pageable) {
-        Page<ArticleDto> articles = articleService.getArticlesByAuthor(authorId, pageable);
+    public ResponseEntity<Page<ArticleSummaryDto>> getArticlesByAuthor(Long authorId, Pageable pageable) {
+        Page<ArticleSummaryDto> articles = articleService.getArticlesByAuthor(authorId, pageable);
         return ResponseEntity.ok(articles);
     }
 
@@ -227,6 +341,40 @@ public class ArticleController implements ArticleApi {
         return ResponseEntity.ok(updatedArticle);
     }
 
+    /**
+     * Patch article endpoint (JSON Merge Patch); the response's ETag is the new version
+     */
+    @Override
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('CONTRIBUTOR') or hasRole('ADMIN')")
+    public ResponseEntity<ArticleDto> patchArticle(@PathVariable Long id,
+                                                   @RequestBody JsonNode patch,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        ArticleDto patchedArticle = articleService.patchArticle(id, patch, parseVersionTag(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(patchedArticle.getVersion()))
+                .body(patchedArticle);
+    }
+
+    /**
+     * Article version from an If-Match header ("3", W/"3" or 3); null when absent or "*"
+     */
+    private static Long parseVersionTag(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("If-Match must be an article version, e.g. \"3\"");
+        }
+    }
+
     /**
      * Delete article endpoint
      * Implements interface method with proper mapping
@@ -242,8 +390,8 @@ public class ArticleController implements ArticleApi {
     @Override
     @GetMapping("/my-articles")
     @PreAuthorize("hasRole('CONTRIBUTOR') or hasRole('ADMIN')")
-    public ResponseEntity<Page<ArticleDto>> getCurrentUserArticles(@PageableDefault(size = 10) Pageable pageable) {
-        Page<ArticleDto> articles = articleService.getCurrentUserArticles(pageable);
+    public ResponseEntity<Page<ArticleSummaryDto>> getCurrentUserArticles(@PageableDefault(size = 10) Pageable pageable) {
+        Page<ArticleSummaryDto> articles = articleService.getCurrentUserArticles(pageable);
         return ResponseEntity.ok(articles);
     }
 
@@ -255,6 +403,24 @@ public class ArticleController implements ArticleApi {
         return ResponseEntity.ok(stats);
     }
 
+    @Override
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportArticles() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.ndjson\"")
+                .body(articleTransferService::exportArticles);
+    }
+
+    @Override
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ArticleImportResult> importArticles(HttpServletRequest request) throws IOException {
+        ArticleImportResult result = articleTransferService.importArticles(request.getInputStream());
+        return ResponseEntity.ok(result);
+    }
+
     @Override
     @PatchMapping("/{id}/publish")
     public ResponseEntity<ApiResponse.SingleArticleDataResponse<ArticleDto>> publishArticle(@PathVariable Long id) {
@@ -1,12 +1,15 @@
 package com.wildlife.article.api;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.wildlife.article.content.ArticleBody;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Data Transfer Object for Article entity.
@@ -20,8 +23,14 @@ public class ArticleDto {
     @Size(min = 5, max = 255, message = "Title should be between 5 and 255 characters")
     private String title;
 
+    // Content is read from requests as text, and written to responses from the stored body
+    // (inflated while the response is written); see the accessors below
+    @JsonIgnore
     private String content;
 
+    @JsonIgnore
+    private ArticleBody body;
+
     @NotBlank(message = "Excerpt is required")
     @Size(min = 10, max = 500, message = "Excerpt should be between 10 and 500 characters")
     private String excerpt;
@@ -30,18 +39,33 @@ public class ArticleDto {
     private Boolean featured = false;
     private String category;
     private Integer views = 0;
-    private List<String> tags;
-    
-    // Handle both List (from frontend) and String (for entity) formats
-    @JsonProperty("images")
-    private List<Map<String, Object>> images;
+
+    @Size(max = 20, message = "An article can have at most 20 tags")
+    private List<@NotBlank(message = "Tags must not be blank")
+                 @Size(max = 50, message = "Tags should not exceed 50 characters") String> tags;
     
-    @JsonProperty("videos") 
-    private List<Map<String, Object>> videos;
+    // Media is read from requests as typed lists, and written to responses as the stored JSON
+    // (imagesJson/videosJson) without being parsed; see the accessors below
+    @Valid
+    @JsonIgnore
+    private List<ImageRef> images;
+
+    @Valid
+    @JsonIgnore
+    private List<VideoRef> videos;
+
+    @JsonIgnore
+    private String imagesJson;
+
+    @JsonIgnore
+    private String videosJson;
     
     private LocalDateTime publishDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // Optimistic lock version; send it back (If-Match or "version") when patching
+    private Long version;
     
     // Author information
     private com.wildlife.user.api.UserDto author;
@@ -73,14 +97,32 @@ public class ArticleDto {
         this.title = title;
     }
 
+    /**
+     * Content from the request body; null when the request does not set it
+     */
+    @JsonIgnore
     public String getContent() {
         return content;
     }
 
+    @JsonProperty("content")
     public void setContent(String content) {
         this.content = content;
     }
 
+    /**
+     * Written as the "content" property of responses: the stored body, or else the content set on this DTO
+     */
+    @JsonProperty("content")
+    public ArticleBody getBody() {
+        return body != null ? body : ArticleBody.ofText(content);
+    }
+
+    @JsonIgnore
+    public void setBody(ArticleBody body) {
+        this.body = body;
+    }
+
     public String getExcerpt() {
         return excerpt;
     }
@@ -129,22 +171,57 @@ public class ArticleDto {
         this.tags = tags;
     }
 
-    public List<Map<String, Object>> getImages() {
+    /**
+     * Images from the request body; null when the request does not set them
+     */
+    @JsonIgnore
+    public List<ImageRef> getImages() {
         return images;
     }
 
-    public void setImages(List<Map<String, Object>> images) {
+    @JsonProperty("images")
+    public void setImages(List<ImageRef> images) {
         this.images = images;
     }
 
-    public List<Map<String, Object>> getVideos() {
+    @JsonIgnore
+    public List<VideoRef> getVideos() {
         return videos;
     }
 
-    public void setVideos(List<Map<String, Object>> videos) {
+    @JsonProperty("videos")
+    public void setVideos(List<VideoRef> videos) {
         this.videos = videos;
     }
 
+    /**
+     * Stored images JSON array, written verbatim as the "images" property of responses
+     */
+    @JsonProperty("images")
+    @JsonRawValue
+    public String getImagesJson() {
+        return imagesJson;
+    }
+
+    @JsonIgnore
+    public void setImagesJson(String imagesJson) {
+        this.imagesJson = imagesJson;
+    }
+
+    /**
+     * Stored videos JSON array, written verbatim as the "videos" property of responses
+     */
+    @JsonProperty("videos")
+    @JsonRawValue
+    public String getVideosJson() {
+        return videosJson;
+    }
+
+    @JsonIgnore
+    public void setVideosJson(String videosJson) {
+        this.videosJson = videosJson;
+    }
+
     public LocalDateTime getPublishDate() {
         return publishDate;
     }
@@ -169,6 +246,14 @@ public class ArticleDto {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public com.wildlife.user.api.UserDto getAuthor() {
         return author;
     }
@@ -0,0 +1,82 @@
+package com.wildlife.article.api;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk article import: rows written, rows rejected and the achieved throughput.
+ * When the stream could not be parsed to the end, error says where it stopped; rows imported
+ * before that point are kept.
+ */
+public class ArticleImportResult {
+
+    private long imported;
+    private long skipped;
+    private List<String> rejections;
+    private String error;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+
+    // Constructors
+    public ArticleImportResult() {}
+
+    public ArticleImportResult(long imported, long skipped, List<String> rejections, String error, long elapsedMillis) {
+        this.imported = imported;
+        this.skipped = skipped;
+        this.rejections = rejections;
+        this.error = error;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = elapsedMillis > 0 ? imported * 1000.0 / elapsedMillis : imported;
+    }
+
+    // Getters and Setters
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(long imported) {
+        this.imported = imported;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(long skipped) {
+        this.skipped = skipped;
+    }
+
+    /**
+     * Reasons for the first skipped rows, by line number
+     */
+    public List<String> getRejections() {
+        return rejections;
+    }
+
+    public void setRejections(List<String> rejections) {
+        this.rejections = rejections;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+}
@@ -0,0 +1,116 @@
+package com.wildlife.article.api;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for a single article search result.
+ * Carries the list fields of the article plus a highlighted snippet and relevance score.
+ */
+public class ArticleSearchHit {
+
+    private Long id;
+    private String title;
+    private String excerpt;
+    private String category;
+    private Boolean featured;
+    private Integer views;
+    private Long authorId;
+    private LocalDateTime publishDate;
+
+    // Matched fragments with terms wrapped in <mark></mark>
+    private String snippet;
+    private Float score;
+
+    // Constructors
+    public ArticleSearchHit() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Boolean getFeatured() {
+        return featured;
+    }
+
+    public void setFeatured(Boolean featured) {
+        this.featured = featured;
+    }
+
+    public Integer getViews() {
+        return views;
+    }
+
+    public void setViews(Integer views) {
+        this.views = views;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+
+    public LocalDateTime getPublishDate() {
+        return publishDate;
+    }
+
+    public void setPublishDate(LocalDateTime publishDate) {
+        this.publishDate = publishDate;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+
+    public Float getScore() {
+        return score;
+    }
+
+    public void setScore(Float score) {
+        this.score = score;
+    }
+
+    @Override
+    public String toString() {
+        return "ArticleSearchHit{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", score=" + score +
+                '}';
+    }
+}
@@ -0,0 +1,155 @@
+package com.wildlife.article.api;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for article list views (cards).
+ * Populated directly by JPQL constructor expressions, so list queries never read
+ * the article body or parse the images/videos JSON. Full content and media are
+ * only returned by the detail endpoint as {@link ArticleDto}.
+ */
+public class ArticleSummaryDto {
+
+    private Long id;
+    private String title;
+    private String excerpt;
+    private String category;
+    private Boolean published;
+    private Boolean featured;
+    private Integer views;
+    private Long authorId;
+    private String coverImageUrl;
+    private LocalDateTime publishDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ArticleSummaryDto() {}
+
+    /**
+     * Projection constructor; argument order matches ArticleRepository's SELECT new expressions
+     */
+    public ArticleSummaryDto(Long id, String title, String excerpt, String category,
+                             Boolean published, Boolean featured, Integer views, Long authorId,
+                             String coverImageUrl, LocalDateTime publishDate,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.category = category;
+        this.published = published;
+        this.featured = featured;
+        this.views = views;
+        this.authorId = authorId;
+        this.coverImageUrl = coverImageUrl;
+        this.publishDate = publishDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Boolean getPublished() {
+        return published;
+    }
+
+    public void setPublished(Boolean published) {
+        this.published = published;
+    }
+
+    public Boolean getFeatured() {
+        return featured;
+    }
+
+    public void setFeatured(Boolean featured) {
+        this.featured = featured;
+    }
+
+    public Integer getViews() {
+        return views;
+    }
+
+    public void setViews(Integer views) {
+        this.views = views;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+
+    public String getCoverImageUrl() {
+        return coverImageUrl;
+    }
+
+    public void setCoverImageUrl(String coverImageUrl) {
+        this.coverImageUrl = coverImageUrl;
+    }
+
+    public LocalDateTime getPublishDate() {
+        return publishDate;
+    }
+
+    public void setPublishDate(LocalDateTime publishDate) {
+        this.publishDate = publishDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ArticleSummaryDto{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", published=" + published +
+                '}';
+    }
+}
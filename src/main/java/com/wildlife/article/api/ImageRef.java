@@ -0,0 +1,22 @@
+package com.wildlife.article.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+import java.util.Map;
+
+/**
+ * Image attached to an article, as stored in the articles.images jsonb array.
+ * Mirrors the image returned by the upload endpoints (UploadDto.ImageDetails).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImageRef(
+        String id,
+        @NotBlank(message = "Image URL is required")
+        @Size(max = 1000, message = "Image URL should not exceed 1000 characters")
+        String url,
+        String caption,
+        String alt,
+        Map<String, String> sizes) {
+}
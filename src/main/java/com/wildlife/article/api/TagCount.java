@@ -0,0 +1,35 @@
+package com.wildlife.article.api;
+
+/**
+ * Number of published articles carrying a tag, for tag clouds and filter facets
+ */
+public class TagCount {
+
+    private String tag;
+    private int count;
+
+    // Constructors
+    public TagCount() {}
+
+    public TagCount(String tag, int count) {
+        this.tag = tag;
+        this.count = count;
+    }
+
+    // Getters and Setters
+    public String getTag() {
+        return tag;
+    }
+
+    public void setTag(String tag) {
+        this.tag = tag;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public void setCount(int count) {
+        this.count = count;
+    }
+}
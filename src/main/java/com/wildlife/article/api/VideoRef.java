@@ -0,0 +1,21 @@
+package com.wildlife.article.api;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Video attached to an article, as stored in the articles.videos jsonb array.
+ * Mirrors the video returned by the upload endpoints (UploadDto.VideoDetails).
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record VideoRef(
+        String id,
+        @NotBlank(message = "Video URL is required")
+        @Size(max = 1000, message = "Video URL should not exceed 1000 characters")
+        String url,
+        String caption,
+        String thumbnail,
+        Double duration,
+        String format) {
+}
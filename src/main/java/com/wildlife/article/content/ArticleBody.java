@@ -0,0 +1,156 @@
+package com.wildlife.article.content;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Article body as stored in article_content: UTF-8 text, deflated when it is at least the
+ * compression threshold and deflating makes it smaller.
+ * Responses serialize it by inflating it straight into the JSON output, so the text is never
+ * built as one String on the way out.
+ */
+public final class ArticleBody implements JsonSerializable {
+
+    public static final String PLAIN = "plain";
+    public static final String DEFLATE = "deflate";
+
+    private final String encoding;
+    private final byte[] bytes;
+
+    private ArticleBody(String encoding, byte[] bytes) {
+        this.encoding = encoding;
+        this.bytes = bytes;
+    }
+
+    /**
+     * Encode text for storage, deflating it when it is at least compressThreshold UTF-8 bytes
+     */
+    public static ArticleBody encode(String text, int compressThreshold) {
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        if (utf8.length >= compressThreshold) {
+            byte[] deflated = deflate(utf8);
+            if (deflated.length < utf8.length) {
+                return new ArticleBody(DEFLATE, deflated);
+            }
+        }
+        return new ArticleBody(PLAIN, utf8);
+    }
+
+    /**
+     * Uncompressed body for text that is not stored (e.g. the content of a request); null for null text
+     */
+    public static ArticleBody ofText(String text) {
+        return text != null ? new ArticleBody(PLAIN, text.getBytes(StandardCharsets.UTF_8)) : null;
+    }
+
+    /**
+     * Body as read from the database
+     */
+    public static ArticleBody of(String encoding, byte[] bytes) {
+        if (!PLAIN.equals(encoding) && !DEFLATE.equals(encoding)) {
+            throw new IllegalArgumentException("Unknown article body encoding: " + encoding);
+        }
+        return new ArticleBody(encoding, bytes);
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    /**
+     * Stored bytes (not copied)
+     */
+    public byte[] getBytes() {
+        return bytes;
+    }
+
+    public boolean isCompressed() {
+        return DEFLATE.equals(encoding);
+    }
+
+    /**
+     * Reader over the decoded text, inflating as it is read
+     */
+    public Reader openReader() {
+        InputStream in = new ByteArrayInputStream(bytes);
+        if (isCompressed()) {
+            in = new InflaterInputStream(in);
+        }
+        return new InputStreamReader(in, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The decoded text, for callers that need all of it at once (indexing, export)
+     */
+    public String toText() {
+        if (!isCompressed()) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Corrupt deflated article body", e);
+        }
+    }
+
+    @Override
+    public void serialize(JsonGenerator generator, SerializerProvider provider) throws IOException {
+        try (Reader reader = openReader()) {
+            generator.writeString(reader, -1);
+        }
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator generator, SerializerProvider provider,
+                                  TypeSerializer typeSerializer) throws IOException {
+        serialize(generator, provider);
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ArticleBody other = (ArticleBody) o;
+        return encoding.equals(other.encoding) && Arrays.equals(bytes, other.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * encoding.hashCode() + Arrays.hashCode(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "ArticleBody{encoding=" + encoding + ", bytes=" + bytes.length + '}';
+    }
+}
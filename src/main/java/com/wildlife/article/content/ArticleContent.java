@@ -0,0 +1,53 @@
+package com.wildlife.article.content;
+
+import com.wildlife.article.core.Article;
+import jakarta.persistence.*;
+import org.hibernate.Length;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+/**
+ * Mapping of the article_content table, so that Hibernate creates it where it manages the schema
+ * (dev and test profiles) and validates it elsewhere. Rows are read and written by
+ * {@link ArticleContentStore}, never through this entity.
+ * <p>
+ * search_vector is not mapped: it exists only where scripts/database/11_article_content.sql was
+ * run, and is written only when wildlife.content.search-vector-enabled is set.
+ */
+@Entity
+@Table(name = "article_content")
+public class ArticleContent {
+
+    @Id
+    @Column(name = "article_id")
+    private Long articleId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "article_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Article article;
+
+    // plain (UTF-8 text) or deflate (zlib-compressed UTF-8 text)
+    @Column(name = "encoding", nullable = false, length = 16)
+    private String encoding;
+
+    // bytea on PostgreSQL
+    @Column(name = "body", nullable = false, length = Length.LONG32)
+    private byte[] body;
+
+    protected ArticleContent() {
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public String getEncoding() {
+        return encoding;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+}
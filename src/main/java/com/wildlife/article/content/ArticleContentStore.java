@@ -0,0 +1,228 @@
+package com.wildlife.article.content;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Article bodies, kept in article_content rather than in the articles row
+ * (scripts/database/11_article_content.sql).
+ * <p>
+ * Every list query and view-count UPDATE touches the articles row; with the body moved out that
+ * row stays narrow, and the body is read only where it is shown (article detail and batch fetch,
+ * export, in-memory indexing). Bodies of at least wildlife.content.compress-threshold bytes are
+ * stored deflated. The full-text document of the body is computed on write from the plain text,
+ * since the database cannot read deflated bodies; where scripts/database/11_article_content.sql
+ * has not been run (H2, or a schema created by Hibernate), wildlife.content.search-vector-enabled
+ * is off and only the body is written, with plain INSERT and UPDATE statements.
+ * <p>
+ * Writes join the caller's transaction; the article row must already have been flushed.
+ */
+@Component
+public class ArticleContentStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArticleContentStore.class);
+
+    private static final String SELECT_SQL =
+            "SELECT encoding, body FROM article_content WHERE article_id = ?";
+
+    private static final String SELECT_MANY_SQL =
+            "SELECT article_id, encoding, body FROM article_content WHERE article_id IN (%s)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO article_content (article_id, encoding, body) VALUES (?, ?, ?)";
+
+    private static final String UPDATE_SQL =
+            "UPDATE article_content SET encoding = ?, body = ? WHERE article_id = ?";
+
+    // With the body's full-text document, computed by the function from 11_article_content.sql
+    private static final String INSERT_WITH_VECTOR_SQL =
+            "INSERT INTO article_content (article_id, encoding, body, search_vector) " +
+            "VALUES (?, ?, ?, article_content_vector(?))";
+
+    private static final String UPDATE_WITH_VECTOR_SQL =
+            "UPDATE article_content SET encoding = ?, body = ?, search_vector = article_content_vector(?) " +
+            "WHERE article_id = ?";
+
+    private static final String DELETE_SQL = "DELETE FROM article_content WHERE article_id = ?";
+
+    // Bodies written before compression existed (or under a higher threshold), compressed at startup
+    private static final String UNCOMPRESSED_SQL =
+            "SELECT article_id, encoding, body FROM article_content " +
+            "WHERE encoding = 'plain' AND octet_length(body) >= ? AND article_id > ? " +
+            "ORDER BY article_id LIMIT ?";
+
+    private static final String RECOMPRESS_SQL =
+            "UPDATE article_content SET encoding = ?, body = ? WHERE article_id = ? AND encoding = 'plain'";
+
+    private static final int MAX_IDS_PER_QUERY = 500;
+
+    private static final int RECOMPRESS_BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int compressThreshold;
+    private final boolean searchVectorEnabled;
+
+    @Autowired
+    public ArticleContentStore(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${wildlife.content.compress-threshold:1024}") int compressThreshold,
+                               @Value("${wildlife.content.search-vector-enabled:true}") boolean searchVectorEnabled) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.compressThreshold = Math.max(1, compressThreshold);
+        this.searchVectorEnabled = searchVectorEnabled;
+    }
+
+    /**
+     * Stored body of the article, or null when it has none
+     */
+    public ArticleBody find(Long articleId) {
+        List<ArticleBody> bodies = jdbcTemplate.query(SELECT_SQL,
+                (row, i) -> ArticleBody.of(row.getString("encoding"), row.getBytes("body")), articleId);
+        return bodies.isEmpty() ? null : bodies.get(0);
+    }
+
+    /**
+     * Decoded body of the article, or null when it has none
+     */
+    public String findText(Long articleId) {
+        ArticleBody body = find(articleId);
+        return body != null ? body.toText() : null;
+    }
+
+    /**
+     * Stored bodies by article id, one query per 500 ids; articles without a body are absent
+     */
+    public Map<Long, ArticleBody> findAll(Collection<Long> articleIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(articleIds));
+        ids.remove(null);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, ArticleBody> bodies = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_QUERY) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + MAX_IDS_PER_QUERY));
+            String sql = String.format(SELECT_MANY_SQL, String.join(", ", Collections.nCopies(chunk.size(), "?")));
+            jdbcTemplate.query(sql, row -> {
+                bodies.put(row.getLong("article_id"),
+                        ArticleBody.of(row.getString("encoding"), row.getBytes("body")));
+            }, chunk.toArray());
+        }
+        return bodies;
+    }
+
+    /**
+     * Store the article's body, or remove it when the text is empty.
+     *
+     * @return whether the stored body changed
+     */
+    public boolean save(Long articleId, String text) {
+        ArticleBody current = find(articleId);
+        if (!StringUtils.hasLength(text)) {
+            if (current == null) {
+                return false;
+            }
+            jdbcTemplate.update(DELETE_SQL, articleId);
+            return true;
+        }
+        ArticleBody body = ArticleBody.encode(text, compressThreshold);
+        if (body.equals(current)) {
+            return false;
+        }
+        if (current == null) {
+            jdbcTemplate.update(insertSql(), insertArgs(articleId, body, text));
+        } else if (searchVectorEnabled) {
+            jdbcTemplate.update(UPDATE_WITH_VECTOR_SQL, body.getEncoding(), body.getBytes(), text, articleId);
+        } else {
+            jdbcTemplate.update(UPDATE_SQL, body.getEncoding(), body.getBytes(), articleId);
+        }
+        return true;
+    }
+
+    /**
+     * Store the bodies of newly inserted articles in one JDBC batch; empty texts are skipped
+     */
+    public void insertAll(Map<Long, String> texts) {
+        List<Object[]> rows = new ArrayList<>(texts.size());
+        texts.forEach((articleId, text) -> {
+            if (StringUtils.hasLength(text)) {
+                rows.add(insertArgs(articleId, ArticleBody.encode(text, compressThreshold), text));
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(insertSql(), rows);
+        }
+    }
+
+    public void delete(Long articleId) {
+        jdbcTemplate.update(DELETE_SQL, articleId);
+    }
+
+    private String insertSql() {
+        return searchVectorEnabled ? INSERT_WITH_VECTOR_SQL : INSERT_SQL;
+    }
+
+    private Object[] insertArgs(Long articleId, ArticleBody body, String text) {
+        return searchVectorEnabled
+                ? new Object[]{articleId, body.getEncoding(), body.getBytes(), text}
+                : new Object[]{articleId, body.getEncoding(), body.getBytes()};
+    }
+
+    /**
+     * Compress stored bodies that are over the threshold but plain, e.g. those moved out of the
+     * articles table by the migration script. Runs in small batches, each its own transaction.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void compressPlainBodies() {
+        long lastId = 0;
+        long compressed = 0;
+        try {
+            while (true) {
+                long afterId = lastId;
+                List<Object[]> batch = new ArrayList<>();
+                long[] maxId = {afterId};
+                jdbcTemplate.query(UNCOMPRESSED_SQL, row -> {
+                    long articleId = row.getLong("article_id");
+                    maxId[0] = Math.max(maxId[0], articleId);
+                    ArticleBody plain = ArticleBody.of(row.getString("encoding"), row.getBytes("body"));
+                    ArticleBody body = ArticleBody.encode(plain.toText(), compressThreshold);
+                    if (body.isCompressed()) {
+                        batch.add(new Object[]{body.getEncoding(), body.getBytes(), articleId});
+                    }
+                }, compressThreshold, afterId, RECOMPRESS_BATCH_SIZE);
+                if (maxId[0] == afterId) {
+                    break;
+                }
+                lastId = maxId[0];
+                if (!batch.isEmpty()) {
+                    transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(RECOMPRESS_SQL, batch));
+                    compressed += batch.size();
+                }
+            }
+        } catch (RuntimeException e) {
+            // Bodies are readable either way; the next startup carries on
+            logger.warn("Failed to compress stored article bodies: {}", e.getMessage());
+        }
+        if (compressed > 0) {
+            logger.info("Compressed {} stored article bodies", compressed);
+        }
+    }
+}
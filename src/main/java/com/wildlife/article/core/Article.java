@@ -1,26 +1,41 @@
 package com.wildlife.article.core;
 
+import com.wildlife.shared.config.EntityCacheConfig;
 import com.wildlife.shared.config.JsonListConverter;
 import com.wildlife.user.core.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Article entity representing wildlife conservation content.
  * Supports rich content with images, videos, and metadata.
+ * The body is not part of this row: it is kept in article_content (see ArticleContentStore).
+ * Updates write only the columns that changed, and are guarded by an optimistic version.
+ * Articles and their tags are kept in the second-level cache (see EntityCacheConfig). The view
+ * count is written around Hibernate by ViewCounter, which evicts just the flushed articles.
+ * The partial feed indexes (idx_article_*_feed) are left to scripts/database: declared here,
+ * ddl-auto would create plain ones under the same names and the scripts would keep those.
  */
 @Entity
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.ARTICLES)
 @Table(name = "articles", indexes = {
     @Index(name = "idx_article_published", columnList = "published"),
     @Index(name = "idx_article_featured", columnList = "featured"),
@@ -33,10 +48,12 @@ import java.util.Objects;
 public class Article {
 
     // Fields ordered to match Hibernate's alphabetical SQL column generation:
-    // id, author_id, category, content, created_at, excerpt, featured, images, publish_date, published, title, updated_at, videos, views
+    // id, author_id, category, cover_image_url, created_at, excerpt, featured, images, publish_date, published, title, updated_at, version, videos, views
 
+    // Pooled sequence (scripts/database/09_id_sequences.sql): one nextval per 50 ids, so inserts can be batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_id_seq")
+    @SequenceGenerator(name = "article_id_seq", sequenceName = "article_id_seq", allocationSize = 50)
     @Column(name = "id")
     private Long id;
 
@@ -47,9 +64,9 @@ public class Article {
     @Column(name = "category", length = 100)
     private String category;
 
-    @Lob
-    @Column(name = "content", columnDefinition = "TEXT")
-    private String content;
+    // Denormalized from the first image so list queries never read or parse the images JSON
+    @Column(name = "cover_image_url", length = 1000)
+    private String coverImageUrl;
 
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
@@ -63,7 +80,9 @@ public class Article {
     @Column(name = "featured", nullable = false)
     private Boolean featured = false;
 
-    @Column(name = "images", columnDefinition = "TEXT")
+    // jsonb arrays of ImageRef/VideoRef, kept as the raw JSON text so reads can pass them through unparsed
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "images")
     private String images = "[]";
 
     @Column(name = "publish_date")
@@ -81,18 +100,28 @@ public class Article {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
 
-    @Column(name = "videos", columnDefinition = "TEXT")
+    // Incremented on every update; a stale version makes the update fail instead of overwriting.
+    // Null until persisted (Hibernate starts it at 0): Spring Data takes a null version for a new entity
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "videos")
     private String videos = "[]";
 
     @Column(name = "views", nullable = false)
     private Integer views = 0;
 
-    // Temporarily comment out @ElementCollection to isolate the issue
-    // @ElementCollection(fetch = FetchType.LAZY)
-    // @CollectionTable(name = "article_tags", joinColumns = @JoinColumn(name = "article_id"))
-    // @Column(name = "tag", length = 50)
-    @Transient
-    private List<String> tags = new ArrayList<>();
+    // Loaded lazily, and for up to 50 articles per query when several articles' tags are touched
+    @ElementCollection(fetch = FetchType.LAZY)
+    @CollectionTable(name = "article_tags",
+                     joinColumns = @JoinColumn(name = "article_id"),
+                     indexes = @Index(name = "idx_article_tags_tag", columnList = "tag, article_id"))
+    @Column(name = "tag", length = 50, nullable = false)
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.ARTICLE_TAGS)
+    private Set<String> tags = new LinkedHashSet<>();
 
     // Constructors
     public Article() {}
@@ -120,14 +149,6 @@ public class Article {
         this.title = title;
     }
 
-    public String getContent() {
-        return content;
-    }
-
-    public void setContent(String content) {
-        this.content = content;
-    }
-
     public String getExcerpt() {
         return excerpt;
     }
@@ -167,16 +188,40 @@ public class Article {
         return views;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public void setViews(Integer views) {
         this.views = views;
     }
 
-    public List<String> getTags() {
+    public Set<String> getTags() {
         return tags;
     }
 
-    public void setTags(List<String> tags) {
-        this.tags = tags != null ? tags : new ArrayList<>();
+    /**
+     * Replace the tags in place (keeping Hibernate's collection), trimmed and without duplicates
+     */
+    public void setTags(Collection<String> tags) {
+        Set<String> trimmed = new LinkedHashSet<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag != null && !tag.trim().isEmpty()) {
+                    trimmed.add(tag.trim());
+                }
+            }
+        }
+        // Leave the collection untouched when the tags are the same, so Hibernate does not rewrite its rows
+        if (trimmed.equals(this.tags)) {
+            return;
+        }
+        this.tags.clear();
+        this.tags.addAll(trimmed);
     }
 
     public String getImages() {
@@ -187,6 +232,14 @@ public class Article {
         this.images = images != null ? images : "[]";
     }
 
+    public String getCoverImageUrl() {
+        return coverImageUrl;
+    }
+
+    public void setCoverImageUrl(String coverImageUrl) {
+        this.coverImageUrl = coverImageUrl;
+    }
+
     public String getVideos() {
         return videos;
     }
@@ -229,7 +282,7 @@ public class Article {
 
     // Utility methods
     public void addTag(String tag) {
-        if (tag != null && !tag.trim().isEmpty() && !tags.contains(tag.trim())) {
+        if (tag != null && !tag.trim().isEmpty()) {
             tags.add(tag.trim());
         }
     }
@@ -0,0 +1,132 @@
+package com.wildlife.article.core;
+
+/**
+ * Application event published by the article service whenever an article is written.
+ * Listeners that maintain in-memory views of articles (search index, caches, counters)
+ * should consume it after the surrounding transaction commits. The article is snapshotted
+ * when the event is created, inside the writing transaction.
+ */
+public class ArticleChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final ArticleSnapshot article;
+    private final boolean publishedBefore;
+    private final String categoryBefore;
+    private final boolean featuredBefore;
+
+    // Body as written, when the writer had it at hand (it is not part of the Article row)
+    private String content;
+    private boolean contentKnown;
+
+    private ArticleChangedEvent(Type type, Article article, boolean publishedBefore,
+                                String categoryBefore, boolean featuredBefore) {
+        this.type = type;
+        this.article = ArticleSnapshot.of(article);
+        this.publishedBefore = publishedBefore;
+        this.categoryBefore = categoryBefore;
+        this.featuredBefore = featuredBefore;
+    }
+
+    public static ArticleChangedEvent created(Article article) {
+        return new ArticleChangedEvent(Type.CREATED, article, false, null, false);
+    }
+
+    /**
+     * An update that did not change the category or featured flag
+     */
+    public static ArticleChangedEvent updated(Article article, boolean publishedBefore) {
+        return updated(article, publishedBefore, article.getCategory(), Boolean.TRUE.equals(article.getFeatured()));
+    }
+
+    public static ArticleChangedEvent updated(Article article, boolean publishedBefore,
+                                              String categoryBefore, boolean featuredBefore) {
+        return new ArticleChangedEvent(Type.UPDATED, article, publishedBefore, categoryBefore, featuredBefore);
+    }
+
+    public static ArticleChangedEvent deleted(Article article) {
+        return new ArticleChangedEvent(Type.DELETED, article, article.isPublished(),
+                article.getCategory(), Boolean.TRUE.equals(article.getFeatured()));
+    }
+
+    /**
+     * Attach the article body as written by this change, so listeners do not have to load it
+     */
+    public ArticleChangedEvent withContent(String content) {
+        this.content = content;
+        this.contentKnown = true;
+        return this;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * The article as written; for deletions, its state just before removal
+     */
+    public ArticleSnapshot getArticle() {
+        return article;
+    }
+
+    public Long getArticleId() {
+        return article.getId();
+    }
+
+    /**
+     * Whether {@link #getContent()} holds the body after this change; when false, load it if needed
+     */
+    public boolean isContentKnown() {
+        return contentKnown;
+    }
+
+    /**
+     * Body after this change, when {@link #isContentKnown()}; null means the article has no body
+     */
+    public String getContent() {
+        return content;
+    }
+
+    /**
+     * Whether the article was publicly visible before this change
+     */
+    public boolean isPublishedBefore() {
+        return publishedBefore;
+    }
+
+    /**
+     * Category before this change; null for creations
+     */
+    public String getCategoryBefore() {
+        return categoryBefore;
+    }
+
+    /**
+     * Whether the article was featured before this change; false for creations
+     */
+    public boolean isFeaturedBefore() {
+        return featuredBefore;
+    }
+
+    /**
+     * Whether the article is publicly visible after this change
+     */
+    public boolean isPublishedAfter() {
+        return type != Type.DELETED && article.isPublished();
+    }
+
+    @Override
+    public String toString() {
+        return "ArticleChangedEvent{" +
+                "type=" + type +
+                ", articleId=" + article.getId() +
+                ", publishedBefore=" + publishedBefore +
+                ", publishedAfter=" + isPublishedAfter() +
+                '}';
+    }
+}
@@ -0,0 +1,83 @@
+package com.wildlife.article.core;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Immutable copy of an article's fields and tags, taken inside the writing transaction.
+ * {@link ArticleChangedEvent} carries this instead of the entity, so after-commit listeners see
+ * the values as written and never touch a lazy association outside a session.
+ */
+public final class ArticleSnapshot {
+
+    private final Long id;
+    private final String title;
+    private final String excerpt;
+    private final String category;
+    private final boolean featured;
+    private final boolean published;
+    private final LocalDateTime publishDate;
+    private final Integer views;
+    private final Long authorId;
+    private final List<String> tags;
+
+    private ArticleSnapshot(Article article) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.excerpt = article.getExcerpt();
+        this.category = article.getCategory();
+        this.featured = article.isFeatured();
+        this.published = article.isPublished();
+        this.publishDate = article.getPublishDate();
+        this.views = article.getViews();
+        this.authorId = article.getAuthorId();
+        this.tags = article.getTags() != null ? List.copyOf(article.getTags()) : List.of();
+    }
+
+    /**
+     * Copy the article; must run while its tags can still be loaded
+     */
+    public static ArticleSnapshot of(Article article) {
+        return new ArticleSnapshot(article);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public boolean isFeatured() {
+        return featured;
+    }
+
+    public boolean isPublished() {
+        return published;
+    }
+
+    public LocalDateTime getPublishDate() {
+        return publishDate;
+    }
+
+    public Integer getViews() {
+        return views;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+}
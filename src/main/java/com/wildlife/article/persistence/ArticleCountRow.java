@@ -0,0 +1,13 @@
+package com.wildlife.article.persistence;
+
+/**
+ * Number of published articles sharing a category and featured flag
+ */
+public interface ArticleCountRow {
+
+    String getCategory();
+
+    Boolean getFeatured();
+
+    Long getTotal();
+}
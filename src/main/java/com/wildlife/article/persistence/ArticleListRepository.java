@@ -0,0 +1,36 @@
+package com.wildlife.article.persistence;
+
+import com.wildlife.article.api.ArticleSummaryDto;
+import com.wildlife.article.core.Article;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Custom repository fragment for article list views.
+ * Applies a Specification but selects only the columns shown in article lists,
+ * so filtered pages never load article bodies or media JSON.
+ * Rows are the same {@link ArticleSummaryDto} returned by ArticleRepository's list queries.
+ */
+public interface ArticleListRepository {
+
+    /**
+     * Page of list rows matching the specification.
+     * Sorted by the pageable's sort, or newest publish date first, with id as tie-breaker.
+     */
+    Page<ArticleSummaryDto> findListPage(Specification<Article> spec, Pageable pageable);
+
+    /**
+     * Slice of list rows matching the specification, in the same order as findListPage.
+     * Reads one row more than the page size to tell whether a next page exists, and never counts.
+     */
+    Slice<ArticleSummaryDto> findListSlice(Specification<Article> spec, Pageable pageable);
+
+    /**
+     * First rows matching the specification, newest publish date first, for keyset pagination
+     */
+    List<ArticleSummaryDto> findList(Specification<Article> spec, int limit);
+}
@@ -0,0 +1,115 @@
+package com.wildlife.article.persistence;
+
+import com.wildlife.article.api.ArticleSummaryDto;
+import com.wildlife.article.core.Article;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria implementation of {@link ArticleListRepository}.
+ */
+class ArticleListRepositoryImpl implements ArticleListRepository {
+
+    // Columns rendered by article cards, in ArticleSummaryDto constructor order;
+    // content, images and videos are not selected
+    private static final List<String> LIST_COLUMNS = List.of(
+            "id", "title", "excerpt", "category", "published", "featured", "views",
+            "authorId", "coverImageUrl", "publishDate", "createdAt", "updatedAt");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ArticleSummaryDto> findListPage(Specification<Article> spec, Pageable pageable) {
+        TypedQuery<ArticleSummaryDto> query = entityManager.createQuery(listQuery(spec, pageable.getSort()));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        List<ArticleSummaryDto> content = query.getResultList();
+
+        // The count query is skipped when the page itself shows the total (first or last page)
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    @Override
+    public Slice<ArticleSummaryDto> findListSlice(Specification<Article> spec, Pageable pageable) {
+        TypedQuery<ArticleSummaryDto> query = entityManager.createQuery(listQuery(spec, pageable.getSort()));
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList(), pageable, false);
+        }
+        List<ArticleSummaryDto> rows = query
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<ArticleSummaryDto> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<ArticleSummaryDto> findList(Specification<Article> spec, int limit) {
+        return entityManager.createQuery(listQuery(spec, Sort.unsorted()))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private CriteriaQuery<ArticleSummaryDto> listQuery(Specification<Article> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ArticleSummaryDto> query = cb.createQuery(ArticleSummaryDto.class);
+        Root<Article> root = query.from(Article.class);
+
+        Selection<?>[] selections = LIST_COLUMNS.stream()
+                .map(root::get)
+                .toArray(Selection<?>[]::new);
+        query.select(cb.construct(ArticleSummaryDto.class, selections));
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        List<Order> orders = new ArrayList<>();
+        if (sort.isSorted()) {
+            orders.addAll(QueryUtils.toOrders(sort, root, cb));
+        } else {
+            orders.add(cb.desc(root.get("publishDate")));
+        }
+        if (sort.getOrderFor("id") == null) {
+            // Stable order across pages when sort keys tie
+            orders.add(cb.desc(root.get("id")));
+        }
+        query.orderBy(orders);
+        return query;
+    }
+
+    private long count(Specification<Article> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Article> root = query.from(Article.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
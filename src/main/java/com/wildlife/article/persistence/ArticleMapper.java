@@ -1,11 +1,13 @@
 package com.wildlife.article.persistence;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.wildlife.article.api.ArticleDto;
+import com.wildlife.article.api.ImageRef;
+import com.wildlife.article.api.VideoRef;
 import com.wildlife.article.core.Article;
+import com.wildlife.shared.config.JsonSupport;
 import com.wildlife.user.persistence.UserMapper;
+import org.mapstruct.AfterMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -15,9 +17,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * MapStruct mapper for Article entity and ArticleDto conversion.
@@ -29,7 +29,6 @@ import java.util.Map;
 public abstract class ArticleMapper {
     
     protected static final Logger logger = LoggerFactory.getLogger(ArticleMapper.class);
-    protected static final ObjectMapper objectMapper = new ObjectMapper();
 
     @Autowired
     protected UserMapper userMapper;
@@ -39,17 +38,26 @@ public abstract class ArticleMapper {
      */
     @Mapping(target = "authorId", source = "authorId")
     @Mapping(target = "author", ignore = true)
-    @Mapping(target = "images", source = "images", qualifiedByName = "stringToImageList")
-    @Mapping(target = "videos", source = "videos", qualifiedByName = "stringToVideoList")
+    @Mapping(target = "imagesJson", source = "images")
+    @Mapping(target = "videosJson", source = "videos")
+    @Mapping(target = "images", ignore = true)
+    @Mapping(target = "videos", ignore = true)
+    @Mapping(target = "content", ignore = true)
+    @Mapping(target = "body", ignore = true)
     public abstract ArticleDto toDto(Article article);
 
     /**
-     * Convert ArticleDto to Article entity
+     * Convert ArticleDto to a new Article entity; a client-sent id is ignored so it is persisted,
+     * never merged over an existing article
      */
+    @Mapping(target = "id", ignore = true)
     @Mapping(target = "authorId", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "publishDate", ignore = true)
+    @Mapping(target = "coverImageUrl", ignore = true)
+    @Mapping(target = "tags", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "images", source = "images", qualifiedByName = "imageListToString")
     @Mapping(target = "videos", source = "videos", qualifiedByName = "videoListToString")
     public abstract Article toEntity(ArticleDto articleDto);
@@ -72,78 +80,73 @@ public abstract class ArticleMapper {
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "publishDate", ignore = true)
+    @Mapping(target = "coverImageUrl", ignore = true)
+    @Mapping(target = "tags", ignore = true)
     @Mapping(target = "views", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @Mapping(target = "images", source = "images", qualifiedByName = "imageListToString")
     @Mapping(target = "videos", source = "videos", qualifiedByName = "videoListToString")
     public abstract void updateEntityFromDto(ArticleDto articleDto, @MappingTarget Article article);
 
     /**
-     * Convert JSON string to List of image objects
+     * Keep the denormalized cover image in step with the images written to the entity.
+     * Skipped when the DTO carries no images, since the update mapping leaves them unchanged then.
      */
-    @Named("stringToImageList")
-    protected List<Map<String, Object>> stringToImageList(String imagesJson) {
-        if (imagesJson == null || imagesJson.trim().isEmpty() || "[]".equals(imagesJson.trim())) {
-            return new ArrayList<>();
-        }
-        
-        try {
-            TypeReference<List<Map<String, Object>>> typeRef = new TypeReference<List<Map<String, Object>>>() {};
-            return objectMapper.readValue(imagesJson, typeRef);
-        } catch (JsonProcessingException e) {
-            logger.error("Error converting images JSON string to list: {}", imagesJson, e);
-            return new ArrayList<>();
+    @AfterMapping
+    protected void updateCoverImage(ArticleDto articleDto, @MappingTarget Article article) {
+        if (articleDto.getImages() != null) {
+            article.setCoverImageUrl(coverImageUrl(articleDto.getImages()));
         }
     }
 
     /**
-     * Convert JSON string to List of video objects
+     * Copy tags through Article.setTags, which trims and de-duplicates them into the
+     * existing collection instead of replacing it
      */
-    @Named("stringToVideoList")
-    protected List<Map<String, Object>> stringToVideoList(String videosJson) {
-        if (videosJson == null || videosJson.trim().isEmpty() || "[]".equals(videosJson.trim())) {
-            return new ArrayList<>();
+    @AfterMapping
+    protected void updateTags(ArticleDto articleDto, @MappingTarget Article article) {
+        if (articleDto.getTags() != null) {
+            article.setTags(articleDto.getTags());
         }
-        
-        try {
-            TypeReference<List<Map<String, Object>>> typeRef = new TypeReference<List<Map<String, Object>>>() {};
-            return objectMapper.readValue(videosJson, typeRef);
-        } catch (JsonProcessingException e) {
-            logger.error("Error converting videos JSON string to list: {}", videosJson, e);
-            return new ArrayList<>();
+    }
+
+    /**
+     * URL of the first image, used as the article's card image in list views
+     */
+    public static String coverImageUrl(List<ImageRef> images) {
+        if (images == null || images.isEmpty() || images.get(0) == null) {
+            return null;
         }
+        String url = images.get(0).url();
+        return url != null && !url.isBlank() ? url : null;
     }
 
     /**
-     * Convert List of image objects to JSON string
+     * Convert List of images to the stored JSON array
      */
     @Named("imageListToString")
-    protected String imageListToString(List<Map<String, Object>> images) {
-        if (images == null || images.isEmpty()) {
-            return "[]";
-        }
-        
-        try {
-            return objectMapper.writeValueAsString(images);
-        } catch (JsonProcessingException e) {
-            logger.error("Error converting images list to JSON string", e);
-            return "[]";
-        }
+    public String imageListToString(List<ImageRef> images) {
+        return writeList(images, "images");
     }
 
     /**
-     * Convert List of video objects to JSON string
+     * Convert List of videos to the stored JSON array
      */
     @Named("videoListToString")
-    protected String videoListToString(List<Map<String, Object>> videos) {
-        if (videos == null || videos.isEmpty()) {
+    public String videoListToString(List<VideoRef> videos) {
+        return writeList(videos, "videos");
+    }
+
+    private String writeList(List<?> items, String name) {
+        if (items == null || items.isEmpty()) {
             return "[]";
         }
-        
+
         try {
-            return objectMapper.writeValueAsString(videos);
+            return JsonSupport.writer().writeValueAsString(items);
         } catch (JsonProcessingException e) {
-            logger.error("Error converting videos list to JSON string", e);
+            logger.error("Error converting {} list to JSON string", name, e);
             return "[]";
         }
     }
-} 
\ No newline at end of file
+}
@@ -1,26 +1,42 @@
 package com.wildlife.article.persistence;
 
+import com.wildlife.article.api.ArticleSummaryDto;
 import com.wildlife.article.core.Article;
+import com.wildlife.shared.config.EntityCacheConfig;
 import com.wildlife.user.core.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Article entity operations.
  * Provides standard CRUD operations and custom queries for article management.
  */
 @Repository
-public interface ArticleRepository extends JpaRepository<Article, Long>, JpaSpecificationExecutor<Article> {
+public interface ArticleRepository extends JpaRepository<Article, Long>, JpaSpecificationExecutor<Article>,
+        ArticleListRepository {
+
+    /**
+     * Constructor expression shared by the list queries below: card columns only, so lists never
+     * load article content or the images/videos JSON
+     */
+    String SUMMARY_SELECT = "SELECT new com.wildlife.article.api.ArticleSummaryDto(" +
+            "a.id, a.title, a.excerpt, a.category, a.published, a.featured, a.views, a.authorId, " +
+            "a.coverImageUrl, a.publishDate, a.createdAt, a.updatedAt) FROM Article a ";
 
     /**
      * Find all published articles with pagination
@@ -38,14 +54,23 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, JpaSpec
     List<Article> findByPublishedTrueAndFeaturedTrueOrderByPublishDateDesc();
 
     /**
-     * Find featured articles with pagination
+     * Featured article summaries, newest first. Served from the query cache until an article is
+     * written through JPA; view counts in it may trail by up to the region's time-to-live.
      */
-    Page<Article> findByPublishedTrueAndFeaturedTrueOrderByPublishDateDesc(Pageable pageable);
+    @Query(SUMMARY_SELECT + "WHERE a.published = true AND a.featured = true AND a.publishDate IS NOT NULL " +
+           "ORDER BY a.publishDate DESC, a.id DESC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheConfig.ARTICLE_FEATURED)
+    })
+    List<ArticleSummaryDto> findFeaturedSummaries(Pageable pageable);
 
     /**
-     * Find articles by author ID
+     * Article summaries by author ID, newest first
      */
-    Page<Article> findByAuthorIdOrderByCreatedAtDesc(Long authorId, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE a.authorId = :authorId ORDER BY a.createdAt DESC, a.id DESC",
+           countQuery = "SELECT COUNT(a) FROM Article a WHERE a.authorId = :authorId")
+    Page<ArticleSummaryDto> findAuthorSummaries(@Param("authorId") Long authorId, Pageable pageable);
 
     /**
      * Find published articles by author ID
@@ -58,97 +83,179 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, JpaSpec
     Page<Article> findByAuthorIdAndPublishedFalseOrderByCreatedAtDesc(Long authorId, Pageable pageable);
 
     /**
-     * Find articles by category
+     * Articles with the given ids, tags included, in one query; the result order is undefined
      */
-    Page<Article> findByPublishedTrueAndCategoryOrderByPublishDateDesc(String category, Pageable pageable);
+    @Query("SELECT DISTINCT a FROM Article a LEFT JOIN FETCH a.tags WHERE a.id IN :ids")
+    List<Article> findAllWithTagsByIdIn(@Param("ids") Collection<Long> ids);
 
     /**
-     * Find articles containing any of the specified tags
-     * Using EXISTS for better H2 compatibility
-     * Temporarily commented out due to tags field being @Transient
+     * Keyset pagination - first page of a category feed ordered by (publish_date, id)
      */
-    /*
-    @Query("SELECT a FROM Article a WHERE a.published = true AND EXISTS " +
-           "(SELECT t FROM Article a2 JOIN a2.tags t WHERE a2 = a AND t IN :tags) " +
-           "ORDER BY a.publishDate DESC")
-    Page<Article> findByPublishedTrueAndTagsIn(@Param("tags") List<String> tags, Pageable pageable);
-    */
+    @Query(SUMMARY_SELECT + "WHERE a.published = true AND a.category = :category " +
+           "AND a.publishDate IS NOT NULL ORDER BY a.publishDate DESC, a.id DESC")
+    List<ArticleSummaryDto> findCategoryFeed(@Param("category") String category, Pageable pageable);
 
     /**
-     * Search published articles by title, content, or excerpt
-     * Using native SQL to avoid JPQL validation issues with LOWER function
+     * Keyset pagination - category feed page seeking past the (publish_date, id) cursor
      */
-    @Query(value = "SELECT * FROM articles a WHERE a.published = true AND " +
-           "(LOWER(a.title) LIKE :searchPattern OR " +
-           "LOWER(a.content) LIKE :searchPattern OR " +
-           "LOWER(a.excerpt) LIKE :searchPattern) " +
-           "ORDER BY a.publish_date DESC", 
-           nativeQuery = true)
-    Page<Article> searchPublishedArticles(@Param("searchPattern") String searchPattern, Pageable pageable);
+    @Query(SUMMARY_SELECT + "WHERE a.published = true AND a.category = :category " +
+           "AND a.publishDate IS NOT NULL AND " +
+           "(a.publishDate < :publishDate OR (a.publishDate = :publishDate AND a.id < :id)) " +
+           "ORDER BY a.publishDate DESC, a.id DESC")
+    List<ArticleSummaryDto> findCategoryFeedBefore(@Param("category") String category,
+                                                   @Param("publishDate") LocalDateTime publishDate,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+
+    /**
+     * Keyset pagination - first page of an author feed ordered by (created_at, id)
+     */
+    @Query(SUMMARY_SELECT + "WHERE a.authorId = :authorId ORDER BY a.createdAt DESC, a.id DESC")
+    List<ArticleSummaryDto> findAuthorFeed(@Param("authorId") Long authorId, Pageable pageable);
+
+    /**
+     * Keyset pagination - author feed page seeking past the (created_at, id) cursor
+     */
+    @Query(SUMMARY_SELECT + "WHERE a.authorId = :authorId AND " +
+           "(a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.id < :id)) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ArticleSummaryDto> findAuthorFeedBefore(@Param("authorId") Long authorId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
+
+    /**
+     * Published article summaries by id, in no particular order (callers restore their own order)
+     */
+    @Query(SUMMARY_SELECT + "WHERE a.published = true AND a.id IN :ids")
+    List<ArticleSummaryDto> findPublishedSummariesByIds(@Param("ids") Collection<Long> ids);
 
     /**
-     * Get published articles using native SQL to bypass entity mapping issues
-     * Returns raw data that can be manually mapped to DTOs
+     * Full-text search of published articles ranked by ts_rank_cd, keyset paginated on (score, id).
+     * Uses the trigger-maintained search_vector column (PostgreSQL only, see 03_full_text_search.sql).
+     * ts_headline runs in the outer query so only the rows of the returned page are highlighted; it
+     * highlights the excerpt, since bodies are stored apart and may be compressed (11_article_content.sql).
      */
-    @Query(value = "SELECT a.id, a.title, a.excerpt, a.category, a.published, a.featured, " +
-                   "a.views, a.author_id, a.created_at, a.updated_at, a.publish_date " +
-                   "FROM articles a WHERE a.published = true " +
-                   "ORDER BY a.publish_date DESC", 
+    @Query(value = "SELECT p.id AS id, p.title AS title, p.excerpt AS excerpt, p.category AS category, " +
+           "p.featured AS featured, p.views AS views, p.author_id AS authorId, " +
+           "p.publish_date AS publishDate, p.score AS score, " +
+           "ts_headline('english', coalesce(p.excerpt, ''), p.query, " +
+           "'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10') AS snippet " +
+           "FROM (SELECT a.id, a.title, a.excerpt, a.category, a.featured, a.views, " +
+           "a.author_id, a.publish_date, q.query, ts_rank_cd(a.search_vector, q.query) AS score " +
+           "FROM articles a CROSS JOIN websearch_to_tsquery('english', :query) AS q(query) " +
+           "WHERE a.published = true AND a.search_vector @@ q.query " +
+           "AND (ts_rank_cd(a.search_vector, q.query) < :score " +
+           "OR (ts_rank_cd(a.search_vector, q.query) = :score AND a.id < :id)) " +
+           "ORDER BY score DESC, a.id DESC LIMIT :limit) p " +
+           "ORDER BY p.score DESC, p.id DESC",
            nativeQuery = true)
-    List<Object[]> findPublishedArticlesNative(Pageable pageable);
-
-    /**
-     * Complex search with multiple filters
-     * Using native SQL to avoid JPQL validation issues with LOWER function
-     * Temporarily commented out due to tags field being @Transient
-     */
-    /*
-    @Query(value = "SELECT DISTINCT a.* FROM articles a LEFT JOIN article_tags at ON a.id = at.article_id " +
-           "WHERE a.published = true " +
-           "AND (:searchTerm IS NULL OR " +
-           "LOWER(a.title) LIKE :searchTerm OR " +
-           "LOWER(a.content) LIKE :searchTerm OR " +
-           "LOWER(a.excerpt) LIKE :searchTerm) " +
-           "AND (:category IS NULL OR a.category = :category) " +
-           "AND (:featured IS NULL OR a.featured = :featured) " +
-           "AND (:tags IS NULL OR at.tag IN (:tags)) " +
-           "ORDER BY a.publish_date DESC", 
+    List<ArticleSearchRow> searchRanked(@Param("query") String query,
+                                        @Param("score") float score,
+                                        @Param("id") long id,
+                                        @Param("limit") int limit);
+
+    /**
+     * Typo-tolerant fallback: published articles whose title contains a word similar to the term.
+     * Served by the trigram index on title (PostgreSQL only, see 03_full_text_search.sql).
+     */
+    @Query(value = "SELECT a.id AS id, a.title AS title, a.excerpt AS excerpt, a.category AS category, " +
+           "a.featured AS featured, a.views AS views, a.author_id AS authorId, " +
+           "a.publish_date AS publishDate, word_similarity(:query, a.title) AS score, " +
+           "CAST(NULL AS TEXT) AS snippet " +
+           "FROM articles a WHERE a.published = true AND :query <% a.title " +
+           "ORDER BY score DESC, a.id DESC LIMIT :limit",
            nativeQuery = true)
-    Page<Article> searchWithFilters(@Param("searchTerm") String searchTerm,
-                                   @Param("category") String category,
-                                   @Param("featured") Boolean featured,
-                                   @Param("tags") List<String> tags,
-                                   Pageable pageable);
-    */
+    List<ArticleSearchRow> searchTitleSimilar(@Param("query") String query, @Param("limit") int limit);
+
+    /**
+     * Portable search fallback for databases without full-text support (H2 test profile).
+     * Matches title or excerpt only and pages on (publish_date, id).
+     * The pattern escapes % and _ with a backslash ({@link ArticleSpecifications#containsPattern}).
+     */
+    @Query("SELECT a FROM Article a WHERE a.published = true AND a.publishDate IS NOT NULL AND " +
+           "(LOWER(a.title) LIKE :searchPattern ESCAPE '\\' OR " +
+           "LOWER(a.excerpt) LIKE :searchPattern ESCAPE '\\') " +
+           "ORDER BY a.publishDate DESC, a.id DESC")
+    List<Article> searchPublishedFeed(@Param("searchPattern") String searchPattern, Pageable pageable);
+
+    /**
+     * Portable search fallback page seeking past the (publish_date, id) cursor
+     */
+    @Query("SELECT a FROM Article a WHERE a.published = true AND a.publishDate IS NOT NULL AND " +
+           "(LOWER(a.title) LIKE :searchPattern ESCAPE '\\' OR " +
+           "LOWER(a.excerpt) LIKE :searchPattern ESCAPE '\\') AND " +
+           "(a.publishDate < :publishDate OR (a.publishDate = :publishDate AND a.id < :id)) " +
+           "ORDER BY a.publishDate DESC, a.id DESC")
+    List<Article> searchPublishedFeedBefore(@Param("searchPattern") String searchPattern,
+                                            @Param("publishDate") LocalDateTime publishDate,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
 
     /**
-     * Find recent articles
+     * Stream all published articles in batches, for building in-memory indexes.
+     * Must be consumed inside a transaction and closed by the caller.
      */
-    @Query("SELECT a FROM Article a WHERE a.published = true AND a.publishDate >= :since ORDER BY a.publishDate DESC")
-    List<Article> findRecentArticles(@Param("since") LocalDateTime since, Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT a FROM Article a WHERE a.published = true")
+    Stream<Article> streamPublished();
 
     /**
-     * Find most viewed articles
+     * Stream id, title, excerpt and category of all published articles, for building the
+     * related-articles graph. Must be consumed inside a transaction and closed by the caller.
      */
-    Page<Article> findByPublishedTrueOrderByViewsDescPublishDateDesc(Pageable pageable);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.id AS id, a.title AS title, a.excerpt AS excerpt, a.category AS category " +
+           "FROM Article a WHERE a.published = true")
+    Stream<ArticleTextRow> streamPublishedText();
 
     /**
-     * Get all unique categories
+     * Summaries of articles published since the given date, newest first
+     */
+    @Query(SUMMARY_SELECT + "WHERE a.published = true AND a.publishDate >= :since " +
+           "ORDER BY a.publishDate DESC, a.id DESC")
+    List<ArticleSummaryDto> findRecentSummaries(@Param("since") LocalDateTime since, Pageable pageable);
+
+    /**
+     * Most viewed published article summaries
+     */
+    @Query(value = SUMMARY_SELECT + "WHERE a.published = true " +
+           "ORDER BY a.views DESC, a.publishDate DESC, a.id DESC",
+           countQuery = "SELECT COUNT(a) FROM Article a WHERE a.published = true")
+    Page<ArticleSummaryDto> findMostViewedSummaries(Pageable pageable);
+
+    /**
+     * Most viewed published article summaries, without a count query (reads one row past the page)
+     */
+    @Query(SUMMARY_SELECT + "WHERE a.published = true ORDER BY a.views DESC, a.publishDate DESC, a.id DESC")
+    Slice<ArticleSummaryDto> findMostViewedSlice(Pageable pageable);
+
+    /**
+     * Get all unique categories, from the query cache until an article is written through JPA
      */
     @Query("SELECT DISTINCT a.category FROM Article a WHERE a.published = true AND a.category IS NOT NULL ORDER BY a.category")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = EntityCacheConfig.ARTICLE_CATEGORIES)
+    })
     List<String> findDistinctCategories();
 
     /**
-     * Get all unique tags
-     * Using native query for better H2 compatibility
-     * Temporarily commented out due to tags field being @Transient
+     * Stream (article id, publish date, tag) for every tag of every published article, grouped by
+     * article, for building the in-memory tag index. Must be consumed inside a transaction and closed.
      */
-    /*
-    @Query(value = "SELECT DISTINCT tag FROM article_tags at " +
-                   "JOIN articles a ON at.article_id = a.id " +
-                   "WHERE a.published = true ORDER BY tag", nativeQuery = true)
-    List<String> findDistinctTags();
-    */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT a.id AS articleId, a.publishDate AS publishDate, t AS tag " +
+           "FROM Article a JOIN a.tags t WHERE a.published = true ORDER BY a.id")
+    Stream<ArticleTagRow> streamPublishedTags();
+
+    /**
+     * Number of feed-visible published articles per (category, featured), to seed and reconcile the
+     * cached totals of paged feeds
+     */
+    @Query("SELECT a.category AS category, a.featured AS featured, COUNT(a) AS total FROM Article a " +
+           "WHERE a.published = true AND a.publishDate IS NOT NULL GROUP BY a.category, a.featured")
+    List<ArticleCountRow> countPublishedByCategoryAndFeatured();
 
     /**
      * Count published articles
@@ -175,42 +282,15 @@ public interface ArticleRepository extends JpaRepository<Article, Long>, JpaSpec
      */
     long countByPublishedTrueAndCategory(String category);
 
-    /**
-     * Increment view count
-     */
-    @Modifying
-    @Query("UPDATE Article a SET a.views = a.views + 1 WHERE a.id = :articleId")
-    void incrementViews(@Param("articleId") Long articleId);
-
     /**
      * Find article by ID (simplified without author join)
      */
     Optional<Article> findById(Long articleId);
 
-    /**
-     * Find related articles by tags and category
-     * Temporarily commented out due to tags field being @Transient
-     */
-    /*
-    @Query("SELECT DISTINCT a FROM Article a LEFT JOIN a.tags t WHERE a.published = true AND a.id != :excludeId " +
-           "AND (a.category = :category OR t IN :tags) " +
-           "ORDER BY a.publishDate DESC")
-    List<Article> findRelatedArticles(@Param("excludeId") Long excludeId,
-                                     @Param("category") String category,
-                                     @Param("tags") List<String> tags,
-                                     Pageable pageable);
-    */
-
     /**
      * Find articles published between dates
      */
     @Query("SELECT a FROM Article a WHERE a.published = true AND a.publishDate BETWEEN :startDate AND :endDate ORDER BY a.publishDate DESC")
     List<Article> findPublishedBetweenDates(@Param("startDate") LocalDateTime startDate,
                                            @Param("endDate") LocalDateTime endDate);
-
-    /**
-     * Find top articles by views in a time period
-     */
-    @Query("SELECT a FROM Article a WHERE a.published = true AND a.publishDate >= :since ORDER BY a.views DESC, a.publishDate DESC")
-    List<Article> findTopViewedSince(@Param("since") LocalDateTime since, Pageable pageable);
 } 
\ No newline at end of file
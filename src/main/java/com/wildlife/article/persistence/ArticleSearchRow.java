@@ -0,0 +1,31 @@
+package com.wildlife.article.persistence;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a ranked search result row.
+ * Carries only the list columns plus the relevance score and highlighted snippet,
+ * so search never loads article bodies into the persistence context.
+ */
+public interface ArticleSearchRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    String getCategory();
+
+    Boolean getFeatured();
+
+    Integer getViews();
+
+    Long getAuthorId();
+
+    LocalDateTime getPublishDate();
+
+    Float getScore();
+
+    String getSnippet();
+}
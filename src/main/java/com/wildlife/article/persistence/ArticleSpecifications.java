@@ -0,0 +1,117 @@
+package com.wildlife.article.persistence;
+
+import com.wildlife.article.core.Article;
+import com.wildlife.article.tag.TagMatch;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * Composable query predicates for filtering articles.
+ * Null arguments yield a null specification, which Specification.where/and treat as "no filter",
+ * so optional request parameters can be chained without branching.
+ */
+public final class ArticleSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private ArticleSpecifications() {}
+
+    /**
+     * Published articles with a publish date (the public feed)
+     */
+    public static Specification<Article> isPublished() {
+        return (root, query, cb) -> cb.and(
+                cb.isTrue(root.get("published")),
+                cb.isNotNull(root.get("publishDate")));
+    }
+
+    public static Specification<Article> hasCategory(String category) {
+        if (!StringUtils.hasText(category)) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    /**
+     * Featured (or not featured) articles. Rendered as a literal, not a bound parameter: a generic
+     * plan can only use the partial index on featured = TRUE when the predicate says so itself.
+     */
+    public static Specification<Article> isFeatured(Boolean featured) {
+        if (featured == null) {
+            return null;
+        }
+        return (root, query, cb) -> featured ? cb.isTrue(root.get("featured")) : cb.isFalse(root.get("featured"));
+    }
+
+    /**
+     * Case-insensitive substring match on title or excerpt.
+     * Content is deliberately excluded; use the search endpoint for full-text matching.
+     */
+    public static Specification<Article> matchesText(String search) {
+        if (!StringUtils.hasText(search)) {
+            return null;
+        }
+        String pattern = containsPattern(search);
+        return (root, query, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern, LIKE_ESCAPE),
+                cb.like(cb.lower(root.get("excerpt")), pattern, LIKE_ESCAPE));
+    }
+
+    /**
+     * Keyset predicate: rows strictly after (publishDate, id) in descending feed order
+     */
+    public static Specification<Article> publishedBefore(LocalDateTime publishDate, Long id) {
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.get("publishDate"), publishDate),
+                cb.and(
+                        cb.equal(root.get("publishDate"), publishDate),
+                        cb.lessThan(root.get("id"), id)));
+    }
+
+    /**
+     * Articles with one of the given ids; an empty collection matches nothing
+     */
+    public static Specification<Article> hasIdIn(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return (root, query, cb) -> cb.disjunction();
+        }
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    /**
+     * Articles carrying any (at least one) or all of the tags, via a correlated count on article_tags.
+     * The in-memory TagIndex answers tag filters without SQL; this is the fallback when it cannot.
+     */
+    public static Specification<Article> hasTags(Collection<String> tags, TagMatch match) {
+        if (tags == null || tags.isEmpty()) {
+            return null;
+        }
+        long required = match == TagMatch.ALL ? tags.size() : 1;
+        return (root, query, cb) -> {
+            Subquery<Long> matching = query.subquery(Long.class);
+            Root<Article> tagged = matching.from(Article.class);
+            Join<Article, String> tag = tagged.join("tags");
+            matching.select(cb.countDistinct(tag))
+                    .where(cb.equal(tagged.get("id"), root.get("id")), tag.in(tags));
+            return cb.greaterThanOrEqualTo(matching, required);
+        };
+    }
+
+    /**
+     * Lower-cased LIKE pattern matching the text anywhere, with % and _ escaped by a backslash
+     */
+    public static String containsPattern(String text) {
+        return "%" + escapeLike(text.trim().toLowerCase(Locale.ROOT)) + "%";
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
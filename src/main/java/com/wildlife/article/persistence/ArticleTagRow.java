@@ -0,0 +1,15 @@
+package com.wildlife.article.persistence;
+
+import java.time.LocalDateTime;
+
+/**
+ * One (published article, tag) pair, streamed to build the in-memory tag index
+ */
+public interface ArticleTagRow {
+
+    Long getArticleId();
+
+    LocalDateTime getPublishDate();
+
+    String getTag();
+}
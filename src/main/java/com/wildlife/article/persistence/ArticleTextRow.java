@@ -0,0 +1,16 @@
+package com.wildlife.article.persistence;
+
+/**
+ * Short text fields of a published article, streamed to build the related-articles graph
+ * without loading article bodies or media
+ */
+public interface ArticleTextRow {
+
+    Long getId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    String getCategory();
+}
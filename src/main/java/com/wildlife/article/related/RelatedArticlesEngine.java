@@ -0,0 +1,198 @@
+package com.wildlife.article.related;
+
+import com.wildlife.article.core.ArticleChangedEvent;
+import com.wildlife.article.core.ArticleSnapshot;
+import com.wildlife.article.persistence.ArticleRepository;
+import com.wildlife.article.persistence.ArticleTagRow;
+import com.wildlife.article.persistence.ArticleTextRow;
+import com.wildlife.shared.datasource.ReadRouting;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Stream;
+
+/**
+ * Precomputed related-articles lists for every published article, so that a related-articles
+ * request is a single map lookup followed by one summary query.
+ * <p>
+ * The full graph is computed in the background once the application is ready and on a slow timer
+ * (wildlife.related.rebuild-interval-ms), which also re-weights terms as document frequencies drift.
+ * In between, each committed {@link ArticleChangedEvent} that touches a published article
+ * recomputes only the affected neighborhoods (see {@link RelatedGraph#update}).
+ * <p>
+ * All work runs on one worker thread: builds and updates are applied in commit order without
+ * locking, and changes that commit while a build is streaming are queued behind it and re-applied.
+ */
+@Component
+public class RelatedArticlesEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(RelatedArticlesEngine.class);
+
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int neighborCount;
+    private final Timer rebuildTimer;
+    private final Timer updateTimer;
+
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "related-articles");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Null until the first build completes
+    private volatile RelatedGraph graph;
+
+    @Autowired
+    public RelatedArticlesEngine(ArticleRepository articleRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${wildlife.related.neighbors:10}") int neighborCount) {
+        this.articleRepository = articleRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.neighborCount = neighborCount;
+
+        this.rebuildTimer = Timer.builder("wildlife.related.rebuild")
+                .description("Time to compute the related-articles lists of all published articles")
+                .register(meterRegistry);
+        this.updateTimer = Timer.builder("wildlife.related.update")
+                .description("Time to recompute the related-articles lists affected by one article change")
+                .register(meterRegistry);
+        Gauge.builder("wildlife.related.articles", this,
+                        engine -> engine.graph != null ? engine.graph.articleCount() : 0)
+                .description("Published articles with a precomputed related-articles list")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        submit(this::rebuild);
+    }
+
+    @Scheduled(fixedDelayString = "${wildlife.related.rebuild-interval-ms:21600000}",
+               initialDelayString = "${wildlife.related.rebuild-interval-ms:21600000}")
+    public void scheduledRebuild() {
+        submit(this::rebuild);
+    }
+
+    /**
+     * Queue the recomputation of the neighborhoods affected by an article write once it has committed.
+     * Features are taken from the event's snapshot, so the worker never touches the entity.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (!event.isPublishedBefore() && !event.isPublishedAfter()) {
+            // Draft before and after: never related
+            return;
+        }
+        long id = event.getArticleId();
+        RelatedFeatures features = event.isPublishedAfter() ? featuresOf(event.getArticle()) : null;
+        submit(() -> apply(id, features));
+    }
+
+    /**
+     * Whether the first build has completed; before that no lists exist
+     */
+    public boolean isReady() {
+        return graph != null;
+    }
+
+    /**
+     * Ids of up to limit published articles most related to the article, most similar first
+     */
+    public List<Long> getRelated(long articleId, int limit) {
+        RelatedGraph current = graph;
+        return current != null ? current.related(articleId, Math.min(limit, neighborCount)) : List.of();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private void submit(Runnable task) {
+        try {
+            worker.execute(task);
+        } catch (RejectedExecutionException e) {
+            logger.debug("Related-articles worker is shut down; dropping task");
+        }
+    }
+
+    /**
+     * Build a fresh graph from the database and swap it in. Runs on the worker thread.
+     */
+    private void rebuild() {
+        try {
+            RelatedGraph fresh = rebuildTimer.record(this::load);
+            graph = fresh;
+            logger.info("Related articles computed for {} articles", fresh.articleCount());
+        } catch (RuntimeException e) {
+            // Keep serving the previous graph; the next timer tick retries
+            logger.error("Failed to compute related articles", e);
+        }
+    }
+
+    private RelatedGraph load() {
+        Map<Long, ArticleTextRow> texts = new HashMap<>();
+        Map<Long, List<String>> tags = new HashMap<>();
+        ReadRouting.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<ArticleTextRow> rows = articleRepository.streamPublishedText()) {
+                rows.forEach(row -> texts.put(row.getId(), row));
+            }
+            try (Stream<ArticleTagRow> rows = articleRepository.streamPublishedTags()) {
+                rows.forEach(row -> tags.computeIfAbsent(row.getArticleId(), id -> new ArrayList<>()).add(row.getTag()));
+            }
+        }));
+
+        RelatedGraph fresh = new RelatedGraph(neighborCount);
+        for (ArticleTextRow row : texts.values()) {
+            fresh.add(RelatedFeatures.of(row.getId(), row.getTitle(), row.getExcerpt(), row.getCategory(),
+                    tags.getOrDefault(row.getId(), List.of())));
+        }
+        fresh.computeAll();
+        return fresh;
+    }
+
+    /**
+     * Apply one article change to the live graph. Runs on the worker thread.
+     */
+    private void apply(long id, RelatedFeatures features) {
+        RelatedGraph current = graph;
+        if (current == null) {
+            // The pending first build reads this change from the database
+            return;
+        }
+        try {
+            int recomputed = updateTimer.record(() -> current.update(id, features));
+            logger.debug("Related articles updated for article {}: {} lists recomputed", id, recomputed);
+        } catch (RuntimeException e) {
+            logger.error("Failed to update related articles for article {}", id, e);
+        }
+    }
+
+    private static RelatedFeatures featuresOf(ArticleSnapshot article) {
+        return RelatedFeatures.of(article.getId(), article.getTitle(), article.getExcerpt(),
+                article.getCategory(), new ArrayList<>(article.getTags()));
+    }
+}
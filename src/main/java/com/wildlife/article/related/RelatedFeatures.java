@@ -0,0 +1,106 @@
+package com.wildlife.article.related;
+
+import com.wildlife.article.search.Tokenizer;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Immutable similarity features of a published article: its category, its lowercased tags and
+ * the field-weighted term frequencies of its title and excerpt. Terms and tags are kept sorted so
+ * lookups are binary searches. TF-IDF weights are applied at scoring time, with the current
+ * document frequencies of the graph.
+ */
+final class RelatedFeatures {
+
+    // Title words describe the subject more reliably than excerpt words
+    static final float TITLE_WEIGHT = 2.0f;
+    static final float EXCERPT_WEIGHT = 1.0f;
+
+    private final long id;
+    private final String category;
+    private final String[] tags;
+    private final String[] terms;
+    private final float[] frequencies;
+
+    private RelatedFeatures(long id, String category, String[] tags, String[] terms, float[] frequencies) {
+        this.id = id;
+        this.category = category;
+        this.tags = tags;
+        this.terms = terms;
+        this.frequencies = frequencies;
+    }
+
+    static RelatedFeatures of(long id, String title, String excerpt, String category, Collection<String> tags) {
+        Map<String, Float> weighted = new TreeMap<>();
+        for (String term : Tokenizer.tokenize(title)) {
+            weighted.merge(term, TITLE_WEIGHT, Float::sum);
+        }
+        for (String term : Tokenizer.tokenize(excerpt)) {
+            weighted.merge(term, EXCERPT_WEIGHT, Float::sum);
+        }
+
+        String[] terms = new String[weighted.size()];
+        float[] frequencies = new float[weighted.size()];
+        int i = 0;
+        for (Map.Entry<String, Float> entry : weighted.entrySet()) {
+            terms[i] = entry.getKey();
+            frequencies[i] = entry.getValue();
+            i++;
+        }
+
+        TreeSet<String> normalizedTags = new TreeSet<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag != null && !tag.isBlank()) {
+                    normalizedTags.add(tag.trim().toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+
+        String normalizedCategory = category != null && !category.isBlank() ? category.trim() : null;
+        return new RelatedFeatures(id, normalizedCategory, normalizedTags.toArray(new String[0]), terms, frequencies);
+    }
+
+    long getId() {
+        return id;
+    }
+
+    /**
+     * Category, or null when the article has none
+     */
+    String getCategory() {
+        return category;
+    }
+
+    String[] getTags() {
+        return tags;
+    }
+
+    boolean hasTag(String tag) {
+        return Arrays.binarySearch(tags, tag) >= 0;
+    }
+
+    String[] getTerms() {
+        return terms;
+    }
+
+    /**
+     * Weighted frequency of the term at the given position of getTerms()
+     */
+    float frequencyAt(int position) {
+        return frequencies[position];
+    }
+
+    /**
+     * Weighted frequency of the term, zero when absent
+     */
+    float frequency(String term) {
+        int position = Arrays.binarySearch(terms, term);
+        return position >= 0 ? frequencies[position] : 0f;
+    }
+}
@@ -0,0 +1,384 @@
+package com.wildlife.article.related;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Top-k related-article lists over published articles.
+ * Similarity combines a shared category, the Jaccard overlap of tags and the cosine similarity of
+ * the TF-IDF vectors of title and excerpt. Candidates are found through postings by category, tag
+ * and term, so scoring an article never scans the whole corpus.
+ * <p>
+ * A reverse map records which lists each article appears in, so an incremental update recomputes
+ * only the changed article, the articles that listed it, and offers the changed article to the
+ * lists of articles it overlaps with.
+ * <p>
+ * Not thread-safe for writes: all writes must come from a single thread. Neighbor lists are
+ * immutable and published through a concurrent map, so {@link #related} may be called from any thread.
+ */
+final class RelatedGraph {
+
+    static final float CATEGORY_WEIGHT = 0.2f;
+    static final float TAG_WEIGHT = 0.4f;
+    static final float TEXT_WEIGHT = 0.4f;
+
+    // Terms in more than this share of articles carry little signal and would make almost every
+    // article a candidate; they are left out of the text vectors
+    private static final double MAX_TERM_DOCUMENT_SHARE = 0.2;
+    private static final int MIN_MAX_TERM_DOCUMENTS = 10;
+
+    // Best first: score descending, then newer (higher) id first
+    private static final Comparator<Neighbor> BEST_FIRST = Comparator
+            .comparingDouble((Neighbor neighbor) -> neighbor.score)
+            .thenComparingLong(neighbor -> neighbor.id)
+            .reversed();
+
+    private final int neighborCount;
+
+    private final Map<Long, RelatedFeatures> articles = new HashMap<>();
+    private final Map<String, NavigableSet<Long>> byCategory = new HashMap<>();
+    private final Map<String, Set<Long>> byTag = new HashMap<>();
+    private final Map<String, Set<Long>> byTerm = new HashMap<>();
+
+    private final Map<Long, NeighborList> neighbors = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> listedBy = new HashMap<>();
+
+    RelatedGraph(int neighborCount) {
+        this.neighborCount = neighborCount;
+    }
+
+    /**
+     * Add an article's features without computing any lists, for bulk builds followed by computeAll
+     */
+    void add(RelatedFeatures features) {
+        RelatedFeatures previous = articles.put(features.getId(), features);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(features);
+    }
+
+    /**
+     * Compute the list of every article from scratch
+     */
+    void computeAll() {
+        for (RelatedFeatures features : articles.values()) {
+            setNeighbors(features.getId(), topNeighbors(features, scoreCandidates(features)));
+        }
+    }
+
+    /**
+     * Apply a change to one article: new features, or null when it is no longer published.
+     * Returns the number of lists that were recomputed from scratch.
+     */
+    int update(long id, RelatedFeatures features) {
+        Set<Long> affected = new HashSet<>(listedBy.getOrDefault(id, Set.of()));
+        affected.remove(id);
+
+        RelatedFeatures previous = articles.remove(id);
+        if (previous != null) {
+            unindex(previous);
+        }
+
+        int recomputed = 0;
+        if (features == null) {
+            setNeighbors(id, null);
+        } else {
+            articles.put(id, features);
+            index(features);
+            Map<Long, Float> scores = scoreCandidates(features);
+            setNeighbors(id, topNeighbors(features, scores));
+            recomputed++;
+
+            // Similarity is symmetric, so the scores just computed decide whether the article
+            // enters the lists of the articles it overlaps with
+            for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+                if (!affected.contains(entry.getKey())) {
+                    offer(entry.getKey(), id, entry.getValue());
+                }
+            }
+            // Articles sharing only the category enter lists that still have room
+            if (features.getCategory() != null) {
+                for (Long other : byCategory.get(features.getCategory())) {
+                    if (other != id && !scores.containsKey(other) && !affected.contains(other)) {
+                        NeighborList list = neighbors.get(other);
+                        if (list == null || list.size() < neighborCount) {
+                            offer(other, id, CATEGORY_WEIGHT);
+                        }
+                    }
+                }
+            }
+        }
+
+        // Articles that listed this one may rank it differently now, or must replace it
+        for (Long other : affected) {
+            RelatedFeatures otherFeatures = articles.get(other);
+            if (otherFeatures != null) {
+                setNeighbors(other, topNeighbors(otherFeatures, scoreCandidates(otherFeatures)));
+                recomputed++;
+            }
+        }
+        return recomputed;
+    }
+
+    /**
+     * Ids of up to limit related articles, most similar first; empty for unknown articles
+     */
+    List<Long> related(long id, int limit) {
+        NeighborList list = neighbors.get(id);
+        if (list == null) {
+            return List.of();
+        }
+        int size = Math.max(0, Math.min(limit, list.size()));
+        List<Long> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(list.ids[i]);
+        }
+        return ids;
+    }
+
+    int articleCount() {
+        return neighbors.size();
+    }
+
+    /**
+     * Score every article sharing a category, tag or discriminative term with the given one
+     */
+    private Map<Long, Float> scoreCandidates(RelatedFeatures features) {
+        long id = features.getId();
+        int articleCount = articles.size();
+        int maxTermDocuments = Math.max(MIN_MAX_TERM_DOCUMENTS, (int) (articleCount * MAX_TERM_DOCUMENT_SHARE));
+
+        Map<Long, Integer> sharedTags = new HashMap<>();
+        for (String tag : features.getTags()) {
+            for (Long other : byTag.getOrDefault(tag, Set.of())) {
+                if (other != id) {
+                    sharedTags.merge(other, 1, Integer::sum);
+                }
+            }
+        }
+
+        Map<Long, Double> dotProducts = new HashMap<>();
+        String[] terms = features.getTerms();
+        for (int i = 0; i < terms.length; i++) {
+            Set<Long> postings = byTerm.get(terms[i]);
+            if (postings == null || postings.size() > maxTermDocuments) {
+                continue;
+            }
+            double idf = idf(postings.size(), articleCount);
+            double weight = features.frequencyAt(i) * idf;
+            for (Long other : postings) {
+                if (other != id) {
+                    double otherWeight = articles.get(other).frequency(terms[i]) * idf;
+                    dotProducts.merge(other, weight * otherWeight, Double::sum);
+                }
+            }
+        }
+
+        Set<Long> candidates = new HashSet<>(sharedTags.keySet());
+        candidates.addAll(dotProducts.keySet());
+
+        double norm = norm(features, articleCount, maxTermDocuments);
+        Map<Long, Float> scores = new HashMap<>();
+        for (Long other : candidates) {
+            RelatedFeatures otherFeatures = articles.get(other);
+            float score = 0f;
+            if (features.getCategory() != null && features.getCategory().equals(otherFeatures.getCategory())) {
+                score += CATEGORY_WEIGHT;
+            }
+            int shared = sharedTags.getOrDefault(other, 0);
+            if (shared > 0) {
+                int union = features.getTags().length + otherFeatures.getTags().length - shared;
+                score += TAG_WEIGHT * shared / union;
+            }
+            double dot = dotProducts.getOrDefault(other, 0.0);
+            if (dot > 0) {
+                score += (float) (TEXT_WEIGHT * dot / (norm * norm(otherFeatures, articleCount, maxTermDocuments)));
+            }
+            scores.put(other, score);
+        }
+        return scores;
+    }
+
+    /**
+     * The best scored candidates, topped up with the newest articles that share only the category
+     */
+    private NeighborList topNeighbors(RelatedFeatures features, Map<Long, Float> scores) {
+        PriorityQueue<Neighbor> best = new PriorityQueue<>(BEST_FIRST.reversed());
+        for (Map.Entry<Long, Float> entry : scores.entrySet()) {
+            keepBest(best, new Neighbor(entry.getKey(), entry.getValue()));
+        }
+
+        if (features.getCategory() != null) {
+            int added = 0;
+            for (Long other : byCategory.get(features.getCategory()).descendingSet()) {
+                if (added == neighborCount) {
+                    break;
+                }
+                if (other != features.getId() && !scores.containsKey(other)) {
+                    keepBest(best, new Neighbor(other, CATEGORY_WEIGHT));
+                    added++;
+                }
+            }
+        }
+
+        Neighbor[] sorted = best.toArray(new Neighbor[0]);
+        Arrays.sort(sorted, BEST_FIRST);
+        return new NeighborList(sorted);
+    }
+
+    private void keepBest(PriorityQueue<Neighbor> best, Neighbor candidate) {
+        if (best.size() < neighborCount) {
+            best.add(candidate);
+        } else if (BEST_FIRST.compare(candidate, best.peek()) < 0) {
+            best.poll();
+            best.add(candidate);
+        }
+    }
+
+    /**
+     * Insert an article into another's list if it scores above the list's weakest entry
+     */
+    private void offer(long listOwner, long id, float score) {
+        NeighborList list = neighbors.get(listOwner);
+        Neighbor candidate = new Neighbor(id, score);
+        List<Neighbor> entries = new ArrayList<>(neighborCount + 1);
+        if (list != null) {
+            for (int i = 0; i < list.size(); i++) {
+                if (list.ids[i] != id) {
+                    entries.add(new Neighbor(list.ids[i], list.scores[i]));
+                }
+            }
+        }
+        if (entries.size() == neighborCount
+                && BEST_FIRST.compare(candidate, entries.get(entries.size() - 1)) > 0) {
+            return;
+        }
+        entries.add(candidate);
+        entries.sort(BEST_FIRST);
+        if (entries.size() > neighborCount) {
+            entries.remove(entries.size() - 1);
+        }
+        setNeighbors(listOwner, new NeighborList(entries.toArray(new Neighbor[0])));
+    }
+
+    /**
+     * Replace an article's list, keeping the reverse map in step; null removes the list
+     */
+    private void setNeighbors(long id, NeighborList list) {
+        NeighborList previous = list != null ? neighbors.put(id, list) : neighbors.remove(id);
+        if (previous != null) {
+            for (long other : previous.ids) {
+                Set<Long> owners = listedBy.get(other);
+                if (owners != null) {
+                    owners.remove(id);
+                    if (owners.isEmpty()) {
+                        listedBy.remove(other);
+                    }
+                }
+            }
+        }
+        if (list != null) {
+            for (long other : list.ids) {
+                listedBy.computeIfAbsent(other, key -> new HashSet<>()).add(id);
+            }
+        }
+    }
+
+    private void index(RelatedFeatures features) {
+        Long id = features.getId();
+        if (features.getCategory() != null) {
+            byCategory.computeIfAbsent(features.getCategory(), key -> new TreeSet<>()).add(id);
+        }
+        for (String tag : features.getTags()) {
+            byTag.computeIfAbsent(tag, key -> new HashSet<>()).add(id);
+        }
+        for (String term : features.getTerms()) {
+            byTerm.computeIfAbsent(term, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private void unindex(RelatedFeatures features) {
+        Long id = features.getId();
+        if (features.getCategory() != null) {
+            removePosting(byCategory, features.getCategory(), id);
+        }
+        for (String tag : features.getTags()) {
+            removePosting(byTag, tag, id);
+        }
+        for (String term : features.getTerms()) {
+            removePosting(byTerm, term, id);
+        }
+    }
+
+    private static <S extends Set<Long>> void removePosting(Map<String, S> postings, String key, Long id) {
+        S ids = postings.get(key);
+        if (ids != null) {
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Length of the article's TF-IDF vector over discriminative terms
+     */
+    private double norm(RelatedFeatures features, int articleCount, int maxTermDocuments) {
+        double sum = 0;
+        String[] terms = features.getTerms();
+        for (int i = 0; i < terms.length; i++) {
+            Set<Long> postings = byTerm.get(terms[i]);
+            if (postings != null && postings.size() <= maxTermDocuments) {
+                double weight = features.frequencyAt(i) * idf(postings.size(), articleCount);
+                sum += weight * weight;
+            }
+        }
+        return Math.sqrt(sum);
+    }
+
+    private static double idf(int documentFrequency, int articleCount) {
+        return Math.log(1.0 + (double) articleCount / documentFrequency);
+    }
+
+    private static final class Neighbor {
+        private final long id;
+        private final float score;
+
+        private Neighbor(long id, float score) {
+            this.id = id;
+            this.score = score;
+        }
+    }
+
+    /**
+     * Immutable neighbor list, best first
+     */
+    private static final class NeighborList {
+        private final long[] ids;
+        private final float[] scores;
+
+        private NeighborList(Neighbor[] sorted) {
+            this.ids = new long[sorted.length];
+            this.scores = new float[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                ids[i] = sorted[i].id;
+                scores[i] = sorted[i].score;
+            }
+        }
+
+        private int size() {
+            return ids.length;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.wildlife.article.search;
+
+import com.wildlife.article.api.ArticleSearchHit;
+import com.wildlife.shared.dto.CursorPage;
+
+/**
+ * Pluggable search backend for published articles.
+ * The active implementation is selected with wildlife.search.engine (postgres | memory).
+ */
+public interface ArticleSearchEngine {
+
+    /**
+     * Short name of the backend, used as a metric tag
+     */
+    String getName();
+
+    /**
+     * Search published articles ordered by descending relevance.
+     *
+     * @param query  the user's search term, already trimmed and non-blank
+     * @param cursor opaque cursor from the previous page, or null/empty for the first page
+     * @param limit  maximum number of hits to return
+     */
+    CursorPage<ArticleSearchHit> search(String query, String cursor, int limit);
+}
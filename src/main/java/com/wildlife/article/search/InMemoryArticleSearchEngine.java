@@ -0,0 +1,247 @@
+package com.wildlife.article.search;
+
+import com.wildlife.article.api.ArticleSearchHit;
+import com.wildlife.article.content.ArticleBody;
+import com.wildlife.article.content.ArticleContentStore;
+import com.wildlife.article.core.Article;
+import com.wildlife.article.core.ArticleChangedEvent;
+import com.wildlife.article.persistence.ArticleRepository;
+import com.wildlife.article.service.ArticleCursor;
+import com.wildlife.shared.datasource.ReadRouting;
+import com.wildlife.shared.dto.CursorPage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Search backend serving queries from an in-process inverted index, without touching the database.
+ * The index is bootstrapped by streaming all published articles once the application is ready,
+ * then kept current from {@link ArticleChangedEvent}s after each write commits.
+ * Bodies come from the content store, loaded per batch of streamed articles.
+ */
+@Component
+@ConditionalOnProperty(name = "wildlife.search.engine", havingValue = "memory")
+public class InMemoryArticleSearchEngine implements ArticleSearchEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryArticleSearchEngine.class);
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final ArticleRepository articleRepository;
+    private final ArticleContentStore contentStore;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile InvertedIndex index = new InvertedIndex();
+
+    // Changes that arrive while a rebuild is streaming, replayed onto the new index before it goes live
+    private final Object rebuildLock = new Object();
+    private List<Consumer<InvertedIndex>> pendingChanges;
+
+    @Autowired
+    public InMemoryArticleSearchEngine(ArticleRepository articleRepository,
+                                       ArticleContentStore contentStore,
+                                       EntityManager entityManager,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.contentStore = contentStore;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("wildlife.search.index.size", this, engine -> engine.index.estimateBytes())
+                .description("Approximate heap used by the in-memory article search index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("wildlife.search.index.documents", this, engine -> engine.index.documentCount())
+                .description("Articles in the in-memory search index")
+                .register(meterRegistry);
+        Gauge.builder("wildlife.search.index.terms", this, engine -> engine.index.termCount())
+                .description("Distinct terms in the in-memory search index")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return "memory";
+    }
+
+    /**
+     * Build a fresh index from the database and swap it in.
+     * Runs before the application reports itself ready to accept traffic.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (rebuildLock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        InvertedIndex fresh = new InvertedIndex();
+        try {
+            ReadRouting.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                List<Article> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+                try (Stream<Article> articles = articleRepository.streamPublished()) {
+                    articles.forEach(article -> {
+                        batch.add(article);
+                        if (batch.size() >= REBUILD_BATCH_SIZE) {
+                            indexBatch(fresh, batch);
+                        }
+                    });
+                }
+                indexBatch(fresh, batch);
+            }));
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+
+        synchronized (rebuildLock) {
+            pendingChanges.forEach(change -> change.accept(fresh));
+            pendingChanges = null;
+            index = fresh;
+        }
+        logger.info("Search index built: {} articles, {} terms, ~{} KB in {} ms",
+                fresh.documentCount(), fresh.termCount(), fresh.estimateBytes() / 1024,
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Index a batch of streamed articles with their bodies (one content query per batch)
+     */
+    private void indexBatch(InvertedIndex target, List<Article> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<Long, ArticleBody> bodies = contentStore.findAll(batch.stream().map(Article::getId).toList());
+        for (Article article : batch) {
+            ArticleBody body = bodies.get(article.getId());
+            target.put(IndexedArticle.of(article, body != null ? body.toText() : null));
+            // Keep the persistence context from growing with the table
+            entityManager.detach(article);
+        }
+        batch.clear();
+    }
+
+    /**
+     * Apply an article write to the index once it has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        Consumer<InvertedIndex> change;
+        if (event.isPublishedAfter()) {
+            String content = event.isContentKnown()
+                    ? event.getContent()
+                    : contentStore.findText(event.getArticleId());
+            IndexedArticle document = IndexedArticle.of(event.getArticle(), content);
+            change = target -> target.put(document);
+        } else if (event.isPublishedBefore()) {
+            long id = event.getArticleId();
+            change = target -> target.remove(id);
+        } else {
+            // Draft before and after: never indexed
+            return;
+        }
+
+        synchronized (rebuildLock) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            change.accept(index);
+        }
+    }
+
+    @Override
+    public CursorPage<ArticleSearchHit> search(String query, String cursor, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+        if (terms.isEmpty()) {
+            return new CursorPage<>(List.of(), limit, false, null);
+        }
+
+        // First page starts above any possible score
+        float score = Float.MAX_VALUE;
+        long id = Long.MAX_VALUE;
+        if (StringUtils.hasText(cursor)) {
+            ArticleCursor position = ArticleCursor.decode(cursor);
+            score = position.getScore();
+            id = position.getId();
+        }
+
+        List<InvertedIndex.ScoredArticle> ranked = index.search(terms, score, id, limit + 1);
+        boolean hasNext = ranked.size() > limit;
+        List<InvertedIndex.ScoredArticle> page = hasNext ? ranked.subList(0, limit) : ranked;
+
+        String nextCursor = null;
+        if (hasNext) {
+            InvertedIndex.ScoredArticle last = page.get(page.size() - 1);
+            nextCursor = ArticleCursor.encode(last.score, last.document.getId());
+        }
+
+        List<ArticleSearchHit> hits = page.stream()
+                .map(scored -> toSearchHit(scored, terms))
+                .toList();
+        return new CursorPage<>(hits, limit, hasNext, nextCursor);
+    }
+
+    private ArticleSearchHit toSearchHit(InvertedIndex.ScoredArticle scored, Set<String> terms) {
+        IndexedArticle document = scored.document;
+        ArticleSearchHit hit = new ArticleSearchHit();
+        hit.setId(document.getId());
+        hit.setTitle(document.getTitle());
+        hit.setExcerpt(document.getExcerpt());
+        hit.setCategory(document.getCategory());
+        hit.setFeatured(document.getFeatured());
+        hit.setViews(document.getViews());
+        hit.setAuthorId(document.getAuthorId());
+        hit.setPublishDate(document.getPublishDate());
+        hit.setSnippet(highlight(document.getExcerpt(), terms));
+        hit.setScore(scored.score);
+        return hit;
+    }
+
+    /**
+     * Wrap words of the excerpt that match a query term in &lt;mark&gt;, like ts_headline does
+     */
+    private String highlight(String text, Set<String> terms) {
+        if (text == null) {
+            return null;
+        }
+        Matcher matcher = WORD.matcher(text);
+        StringBuilder snippet = new StringBuilder(text.length() + 32);
+        while (matcher.find()) {
+            String term = Tokenizer.normalize(matcher.group());
+            String replacement = term != null && terms.contains(term)
+                    ? "<mark>" + matcher.group() + "</mark>"
+                    : matcher.group();
+            matcher.appendReplacement(snippet, Matcher.quoteReplacement(replacement));
+        }
+        matcher.appendTail(snippet);
+        return snippet.toString();
+    }
+}
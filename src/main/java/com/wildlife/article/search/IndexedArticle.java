@@ -0,0 +1,156 @@
+package com.wildlife.article.search;
+
+import com.wildlife.article.core.Article;
+import com.wildlife.article.core.ArticleSnapshot;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable indexed form of a published article: the fields returned in search hits
+ * plus its forward index (distinct terms with field-weighted frequencies).
+ * Article bodies are tokenized but never retained.
+ */
+final class IndexedArticle {
+
+    // Field boosts applied to term frequencies (BM25F-style)
+    static final float TITLE_WEIGHT = 3.0f;
+    static final float CATEGORY_WEIGHT = 2.0f;
+    static final float EXCERPT_WEIGHT = 1.5f;
+    static final float CONTENT_WEIGHT = 1.0f;
+
+    private final long id;
+    private final String title;
+    private final String excerpt;
+    private final String category;
+    private final Boolean featured;
+    private final Integer views;
+    private final Long authorId;
+    private final LocalDateTime publishDate;
+
+    private final String[] terms;
+    private final float[] frequencies;
+    private final float length;
+
+    private IndexedArticle(long id, String title, String excerpt, String category, Boolean featured,
+                           Integer views, Long authorId, LocalDateTime publishDate,
+                           String[] terms, float[] frequencies, float length) {
+        this.id = id;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.category = category;
+        this.featured = featured;
+        this.views = views;
+        this.authorId = authorId;
+        this.publishDate = publishDate;
+        this.terms = terms;
+        this.frequencies = frequencies;
+        this.length = length;
+    }
+
+    /**
+     * Index the article with its body, which is not part of the Article row
+     */
+    static IndexedArticle of(Article article, String content) {
+        return of(article.getId(), article.getTitle(), article.getExcerpt(), article.getCategory(),
+                article.getFeatured(), article.getViews(), article.getAuthorId(), article.getPublishDate(), content);
+    }
+
+    /**
+     * Index an article as written by a committed change
+     */
+    static IndexedArticle of(ArticleSnapshot article, String content) {
+        return of(article.getId(), article.getTitle(), article.getExcerpt(), article.getCategory(),
+                article.isFeatured(), article.getViews(), article.getAuthorId(), article.getPublishDate(), content);
+    }
+
+    private static IndexedArticle of(long id, String title, String excerpt, String category, Boolean featured,
+                                     Integer views, Long authorId, LocalDateTime publishDate, String content) {
+        Map<String, Float> weighted = new HashMap<>();
+        float length = 0;
+        length += addField(weighted, title, TITLE_WEIGHT);
+        length += addField(weighted, category, CATEGORY_WEIGHT);
+        length += addField(weighted, excerpt, EXCERPT_WEIGHT);
+        length += addField(weighted, content, CONTENT_WEIGHT);
+
+        String[] terms = new String[weighted.size()];
+        float[] frequencies = new float[weighted.size()];
+        int i = 0;
+        for (Map.Entry<String, Float> entry : weighted.entrySet()) {
+            // Intern so the postings key and every forward entry share one String
+            terms[i] = entry.getKey().intern();
+            frequencies[i] = entry.getValue();
+            i++;
+        }
+        return new IndexedArticle(id, title, excerpt, category, featured, views, authorId, publishDate,
+                terms, frequencies, length);
+    }
+
+    private static float addField(Map<String, Float> weighted, String text, float weight) {
+        List<String> tokens = Tokenizer.tokenize(text);
+        for (String token : tokens) {
+            weighted.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    String getTitle() {
+        return title;
+    }
+
+    String getExcerpt() {
+        return excerpt;
+    }
+
+    String getCategory() {
+        return category;
+    }
+
+    Boolean getFeatured() {
+        return featured;
+    }
+
+    Integer getViews() {
+        return views;
+    }
+
+    Long getAuthorId() {
+        return authorId;
+    }
+
+    LocalDateTime getPublishDate() {
+        return publishDate;
+    }
+
+    String[] getTerms() {
+        return terms;
+    }
+
+    float[] getFrequencies() {
+        return frequencies;
+    }
+
+    float getLength() {
+        return length;
+    }
+
+    /**
+     * Approximate retained heap size in bytes (compressed oops)
+     */
+    long estimateBytes() {
+        return 72
+                + stringBytes(title) + stringBytes(excerpt) + stringBytes(category)
+                + 16 + 4L * terms.length
+                + 16 + 4L * frequencies.length;
+    }
+
+    static long stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length();
+    }
+}
@@ -0,0 +1,215 @@
+package com.wildlife.article.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over published articles with BM25 ranking.
+ * Postings hold direct references to the indexed documents, so scoring needs no id lookups.
+ * Reads run concurrently; writes (one document at a time) take the write lock briefly.
+ */
+final class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Ascending (score, id); results are returned reversed, matching the keyset cursor order
+    private static final Comparator<ScoredArticle> RANKING = Comparator
+            .comparingDouble((ScoredArticle hit) -> hit.score)
+            .thenComparingLong(hit -> hit.document.getId());
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, IndexedArticle> documents = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private double totalLength;
+
+    /**
+     * Add a document, replacing any previous version with the same id
+     */
+    void put(IndexedArticle document) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.getId());
+            String[] terms = document.getTerms();
+            float[] frequencies = document.getFrequencies();
+            for (int i = 0; i < terms.length; i++) {
+                postings.computeIfAbsent(terms[i], term -> new Postings()).add(document, frequencies[i]);
+            }
+            documents.put(document.getId(), document);
+            totalLength += document.getLength();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        IndexedArticle existing = documents.remove(id);
+        if (existing == null) {
+            return;
+        }
+        for (String term : existing.getTerms()) {
+            Postings list = postings.get(term);
+            if (list != null && list.remove(existing) && list.size == 0) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= existing.getLength();
+    }
+
+    /**
+     * Rank documents matching any of the terms and return up to limit hits that sort
+     * strictly after (afterScore, afterId), best first.
+     */
+    List<ScoredArticle> search(Collection<String> terms, float afterScore, long afterId, int limit) {
+        lock.readLock().lock();
+        try {
+            int documentCount = documents.size();
+            if (documentCount == 0) {
+                return List.of();
+            }
+            float averageLength = (float) (totalLength / documentCount);
+
+            Map<IndexedArticle, float[]> scores = new IdentityHashMap<>();
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                float idf = (float) Math.log(1 + (documentCount - list.size + 0.5) / (list.size + 0.5));
+                for (int i = 0; i < list.size; i++) {
+                    IndexedArticle document = list.documents[i];
+                    float tf = list.frequencies[i];
+                    float norm = K1 * (1 - B + B * document.getLength() / averageLength);
+                    scores.computeIfAbsent(document, d -> new float[1])[0] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+
+            // Bounded min-heap keeps the best 'limit' hits past the cursor
+            PriorityQueue<ScoredArticle> top = new PriorityQueue<>(limit + 1, RANKING);
+            for (Map.Entry<IndexedArticle, float[]> entry : scores.entrySet()) {
+                float score = entry.getValue()[0];
+                long id = entry.getKey().getId();
+                if (score > afterScore || (score == afterScore && id >= afterId)) {
+                    continue;
+                }
+                top.offer(new ScoredArticle(entry.getKey(), score));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+
+            List<ScoredArticle> ranked = new ArrayList<>(top);
+            ranked.sort(RANKING.reversed());
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Approximate retained heap size of the index in bytes
+     */
+    long estimateBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+                // map node + key + postings object + its two arrays
+                bytes += 32 + IndexedArticle.stringBytes(entry.getKey()) + 24 + entry.getValue().capacityBytes();
+            }
+            for (IndexedArticle document : documents.values()) {
+                // map node + boxed key + document
+                bytes += 32 + 16 + document.estimateBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A document with its score for the current query
+     */
+    static final class ScoredArticle {
+        final IndexedArticle document;
+        final float score;
+
+        ScoredArticle(IndexedArticle document, float score) {
+            this.document = document;
+            this.score = score;
+        }
+    }
+
+    /**
+     * Unordered postings list for one term: documents and their weighted term frequencies
+     */
+    private static final class Postings {
+        private IndexedArticle[] documents = new IndexedArticle[4];
+        private float[] frequencies = new float[4];
+        private int size;
+
+        void add(IndexedArticle document, float frequency) {
+            if (size == documents.length) {
+                int capacity = size * 2;
+                documents = Arrays.copyOf(documents, capacity);
+                frequencies = Arrays.copyOf(frequencies, capacity);
+            }
+            documents[size] = document;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        boolean remove(IndexedArticle document) {
+            for (int i = 0; i < size; i++) {
+                if (documents[i] == document) {
+                    size--;
+                    documents[i] = documents[size];
+                    frequencies[i] = frequencies[size];
+                    documents[size] = null;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        long capacityBytes() {
+            return 2 * 16 + 8L * documents.length;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.wildlife.article.search;
+
+import com.wildlife.article.api.ArticleSearchHit;
+import com.wildlife.article.core.Article;
+import com.wildlife.article.persistence.ArticleRepository;
+import com.wildlife.article.persistence.ArticleSearchRow;
+import com.wildlife.article.persistence.ArticleSpecifications;
+import com.wildlife.article.service.ArticleCursor;
+import com.wildlife.shared.dto.CursorPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * Search backend running ranked full-text queries against PostgreSQL.
+ * Falls back to trigram title matching when the term matches nothing, e.g. a typo,
+ * and to a title/excerpt LIKE query when full-text search is disabled (H2).
+ */
+@Component
+@ConditionalOnProperty(name = "wildlife.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresArticleSearchEngine implements ArticleSearchEngine {
+
+    private final ArticleRepository articleRepository;
+    private final boolean fullTextSearchEnabled;
+
+    @Autowired
+    public PostgresArticleSearchEngine(ArticleRepository articleRepository,
+                                       @Value("${wildlife.search.full-text-enabled:true}") boolean fullTextSearchEnabled) {
+        this.articleRepository = articleRepository;
+        this.fullTextSearchEnabled = fullTextSearchEnabled;
+    }
+
+    @Override
+    public String getName() {
+        return "postgres";
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ArticleSearchHit> search(String query, String cursor, int limit) {
+        if (!fullTextSearchEnabled) {
+            return searchByPattern(query, cursor, limit);
+        }
+
+        // First page starts above any possible rank
+        float score = Float.MAX_VALUE;
+        long id = Long.MAX_VALUE;
+        if (StringUtils.hasText(cursor)) {
+            ArticleCursor position = ArticleCursor.decode(cursor);
+            score = position.getScore();
+            id = position.getId();
+        }
+
+        List<ArticleSearchRow> rows = articleRepository.searchRanked(query, score, id, limit + 1);
+        if (rows.isEmpty() && !StringUtils.hasText(cursor)) {
+            // Suggestions are a single best-effort page, no cursor
+            List<ArticleSearchHit> suggestions = articleRepository.searchTitleSimilar(query, limit)
+                    .stream()
+                    .map(this::toSearchHit)
+                    .toList();
+            return new CursorPage<>(suggestions, limit, false, null);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<ArticleSearchRow> page = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ArticleSearchRow last = page.get(page.size() - 1);
+            nextCursor = ArticleCursor.encode(last.getScore(), last.getId());
+        }
+
+        List<ArticleSearchHit> hits = page.stream()
+                .map(this::toSearchHit)
+                .toList();
+        return new CursorPage<>(hits, limit, hasNext, nextCursor);
+    }
+
+    /**
+     * Title/excerpt LIKE search for databases without full-text support, paged on (publish_date, id)
+     */
+    private CursorPage<ArticleSearchHit> searchByPattern(String query, String cursor, int limit) {
+        String searchPattern = ArticleSpecifications.containsPattern(query);
+        Pageable window = PageRequest.of(0, limit + 1);
+        List<Article> rows;
+        if (StringUtils.hasText(cursor)) {
+            ArticleCursor position = ArticleCursor.decode(cursor);
+            rows = articleRepository.searchPublishedFeedBefore(
+                    searchPattern, position.getTimestamp(), position.getId(), window);
+        } else {
+            rows = articleRepository.searchPublishedFeed(searchPattern, window);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<Article> page = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Article last = page.get(page.size() - 1);
+            nextCursor = ArticleCursor.encode(last.getPublishDate(), last.getId());
+        }
+
+        List<ArticleSearchHit> hits = page.stream()
+                .map(this::toSearchHit)
+                .toList();
+        return new CursorPage<>(hits, limit, hasNext, nextCursor);
+    }
+
+    private ArticleSearchHit toSearchHit(ArticleSearchRow row) {
+        ArticleSearchHit hit = new ArticleSearchHit();
+        hit.setId(row.getId());
+        hit.setTitle(row.getTitle());
+        hit.setExcerpt(row.getExcerpt());
+        hit.setCategory(row.getCategory());
+        hit.setFeatured(row.getFeatured());
+        hit.setViews(row.getViews());
+        hit.setAuthorId(row.getAuthorId());
+        hit.setPublishDate(row.getPublishDate());
+        hit.setSnippet(row.getSnippet());
+        hit.setScore(row.getScore());
+        return hit;
+    }
+
+    private ArticleSearchHit toSearchHit(Article article) {
+        ArticleSearchHit hit = new ArticleSearchHit();
+        hit.setId(article.getId());
+        hit.setTitle(article.getTitle());
+        hit.setExcerpt(article.getExcerpt());
+        hit.setCategory(article.getCategory());
+        hit.setFeatured(article.getFeatured());
+        hit.setViews(article.getViews());
+        hit.setAuthorId(article.getAuthorId());
+        hit.setPublishDate(article.getPublishDate());
+        return hit;
+    }
+}
@@ -0,0 +1,106 @@
+package com.wildlife.article.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits article text into normalized index terms.
+ * Strips HTML tags, lowercases, splits on anything that is not a letter or digit,
+ * drops English stop words and applies a light plural stemmer so that queries and
+ * documents reduce to the same terms.
+ */
+public final class Tokenizer {
+
+    private static final int MIN_TERM_LENGTH = 2;
+    private static final int MAX_TERM_LENGTH = 40;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "but", "by", "for", "from", "has", "have",
+            "he", "her", "his", "if", "in", "into", "is", "it", "its", "of", "on", "or", "our",
+            "she", "so", "than", "that", "the", "their", "them", "then", "there", "these", "they",
+            "this", "to", "was", "we", "were", "what", "when", "which", "who", "will", "with", "you"
+    );
+
+    private Tokenizer() {}
+
+    /**
+     * Tokenize text into normalized terms, in order of appearance (duplicates kept)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        StringBuilder word = new StringBuilder();
+        boolean inTag = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '<') {
+                inTag = true;
+                addTerm(terms, word);
+            } else if (c == '>' && inTag) {
+                inTag = false;
+            } else if (!inTag && c == '&') {
+                // HTML entities (&nbsp; &amp; &#8217;) separate words and are not terms
+                addTerm(terms, word);
+                int end = text.indexOf(';', i);
+                if (end > i && end - i <= 8) {
+                    i = end;
+                }
+            } else if (!inTag && Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (!inTag && c == '\'') {
+                // Possessives and contractions: "tiger's" -> "tiger"
+                addTerm(terms, word);
+                while (i + 1 < text.length() && Character.isLetter(text.charAt(i + 1))) {
+                    i++;
+                }
+            } else {
+                addTerm(terms, word);
+            }
+        }
+        addTerm(terms, word);
+        return terms;
+    }
+
+    /**
+     * Normalize a single word the same way tokenize does, or null if it is not indexable
+     */
+    public static String normalize(String word) {
+        if (word.length() < MIN_TERM_LENGTH || word.length() > MAX_TERM_LENGTH) {
+            return null;
+        }
+        String term = word.toLowerCase(Locale.ROOT);
+        if (STOP_WORDS.contains(term)) {
+            return null;
+        }
+        return stem(term);
+    }
+
+    private static void addTerm(List<String> terms, StringBuilder word) {
+        if (word.length() > 0) {
+            String term = normalize(word.toString());
+            if (term != null) {
+                terms.add(term);
+            }
+            word.setLength(0);
+        }
+    }
+
+    /**
+     * Plural folding only: "studies" -> "study", "tigers" -> "tiger"
+     */
+    private static String stem(String term) {
+        int length = term.length();
+        if (length > 4 && term.endsWith("ies")) {
+            return term.substring(0, length - 3) + "y";
+        }
+        if (length > 3 && term.endsWith("s") && !term.endsWith("ss") && !term.endsWith("us")) {
+            return term.substring(0, length - 1);
+        }
+        return term;
+    }
+}
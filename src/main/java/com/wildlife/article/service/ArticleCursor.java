@@ -0,0 +1,81 @@
+package com.wildlife.article.service;
+
+import com.wildlife.shared.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque keyset pagination cursor for article feeds.
+ * Encodes the sort key and id of the last row of a page so the next page can
+ * seek past it with {@code (sortKey, id) < (:sortKey, :id)} instead of an OFFSET scan.
+ */
+public final class ArticleCursor {
+
+    private static final char SEPARATOR = '|';
+
+    private final String sortKey;
+    private final long id;
+
+    private ArticleCursor(String sortKey, long id) {
+        this.sortKey = sortKey;
+        this.id = id;
+    }
+
+    /**
+     * Encode a cursor positioned after a row sorted by timestamp
+     */
+    public static String encode(LocalDateTime timestamp, Long id) {
+        return encode(timestamp.toString(), id);
+    }
+
+    /**
+     * Encode a cursor positioned after a row sorted by relevance score
+     */
+    public static String encode(float score, Long id) {
+        return encode(Float.toString(score), id);
+    }
+
+    /**
+     * Decode a cursor previously returned to the client
+     */
+    public static ArticleCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator <= 0) {
+                throw new InvalidRequestException("Invalid pagination cursor");
+            }
+            return new ArticleCursor(raw.substring(0, separator), Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid pagination cursor", e);
+        }
+    }
+
+    private static String encode(String sortKey, Long id) {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getTimestamp() {
+        try {
+            return LocalDateTime.parse(sortKey);
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid pagination cursor", e);
+        }
+    }
+
+    public float getScore() {
+        try {
+            return Float.parseFloat(sortKey);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Invalid pagination cursor", e);
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+}
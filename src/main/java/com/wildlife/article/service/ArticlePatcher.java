@@ -0,0 +1,187 @@
+package com.wildlife.article.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.wildlife.article.api.ArticleDto;
+import com.wildlife.article.api.ImageRef;
+import com.wildlife.article.api.VideoRef;
+import com.wildlife.article.core.Article;
+import com.wildlife.article.persistence.ArticleMapper;
+import com.wildlife.shared.config.JsonSupport;
+import com.wildlife.shared.exception.InvalidRequestException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Applies a JSON Merge Patch (RFC 7386) to an article.
+ * Only the fields present in the patch are validated and compared, and a field is written to the
+ * entity only when its value actually changes, so with {@code @DynamicUpdate} the UPDATE carries
+ * just the changed columns and a patch that changes nothing leaves the entity clean.
+ */
+@Component
+public class ArticlePatcher {
+
+    public static final String VERSION_FIELD = "version";
+
+    private static final Set<String> PATCHABLE_FIELDS = Set.of(
+            "title", "excerpt", "content", "category", "featured", "published", "tags", "images", "videos");
+
+    // null clears these; the others are required on the article
+    private static final Set<String> NULLABLE_FIELDS = Set.of("content", "category", "tags", "images", "videos");
+
+    private static final ObjectReader IMAGE_LIST_READER = JsonSupport.readerFor(new TypeReference<List<ImageRef>>() {});
+    private static final ObjectReader VIDEO_LIST_READER = JsonSupport.readerFor(new TypeReference<List<VideoRef>>() {});
+
+    private final Validator validator;
+    private final ArticleMapper articleMapper;
+
+    @Autowired
+    public ArticlePatcher(Validator validator, ArticleMapper articleMapper) {
+        this.validator = validator;
+        this.articleMapper = articleMapper;
+    }
+
+    /**
+     * Version the patch says it was made against, or null when it carries none
+     */
+    public Long readVersion(JsonNode patch) {
+        JsonNode version = patch.get(VERSION_FIELD);
+        if (version == null || version.isNull()) {
+            return null;
+        }
+        if (!version.canConvertToLong()) {
+            throw new InvalidRequestException("Field 'version' must be a whole number");
+        }
+        return version.asLong();
+    }
+
+    /**
+     * Reject patches that are not objects, touch fields that cannot be patched, or carry invalid values.
+     * Returns the patch read into a DTO; only the fields present in the patch are meaningful.
+     */
+    public ArticleDto validate(JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidRequestException("Patch must be a JSON object");
+        }
+        Iterator<String> names = patch.fieldNames();
+        while (names.hasNext()) {
+            String name = names.next();
+            if (!PATCHABLE_FIELDS.contains(name) && !VERSION_FIELD.equals(name)) {
+                throw new InvalidRequestException("Field cannot be patched: " + name);
+            }
+            if (patch.get(name).isNull() && !NULLABLE_FIELDS.contains(name)) {
+                throw new InvalidRequestException("Field cannot be null: " + name);
+            }
+        }
+
+        ArticleDto changes;
+        try {
+            changes = JsonSupport.mapper().treeToValue(patch, ArticleDto.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("Patch has an invalid value: " + e.getOriginalMessage(), e);
+        }
+
+        // Bean constraints of the fields being patched only; list elements are not cascaded by validateProperty
+        Set<ConstraintViolation<?>> violations = new HashSet<>();
+        for (String name : PATCHABLE_FIELDS) {
+            if (patch.has(name)) {
+                violations.addAll(validator.validateProperty(changes, name));
+            }
+        }
+        if (changes.getImages() != null) {
+            changes.getImages().forEach(image -> violations.addAll(validator.validate(image)));
+        }
+        if (changes.getVideos() != null) {
+            changes.getVideos().forEach(video -> violations.addAll(validator.validate(video)));
+        }
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+        return changes;
+    }
+
+    /**
+     * Copy the patched fields that differ onto the article. Content is not part of the article
+     * row; the caller stores it.
+     *
+     * @return whether anything changed
+     */
+    public boolean apply(JsonNode patch, ArticleDto changes, Article article) {
+        boolean changed = false;
+        if (patch.has("title")) {
+            changed |= setIfChanged(article.getTitle(), changes.getTitle(), article::setTitle);
+        }
+        if (patch.has("excerpt")) {
+            changed |= setIfChanged(article.getExcerpt(), changes.getExcerpt(), article::setExcerpt);
+        }
+        if (patch.has("category")) {
+            changed |= setIfChanged(article.getCategory(), changes.getCategory(), article::setCategory);
+        }
+        if (patch.has("featured")) {
+            changed |= setIfChanged(article.getFeatured(), changes.getFeatured(), article::setFeatured);
+        }
+        if (patch.has("published")) {
+            boolean wasPublished = article.isPublished();
+            if (setIfChanged(article.getPublished(), changes.getPublished(), article::setPublished)) {
+                changed = true;
+                if (!wasPublished) {
+                    article.setPublishDate(LocalDateTime.now());
+                }
+            }
+        }
+        if (patch.has("tags")) {
+            Set<String> before = new HashSet<>(article.getTags());
+            article.setTags(changes.getTags());
+            changed |= !before.equals(article.getTags());
+        }
+        if (patch.has("images")) {
+            List<ImageRef> images = changes.getImages() != null ? changes.getImages() : List.of();
+            if (!images.equals(readList(IMAGE_LIST_READER, article.getImages()))) {
+                article.setImages(articleMapper.imageListToString(images));
+                article.setCoverImageUrl(ArticleMapper.coverImageUrl(images));
+                changed = true;
+            }
+        }
+        if (patch.has("videos")) {
+            List<VideoRef> videos = changes.getVideos() != null ? changes.getVideos() : List.of();
+            if (!videos.equals(readList(VIDEO_LIST_READER, article.getVideos()))) {
+                article.setVideos(articleMapper.videoListToString(videos));
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    private static <T> boolean setIfChanged(T current, T value, Consumer<T> setter) {
+        if (Objects.equals(current, value)) {
+            return false;
+        }
+        setter.accept(value);
+        return true;
+    }
+
+    /**
+     * Stored media list, or null when it cannot be read (so any patched value counts as a change)
+     */
+    private static <T> List<T> readList(ObjectReader reader, String json) {
+        try {
+            return json == null ? List.of() : reader.readValue(json);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
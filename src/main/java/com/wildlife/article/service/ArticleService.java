@@ -1,26 +1,62 @@
 package com.wildlife.article.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.wildlife.article.api.ArticleBatchItem;
 import com.wildlife.article.api.ArticleDto;
+import com.wildlife.article.api.ArticleSearchHit;
+import com.wildlife.article.api.ArticleSummaryDto;
+import com.wildlife.article.api.TagCount;
+import com.wildlife.article.content.ArticleBody;
+import com.wildlife.article.content.ArticleContentStore;
 import com.wildlife.article.core.Article;
+import com.wildlife.article.core.ArticleChangedEvent;
 import com.wildlife.user.core.User;
 import com.wildlife.shared.exception.ResourceNotFoundException;
 import com.wildlife.shared.exception.AccessDeniedException;
+import com.wildlife.shared.exception.InvalidRequestException;
 import com.wildlife.article.persistence.ArticleMapper;
 import com.wildlife.article.persistence.ArticleRepository;
+import com.wildlife.article.persistence.ArticleSpecifications;
+import com.wildlife.article.related.RelatedArticlesEngine;
+import com.wildlife.article.search.ArticleSearchEngine;
+import com.wildlife.article.tag.TagIndex;
+import com.wildlife.article.tag.TagMatch;
+import com.wildlife.article.trending.TrendingTracker;
+import com.wildlife.article.trending.TrendingWindow;
+import com.wildlife.stats.service.StatisticsService;
+import com.wildlife.user.api.UserDto;
+import com.wildlife.user.service.AuthorCache;
 import com.wildlife.user.service.UserService;
+import com.wildlife.shared.dto.CursorPage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.roaringbitmap.RoaringBitmap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Service class for Article entity operations.
@@ -32,47 +68,113 @@ public class ArticleService {
 
     private static final Logger logger = LoggerFactory.getLogger(ArticleService.class);
 
+    // Tag filters matching more articles than this are applied as an SQL subquery rather than an id list
+    private static final int MAX_TAG_ID_FILTER = 1000;
+
+    private static final int MAX_TAG_COUNTS = 500;
+
+    private static final int MAX_RELATED_ARTICLES = 50;
+
+    public static final int MAX_BATCH_IDS = 100;
+
     private final ArticleRepository articleRepository;
     private final ArticleMapper articleMapper;
+    private final ArticlePatcher articlePatcher;
+    private final ArticleContentStore contentStore;
     private final UserService userService;
+    private final AuthorCache authorCache;
+    private final ArticleSearchEngine articleSearchEngine;
+    private final ViewCounter viewCounter;
+    private final TagIndex tagIndex;
+    private final RelatedArticlesEngine relatedArticles;
+    private final TrendingTracker trendingTracker;
+    private final PublishedArticleCounts publishedCounts;
+    private final StatisticsService statisticsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Timer searchTimer;
 
     @Autowired
     public ArticleService(ArticleRepository articleRepository, 
                          ArticleMapper articleMapper,
-                         UserService userService) {
+                         ArticlePatcher articlePatcher,
+                         ArticleContentStore contentStore,
+                         UserService userService,
+                         AuthorCache authorCache,
+                         ArticleSearchEngine articleSearchEngine,
+                         ViewCounter viewCounter,
+                         TagIndex tagIndex,
+                         RelatedArticlesEngine relatedArticles,
+                         TrendingTracker trendingTracker,
+                         PublishedArticleCounts publishedCounts,
+                         StatisticsService statisticsService,
+                         ApplicationEventPublisher eventPublisher,
+                         MeterRegistry meterRegistry) {
         this.articleRepository = articleRepository;
         this.articleMapper = articleMapper;
+        this.articlePatcher = articlePatcher;
+        this.contentStore = contentStore;
         this.userService = userService;
+        this.authorCache = authorCache;
+        this.articleSearchEngine = articleSearchEngine;
+        this.viewCounter = viewCounter;
+        this.tagIndex = tagIndex;
+        this.relatedArticles = relatedArticles;
+        this.trendingTracker = trendingTracker;
+        this.publishedCounts = publishedCounts;
+        this.statisticsService = statisticsService;
+        this.eventPublisher = eventPublisher;
+        this.searchTimer = Timer.builder("wildlife.search.query")
+                .description("Article search latency")
+                .tag("engine", articleSearchEngine.getName())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
-     * Get all published articles with pagination and filtering
+     * Get all published articles with pagination and filtering.
+     * When only category and featured filters apply, the total comes from the cached published
+     * counts instead of a count query; text and tag filters are still counted exactly.
      */
     @Transactional(readOnly = true)
-    public Page<ArticleDto> getPublishedArticles(String search, String category, 
+    public Page<ArticleSummaryDto> getPublishedArticles(String search, String category, 
                                                 Boolean featured, List<String> tags, 
-                                                Pageable pageable) {
-        // Use native query approach to bypass entity mapping issues
-        return getPublishedArticlesNative(search, category, featured, tags, pageable);
+                                                TagMatch tagMatch, Pageable pageable) {
+        Specification<Article> spec = publishedFilter(search, category, featured, tags, tagMatch);
+        OptionalLong cachedTotal = StringUtils.hasText(search) || !TagIndex.normalize(tags).isEmpty()
+                ? OptionalLong.empty()
+                : publishedCounts.count(category, featured);
+        if (cachedTotal.isPresent()) {
+            return withCachedTotal(articleRepository.findListSlice(spec, pageable), cachedTotal.getAsLong());
+        }
+        return articleRepository.findListPage(spec, pageable);
+    }
+
+    /**
+     * Get published articles with the same filters as getPublishedArticles, without any total:
+     * one query reading a row past the page tells whether a next page exists
+     */
+    @Transactional(readOnly = true)
+    public Slice<ArticleSummaryDto> getPublishedArticlesSlice(String search, String category,
+                                                              Boolean featured, List<String> tags,
+                                                              TagMatch tagMatch, Pageable pageable) {
+        return articleRepository.findListSlice(
+                publishedFilter(search, category, featured, tags, tagMatch), pageable);
     }
 
     /**
      * Get featured articles
      */
     @Transactional(readOnly = true)
-    public List<ArticleDto> getFeaturedArticles(int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        return articleRepository.findByPublishedTrueAndFeaturedTrueOrderByPublishDateDesc(pageable)
-                .getContent()
-                .stream()
-                .map(articleMapper::toDto)
-                .toList();
+    public List<ArticleSummaryDto> getFeaturedArticles(int limit) {
+        return articleRepository.findFeaturedSummaries(PageRequest.of(0, limit));
     }
 
     /**
-     * Get article by ID with access control
+     * Get article by ID with access control.
+     * Views are recorded in the write-behind ViewCounter and the TrendingTracker, so reads never
+     * write to the database.
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public ArticleDto getArticleById(Long id) {
         Article article = articleRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Article not found with ID: " + id));
@@ -83,15 +185,80 @@ public class ArticleService {
             if (!article.canBeAccessedBy(currentUser)) {
                 throw new AccessDeniedException("You don't have permission to access this article");
             }
+            return withAuthor(withBody(articleMapper.toDto(article)));
         }
 
-        // Increment view count for published articles
-        if (article.isPublished()) {
-            incrementViewCount(id);
-            article.incrementViews(); // Update the local object for response
+        // Count the view and include views not yet flushed in the response
+        long pendingViews = viewCounter.increment(id);
+        trendingTracker.recordView(id);
+        ArticleDto dto = articleMapper.toDto(article);
+        dto.setViews((int) Math.min(Integer.MAX_VALUE, article.getViews() + pendingViews));
+        return withAuthor(withBody(dto));
+    }
+
+    /**
+     * Get several articles by ID with one query, in request order.
+     * Ids that do not exist, or drafts the current user may not read, are returned as markers
+     * instead of failing the whole batch. The current user is resolved at most once, and only
+     * when a draft is requested; views are counted once per distinct published article if asked.
+     * Authors and bodies are filled in with one batched lookup each for the whole result.
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleBatchItem> getArticlesByIds(List<Long> ids, boolean countViews) {
+        if (ids == null || ids.isEmpty()) {
+            throw new InvalidRequestException("At least one article ID is required");
+        }
+        if (ids.size() > MAX_BATCH_IDS) {
+            throw new InvalidRequestException("At most " + MAX_BATCH_IDS + " article IDs can be requested at once");
+        }
+        if (ids.contains(null)) {
+            throw new InvalidRequestException("Article IDs must not be empty");
         }
 
-        return articleMapper.toDto(article);
+        Map<Long, Article> articles = new HashMap<>();
+        for (Article article : articleRepository.findAllWithTagsByIdIn(new LinkedHashSet<>(ids))) {
+            articles.put(article.getId(), article);
+        }
+
+        User currentUser = null;
+        boolean currentUserResolved = false;
+        Map<Long, ArticleBatchItem> items = new HashMap<>();
+        List<ArticleBatchItem> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ArticleBatchItem item = items.get(id);
+            if (item == null) {
+                Article article = articles.get(id);
+                if (article == null) {
+                    item = ArticleBatchItem.notFound(id);
+                } else if (article.isPublished()) {
+                    ArticleDto dto = articleMapper.toDto(article);
+                    long pendingViews = countViews ? viewCounter.increment(id) : viewCounter.getPending(id);
+                    if (countViews) {
+                        trendingTracker.recordView(id);
+                    }
+                    dto.setViews((int) Math.min(Integer.MAX_VALUE, article.getViews() + pendingViews));
+                    item = ArticleBatchItem.found(dto);
+                } else {
+                    if (!currentUserResolved) {
+                        currentUser = getCurrentUserOrNull();
+                        currentUserResolved = true;
+                    }
+                    item = article.canBeAccessedBy(currentUser)
+                            ? ArticleBatchItem.found(articleMapper.toDto(article))
+                            : ArticleBatchItem.forbidden(id);
+                }
+                items.put(id, item);
+            }
+            result.add(item);
+        }
+        List<ArticleDto> found = items.values().stream()
+                .map(ArticleBatchItem::getArticle)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<Long, ArticleBody> bodies = contentStore.findAll(found.stream().map(ArticleDto::getId).toList());
+        found.forEach(dto -> dto.setBody(bodies.get(dto.getId())));
+        withAuthors(found);
+        return result;
     }
 
     /**
@@ -108,10 +275,15 @@ public class ArticleService {
             article.setPublishDate(LocalDateTime.now());
         }
 
-        Article savedArticle = articleRepository.save(article);
+        // Flushed first: the body row references the article
+        Article savedArticle = articleRepository.saveAndFlush(article);
+        contentStore.save(savedArticle.getId(), articleDto.getContent());
+        eventPublisher.publishEvent(ArticleChangedEvent.created(savedArticle).withContent(articleDto.getContent()));
         logger.info("Created new article: {} by user: {}", savedArticle.getTitle(), currentUser.getEmail());
         
-        return articleMapper.toDto(savedArticle);
+        ArticleDto dto = articleMapper.toDto(savedArticle);
+        dto.setContent(articleDto.getContent());
+        return withAuthor(dto);
     }
 
     /**
@@ -123,19 +295,86 @@ public class ArticleService {
 
         User currentUser = userService.getCurrentUserEntity();
         validateArticleAccess(existingArticle, currentUser);
+        boolean wasPublished = existingArticle.isPublished();
+        String previousCategory = existingArticle.getCategory();
+        boolean wasFeatured = Boolean.TRUE.equals(existingArticle.getFeatured());
 
         // Update fields
         articleMapper.updateEntityFromDto(articleDto, existingArticle);
         
-        // Handle publishing logic
-        if (Boolean.TRUE.equals(articleDto.getPublished()) && !existingArticle.isPublished()) {
+        // Handle publishing logic (the mapper has already copied the new flag, so compare with the old one)
+        if (Boolean.TRUE.equals(articleDto.getPublished()) && !wasPublished) {
             existingArticle.setPublishDate(LocalDateTime.now());
         }
 
+        // A null content leaves the stored body as it is
+        String content = articleDto.getContent();
+        if (content != null && contentStore.save(id, content)) {
+            existingArticle.setUpdatedAt(LocalDateTime.now());
+        }
+
         Article savedArticle = articleRepository.save(existingArticle);
+        ArticleChangedEvent event = ArticleChangedEvent.updated(
+                savedArticle, wasPublished, previousCategory, wasFeatured);
+        eventPublisher.publishEvent(content != null ? event.withContent(content) : event);
         logger.info("Updated article: {} by user: {}", savedArticle.getTitle(), currentUser.getEmail());
         
-        return articleMapper.toDto(savedArticle);
+        ArticleDto dto = articleMapper.toDto(savedArticle);
+        if (content != null) {
+            dto.setContent(content);
+        } else {
+            withBody(dto);
+        }
+        return withAuthor(dto);
+    }
+
+    /**
+     * Apply a JSON Merge Patch to an article with access control.
+     * Only the fields that actually change are written (one UPDATE of those columns); a patch that
+     * changes nothing returns the article without writing or publishing a change event.
+     *
+     * @param expectedVersion version from If-Match, or null to use the patch's "version" field;
+     *                        when neither is given the patch is applied to the current version
+     * @throws OptimisticLockingFailureException if the article has moved past the expected version
+     */
+    public ArticleDto patchArticle(Long id, JsonNode patch, Long expectedVersion) {
+        ArticleDto changes = articlePatcher.validate(patch);
+        if (expectedVersion == null) {
+            expectedVersion = articlePatcher.readVersion(patch);
+        }
+
+        Article article = articleRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Article not found with ID: " + id));
+
+        User currentUser = userService.getCurrentUserEntity();
+        validateArticleAccess(article, currentUser);
+        if (expectedVersion != null && !expectedVersion.equals(article.getVersion())) {
+            throw new OptimisticLockingFailureException("Article " + id + " is at version "
+                    + article.getVersion() + ", not " + expectedVersion);
+        }
+        boolean wasPublished = article.isPublished();
+        String previousCategory = article.getCategory();
+        boolean wasFeatured = Boolean.TRUE.equals(article.getFeatured());
+
+        boolean changed = articlePatcher.apply(patch, changes, article);
+        boolean contentPatched = patch.has("content");
+        if (contentPatched && contentStore.save(id, changes.getContent())) {
+            // Bumps the version and updated_at, although the body is not in the article row
+            article.setUpdatedAt(LocalDateTime.now());
+            changed = true;
+        }
+        if (!changed) {
+            return withAuthor(withBody(articleMapper.toDto(article)));
+        }
+
+        // Flush now so a concurrent update surfaces here as a version conflict, and the response carries the new version
+        Article savedArticle = articleRepository.saveAndFlush(article);
+        ArticleChangedEvent event = ArticleChangedEvent.updated(
+                savedArticle, wasPublished, previousCategory, wasFeatured);
+        eventPublisher.publishEvent(contentPatched ? event.withContent(changes.getContent()) : event);
+        logger.info("Patched article: {} by user: {}", savedArticle.getTitle(), currentUser.getEmail());
+
+        return withAuthor(withBody(articleMapper.toDto(savedArticle)));
     }
 
     /**
@@ -148,7 +387,10 @@ public class ArticleService {
         User currentUser = userService.getCurrentUserEntity();
         validateArticleAccess(article, currentUser);
 
+        // Snapshot before removal, while the tags can still be loaded
+        ArticleChangedEvent event = ArticleChangedEvent.deleted(article);
         articleRepository.delete(article);
+        eventPublisher.publishEvent(event);
         logger.info("Deleted article: {} by user: {}", article.getTitle(), currentUser.getEmail());
     }
 
@@ -173,59 +415,78 @@ public class ArticleService {
         article.setPublishDate(LocalDateTime.now());
 
         Article savedArticle = articleRepository.save(article);
+        eventPublisher.publishEvent(ArticleChangedEvent.updated(savedArticle, false));
         logger.info("Published article: {} by user: {}", savedArticle.getTitle(), currentUser.getEmail());
         
-        return articleMapper.toDto(savedArticle);
+        return withAuthor(withBody(articleMapper.toDto(savedArticle)));
     }
 
     /**
      * Get articles by current user
      */
     @Transactional(readOnly = true)
-    public Page<ArticleDto> getCurrentUserArticles(Pageable pageable) {
+    public Page<ArticleSummaryDto> getCurrentUserArticles(Pageable pageable) {
         User currentUser = userService.getCurrentUserEntity();
-        return articleRepository.findByAuthorIdOrderByCreatedAtDesc(currentUser.getId(), pageable)
-                .map(articleMapper::toDto);
+        return articleRepository.findAuthorSummaries(currentUser.getId(), pageable);
     }
 
     /**
      * Get articles by author ID
      */
     @Transactional(readOnly = true)
-    public Page<ArticleDto> getArticlesByAuthor(Long authorId, Pageable pageable) {
+    public Page<ArticleSummaryDto> getArticlesByAuthor(Long authorId, Pageable pageable) {
         // Temporarily simplified - just return all articles by the author
         // TODO: Re-enable access control later
-        return articleRepository.findByAuthorIdOrderByCreatedAtDesc(authorId, pageable)
-                .map(articleMapper::toDto);
+        return articleRepository.findAuthorSummaries(authorId, pageable);
     }
 
     /**
-     * Search articles
+     * Search published articles, ranked by relevance and paged by cursor.
+     * Delegates to the configured search backend (wildlife.search.engine).
      */
     @Transactional(readOnly = true)
-    public Page<ArticleDto> searchArticles(String searchTerm, Pageable pageable) {
-        // Pre-process search term with wildcards and lowercase
-        String searchPattern = "%" + searchTerm.toLowerCase() + "%";
-        return articleRepository.searchPublishedArticles(searchPattern, pageable)
-                .map(articleMapper::toDto);
+    public CursorPage<ArticleSearchHit> searchArticles(String searchTerm, String cursor, int limit) {
+        if (!StringUtils.hasText(searchTerm)) {
+            throw new InvalidRequestException("Search term is required");
+        }
+        String query = searchTerm.trim();
+        return searchTimer.record(() -> articleSearchEngine.search(query, cursor, limit));
     }
 
     /**
      * Get articles by category
      */
     @Transactional(readOnly = true)
-    public Page<ArticleDto> getArticlesByCategory(String category, Pageable pageable) {
-        return articleRepository.findByPublishedTrueAndCategoryOrderByPublishDateDesc(category, pageable)
-                .map(articleMapper::toDto);
+    public Page<ArticleSummaryDto> getArticlesByCategory(String category, Pageable pageable) {
+        Specification<Article> spec = Specification.where(ArticleSpecifications.isPublished())
+                .and(ArticleSpecifications.hasCategory(category));
+        OptionalLong cachedTotal = publishedCounts.count(category, null);
+        if (cachedTotal.isPresent()) {
+            return withCachedTotal(articleRepository.findListSlice(spec, pageable), cachedTotal.getAsLong());
+        }
+        return articleRepository.findListPage(spec, pageable);
     }
 
     /**
-     * Get articles by tags - temporarily disabled due to @Transient tags field
+     * Get published articles carrying any or all of the tags, newest first.
+     * Matching, counting and ordering happen in the tag index; only the page's rows are read.
      */
     @Transactional(readOnly = true)
-    public Page<ArticleDto> getArticlesByTags(List<String> tags, Pageable pageable) {
-        // Temporarily return empty page until tags field is restored
-        return org.springframework.data.domain.Page.empty(pageable);
+    public Page<ArticleSummaryDto> getArticlesByTags(List<String> tags, TagMatch tagMatch, Pageable pageable) {
+        Set<String> normalized = TagIndex.normalize(tags);
+        if (normalized.isEmpty()) {
+            throw new InvalidRequestException("At least one tag is required");
+        }
+        if (!tagIndex.isReady()) {
+            return articleRepository.findListPage(
+                    Specification.where(ArticleSpecifications.isPublished())
+                            .and(ArticleSpecifications.hasTags(normalized, tagMatch)),
+                    pageable);
+        }
+
+        RoaringBitmap ids = tagIndex.match(normalized, tagMatch);
+        List<Long> pageIds = tagIndex.page(ids, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(findSummariesInOrder(pageIds), pageable, ids.getCardinality());
     }
 
     /**
@@ -237,51 +498,76 @@ public class ArticleService {
     }
 
     /**
-     * Get all available tags - temporarily disabled due to @Transient tags field
+     * Get all tags used by published articles
      */
-    @Transactional(readOnly = true)
     public List<String> getAllTags() {
-        // Temporarily return empty list until tags field is restored
-        return new ArrayList<>();
+        return tagIndex.getTags();
+    }
+
+    /**
+     * Get tag usage counts for a tag cloud, or facet counts within a tag filter
+     */
+    public List<TagCount> getTagCounts(List<String> tags, TagMatch tagMatch, int limit) {
+        return tagIndex.getCounts(tags, tagMatch, Math.max(1, Math.min(limit, MAX_TAG_COUNTS)));
     }
 
     /**
-     * Get related articles - temporarily disabled due to @Transient tags field
+     * Get the published articles most related to the given article by category, tags and text,
+     * from the precomputed related-articles lists. Until those are first computed, falls back to
+     * the articles sharing the most tags.
      */
     @Transactional(readOnly = true)
-    public List<ArticleDto> getRelatedArticles(Long articleId, int limit) {
-        // Temporarily return empty list until tags field is restored
-        return new ArrayList<>();
+    public List<ArticleSummaryDto> getRelatedArticles(Long articleId, int limit) {
+        int capped = Math.max(1, Math.min(limit, MAX_RELATED_ARTICLES));
+        List<Long> ids = relatedArticles.isReady()
+                ? relatedArticles.getRelated(articleId, capped)
+                : tagIndex.findRelated(articleId, capped);
+        return findSummariesInOrder(ids);
     }
 
     /**
      * Get most viewed articles
      */
     @Transactional(readOnly = true)
-    public Page<ArticleDto> getMostViewedArticles(Pageable pageable) {
-        return articleRepository.findByPublishedTrueOrderByViewsDescPublishDateDesc(pageable)
-                .map(articleMapper::toDto);
+    public Page<ArticleSummaryDto> getMostViewedArticles(Pageable pageable) {
+        OptionalLong cachedTotal = publishedCounts.count(null, null);
+        if (cachedTotal.isPresent()) {
+            return withCachedTotal(articleRepository.findMostViewedSlice(pageable), cachedTotal.getAsLong());
+        }
+        return articleRepository.findMostViewedSummaries(pageable);
+    }
+
+    /**
+     * Get the published articles with the most recent views, by exponentially decayed view count
+     */
+    @Transactional(readOnly = true)
+    public List<ArticleSummaryDto> getTrendingArticles(TrendingWindow window, int limit) {
+        return findSummariesInOrder(trendingTracker.getTrending(window, limit));
     }
 
     /**
      * Get recent articles
      */
     @Transactional(readOnly = true)
-    public List<ArticleDto> getRecentArticles(int days, int limit) {
+    public List<ArticleSummaryDto> getRecentArticles(int days, int limit) {
         LocalDateTime since = LocalDateTime.now().minusDays(days);
-        Pageable pageable = PageRequest.of(0, limit);
-        return articleRepository.findRecentArticles(since, pageable)
-                .stream()
-                .map(articleMapper::toDto)
-                .toList();
+        return articleRepository.findRecentSummaries(since, PageRequest.of(0, limit));
     }
 
     /**
-     * Get article statistics
+     * Get article statistics, from the in-memory counters once they are loaded
      */
     @Transactional(readOnly = true)
     public ArticleStatsDto getArticleStatistics() {
         ArticleStatsDto stats = new ArticleStatsDto();
+        if (statisticsService.isReady()) {
+            long published = statisticsService.getPublishedArticles();
+            long drafts = statisticsService.getDraftArticles();
+            stats.setTotalArticles(published + drafts);
+            stats.setPublishedArticles(published);
+            stats.setDraftArticles(drafts);
+            return stats;
+        }
         stats.setTotalArticles(articleRepository.count());
         stats.setPublishedArticles(articleRepository.countByPublishedTrue());
         stats.setDraftArticles(articleRepository.countByPublishedFalse());
@@ -290,52 +576,179 @@ public class ArticleService {
     }
 
     /**
-     * Get all published articles using native query to bypass entity mapping issues
+     * Get published articles using keyset pagination on (publish_date, id), with the same filters
+     * as the paged feed. Avoids both the OFFSET scan and the count query of the page-based feed.
      */
     @Transactional(readOnly = true)
-    public Page<ArticleDto> getPublishedArticlesNative(String search, String category, 
-                                                      Boolean featured, List<String> tags, 
-                                                      Pageable pageable) {
-        // Use native query to bypass entity mapping issues
-        List<Object[]> nativeResults = articleRepository.findPublishedArticlesNative(pageable);
-        
-        // Manually map results to DTOs
-        List<ArticleDto> articles = new ArrayList<>();
-        for (Object[] row : nativeResults) {
-            ArticleDto dto = new ArticleDto();
-            dto.setId((Long) row[0]);
-            dto.setTitle((String) row[1]);
-            dto.setExcerpt((String) row[2]);
-            dto.setCategory((String) row[3]);
-            dto.setPublished((Boolean) row[4]);
-            dto.setFeatured((Boolean) row[5]);
-            dto.setViews((Integer) row[6]);
-            dto.setAuthorId((Long) row[7]);
-            
-            // Convert java.sql.Timestamp to java.time.LocalDateTime
-            dto.setCreatedAt(row[8] != null ? ((java.sql.Timestamp) row[8]).toLocalDateTime() : null);
-            dto.setUpdatedAt(row[9] != null ? ((java.sql.Timestamp) row[9]).toLocalDateTime() : null);
-            dto.setPublishDate(row[10] != null ? ((java.sql.Timestamp) row[10]).toLocalDateTime() : null);
-            
-            // Set default values for fields not included in native query
-            dto.setContent(""); // Content not included to avoid mapping issues
-            dto.setImages(new ArrayList<>());
-            dto.setVideos(new ArrayList<>());
-            dto.setTags(new ArrayList<>());
-            
-            articles.add(dto);
+    public CursorPage<ArticleSummaryDto> getPublishedArticlesByCursor(String search, String category,
+                                                                    Boolean featured, List<String> tags,
+                                                                    TagMatch tagMatch, String cursor, int limit) {
+        Specification<Article> spec = publishedFilter(search, category, featured, tags, tagMatch);
+        if (StringUtils.hasText(cursor)) {
+            ArticleCursor position = ArticleCursor.decode(cursor);
+            spec = spec.and(ArticleSpecifications.publishedBefore(position.getTimestamp(), position.getId()));
         }
-        
-        // Create Page manually since native query returns List
-        long total = articleRepository.countByPublishedTrue();
-        return new org.springframework.data.domain.PageImpl<>(articles, pageable, total);
+        List<ArticleSummaryDto> rows = articleRepository.findList(spec, limit + 1);
+        return toCursorPage(rows, limit, ArticleSummaryDto::getPublishDate);
+    }
+
+    /**
+     * Get published articles in a category using keyset pagination on (publish_date, id)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ArticleSummaryDto> getArticlesByCategoryCursor(String category, String cursor, int limit) {
+        Pageable window = cursorWindow(limit);
+        List<ArticleSummaryDto> rows;
+        if (StringUtils.hasText(cursor)) {
+            ArticleCursor position = ArticleCursor.decode(cursor);
+            rows = articleRepository.findCategoryFeedBefore(category, position.getTimestamp(), position.getId(), window);
+        } else {
+            rows = articleRepository.findCategoryFeed(category, window);
+        }
+        return toCursorPage(rows, limit, ArticleSummaryDto::getPublishDate);
+    }
+
+    /**
+     * Get articles by author using keyset pagination on (created_at, id)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ArticleSummaryDto> getArticlesByAuthorCursor(Long authorId, String cursor, int limit) {
+        Pageable window = cursorWindow(limit);
+        List<ArticleSummaryDto> rows;
+        if (StringUtils.hasText(cursor)) {
+            ArticleCursor position = ArticleCursor.decode(cursor);
+            rows = articleRepository.findAuthorFeedBefore(authorId, position.getTimestamp(), position.getId(), window);
+        } else {
+            rows = articleRepository.findAuthorFeed(authorId, window);
+        }
+        return toCursorPage(rows, limit, ArticleSummaryDto::getCreatedAt);
     }
 
     // Private helper methods
 
-    private boolean hasFilters(String search, String category, Boolean featured, List<String> tags) {
-        return search != null || category != null || featured != null || 
-               (tags != null && !tags.isEmpty());
+    /**
+     * Fetch one row more than requested so hasNext is known without a count query
+     */
+    private Pageable cursorWindow(int limit) {
+        return PageRequest.of(0, limit + 1);
+    }
+
+    /**
+     * Page from a slice and a cached total. The slice corrects the total where it proves it wrong:
+     * it is exact on the last page and never less than the rows already seen plus one when more follow.
+     */
+    private static <T> Page<T> withCachedTotal(Slice<T> slice, long cachedTotal) {
+        Pageable pageable = slice.getPageable();
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(slice.getContent());
+        }
+        long seen = pageable.getOffset() + slice.getNumberOfElements();
+        long total;
+        if (slice.hasNext()) {
+            total = Math.max(cachedTotal, seen + 1);
+        } else if (slice.hasContent()) {
+            total = seen;
+        } else {
+            // Past the end: the cache can only have been too high
+            total = Math.min(cachedTotal, pageable.getOffset());
+        }
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+
+    private CursorPage<ArticleSummaryDto> toCursorPage(List<ArticleSummaryDto> rows, int limit,
+                                                       Function<ArticleSummaryDto, LocalDateTime> sortKey) {
+        boolean hasNext = rows.size() > limit;
+        List<ArticleSummaryDto> page = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ArticleSummaryDto last = page.get(page.size() - 1);
+            nextCursor = ArticleCursor.encode(sortKey.apply(last), last.getId());
+        }
+        return new CursorPage<>(page, limit, hasNext, nextCursor);
+    }
+
+    /**
+     * Public feed filters
+     */
+    private Specification<Article> publishedFilter(String search, String category, Boolean featured,
+                                                   List<String> tags, TagMatch tagMatch) {
+        return Specification.where(ArticleSpecifications.isPublished())
+                .and(ArticleSpecifications.hasCategory(category))
+                .and(ArticleSpecifications.isFeatured(featured))
+                .and(ArticleSpecifications.matchesText(search))
+                .and(tagFilter(TagIndex.normalize(tags), tagMatch));
+    }
+
+    /**
+     * Resolve a tag filter to the matching ids from the tag index, falling back to a subquery on
+     * article_tags before the index is built or when the id list would be too long to bind
+     */
+    private Specification<Article> tagFilter(Set<String> tags, TagMatch tagMatch) {
+        if (tags.isEmpty()) {
+            return null;
+        }
+        if (tagIndex.isReady()) {
+            RoaringBitmap ids = tagIndex.match(tags, tagMatch);
+            if (ids.getCardinality() <= MAX_TAG_ID_FILTER) {
+                return ArticleSpecifications.hasIdIn(ids.stream().mapToObj(Long::valueOf).toList());
+            }
+        }
+        return ArticleSpecifications.hasTags(tags, tagMatch);
+    }
+
+    private ArticleDto withAuthor(ArticleDto article) {
+        withAuthors(List.of(article));
+        return article;
+    }
+
+    /**
+     * Attach the stored body, which is not part of the article row
+     */
+    private ArticleDto withBody(ArticleDto article) {
+        article.setBody(contentStore.find(article.getId()));
+        return article;
+    }
+
+    /**
+     * Fill in the author of each article from the author cache, with at most one user query
+     * for the distinct authors not cached yet
+     */
+    private void withAuthors(List<ArticleDto> articles) {
+        Set<Long> authorIds = new HashSet<>();
+        for (ArticleDto article : articles) {
+            if (article.getAuthorId() != null) {
+                authorIds.add(article.getAuthorId());
+            }
+        }
+        if (authorIds.isEmpty()) {
+            return;
+        }
+        Map<Long, UserDto> authors = authorCache.getAuthors(authorIds);
+        for (ArticleDto article : articles) {
+            article.setAuthor(authors.get(article.getAuthorId()));
+        }
+    }
+
+    /**
+     * Published summaries for the ids, in the order given; ids no longer published are skipped
+     */
+    private List<ArticleSummaryDto> findSummariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ArticleSummaryDto> byId = new HashMap<>();
+        for (ArticleSummaryDto summary : articleRepository.findPublishedSummariesByIds(ids)) {
+            byId.put(summary.getId(), summary);
+        }
+        List<ArticleSummaryDto> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ArticleSummaryDto summary = byId.get(id);
+            if (summary != null) {
+                ordered.add(summary);
+            }
+        }
+        return ordered;
     }
 
     private void validateArticleAccess(Article article, User user) {
@@ -352,15 +765,6 @@ public class ArticleService {
         }
     }
 
-    @Transactional
-    private void incrementViewCount(Long articleId) {
-        try {
-            articleRepository.incrementViews(articleId);
-        } catch (Exception e) {
-            logger.warn("Failed to increment view count for article {}: {}", articleId, e.getMessage());
-        }
-    }
-
     /**
      * Article statistics DTO
      */
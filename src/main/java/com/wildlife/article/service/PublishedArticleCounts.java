@@ -0,0 +1,143 @@
+package com.wildlife.article.service;
+
+import com.wildlife.article.core.ArticleChangedEvent;
+import com.wildlife.article.persistence.ArticleCountRow;
+import com.wildlife.article.persistence.ArticleRepository;
+import com.wildlife.shared.datasource.ReadRouting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cached number of feed-visible published articles per (category, featured), so paged feeds can
+ * report totals without a COUNT(*) per request.
+ * Counts are adjusted from {@link ArticleChangedEvent}s after each write commits, and replaced by
+ * one grouped count query at startup and on a timer (wildlife.pagination.count-reconcile-interval-ms),
+ * which corrects any drift from concurrent writes. Totals are therefore approximate between reconciles.
+ */
+@Component
+public class PublishedArticleCounts {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublishedArticleCounts.class);
+
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Null until the first reconcile
+    private volatile Map<Bucket, AtomicLong> counts;
+
+    @Autowired
+    public PublishedArticleCounts(ArticleRepository articleRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.articleRepository = articleRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Cached number of published articles, optionally restricted to a category and featured flag;
+     * empty until the counts have been loaded
+     */
+    public OptionalLong count(String category, Boolean featured) {
+        Map<Bucket, AtomicLong> current = counts;
+        if (current == null) {
+            return OptionalLong.empty();
+        }
+        String categoryFilter = StringUtils.hasText(category) ? category : null;
+        long total = 0;
+        for (Map.Entry<Bucket, AtomicLong> entry : current.entrySet()) {
+            Bucket bucket = entry.getKey();
+            if ((categoryFilter == null || categoryFilter.equals(bucket.category))
+                    && (featured == null || featured == bucket.featured)) {
+                total += entry.getValue().get();
+            }
+        }
+        return OptionalLong.of(Math.max(0, total));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    /**
+     * Replace the cached counts with exact ones from a single grouped query
+     */
+    @Scheduled(fixedDelayString = "${wildlife.pagination.count-reconcile-interval-ms:600000}",
+               initialDelayString = "${wildlife.pagination.count-reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            Map<Bucket, AtomicLong> exact = new ConcurrentHashMap<>();
+            ReadRouting.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                for (ArticleCountRow row : articleRepository.countPublishedByCategoryAndFeatured()) {
+                    Bucket bucket = new Bucket(row.getCategory(), Boolean.TRUE.equals(row.getFeatured()));
+                    exact.computeIfAbsent(bucket, key -> new AtomicLong()).addAndGet(row.getTotal());
+                }
+            }));
+            if (logger.isDebugEnabled() && counts != null) {
+                logger.debug("Reconciled published article counts: cached {}, exact {}",
+                        count(null, null).orElse(0), exact.values().stream().mapToLong(AtomicLong::get).sum());
+            }
+            counts = exact;
+        } catch (RuntimeException e) {
+            // Keep the incrementally maintained counts; the next tick retries
+            logger.warn("Failed to reconcile published article counts: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Move the article between buckets once the change has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        Map<Bucket, AtomicLong> current = counts;
+        if (current == null) {
+            return;
+        }
+        if (event.isPublishedBefore()) {
+            Bucket before = new Bucket(event.getCategoryBefore(), event.isFeaturedBefore());
+            current.computeIfAbsent(before, key -> new AtomicLong()).decrementAndGet();
+        }
+        if (event.isPublishedAfter()) {
+            Bucket after = new Bucket(event.getArticle().getCategory(), event.getArticle().isFeatured());
+            current.computeIfAbsent(after, key -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    private static final class Bucket {
+        private final String category;
+        private final boolean featured;
+
+        private Bucket(String category, boolean featured) {
+            this.category = category;
+            this.featured = featured;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Bucket)) return false;
+            Bucket bucket = (Bucket) o;
+            return featured == bucket.featured && Objects.equals(category, bucket.category);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(category, featured);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.wildlife.article.service;
+
+import com.wildlife.article.core.Article;
+import com.wildlife.article.core.ArticleChangedEvent;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind article view counter.
+ * Views are accumulated in memory with one striped LongAdder per article, so concurrent reads of a
+ * popular article never contend on a database row lock, and are written periodically as a single
+ * batched UPDATE. Pending views are also flushed on graceful shutdown.
+ * <p>
+ * The UPDATE goes around Hibernate, so it neither invalidates the whole Article cache region nor
+ * the query cache; only the flushed articles are evicted, so their next read loads the new count.
+ */
+@Component
+public class ViewCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ViewCounter.class);
+
+    private static final String FLUSH_SQL = "UPDATE articles SET views = views + ? WHERE id = ?";
+
+    // Adders are kept once created: flushed counts are subtracted from them, whereas removing an
+    // entry could drop an increment made through a reference obtained just before the removal
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache entityCache;
+
+    @Autowired
+    public ViewCounter(JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityCache = entityManagerFactory.getCache();
+    }
+
+    /**
+     * Record one view and return the number of views not yet written to the database
+     */
+    public long increment(Long articleId) {
+        LongAdder adder = pending.computeIfAbsent(articleId, id -> new LongAdder());
+        adder.increment();
+        return adder.sum();
+    }
+
+    /**
+     * Views recorded for the article but not yet written to the database
+     */
+    public long getPending(Long articleId) {
+        LongAdder adder = pending.get(articleId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * Write all pending views in one batched UPDATE.
+     * The counts stay pending until the UPDATE has committed and the articles are evicted, so
+     * views + pending never drops in between; on failure they are simply retried on the next flush.
+     */
+    @Scheduled(fixedDelayString = "${wildlife.views.flush-interval-ms:5000}",
+               initialDelayString = "${wildlife.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        List<LongAdder> flushed = new ArrayList<>();
+        pending.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey()) // consistent lock order across instances
+                .forEach(entry -> {
+                    long count = entry.getValue().sum();
+                    if (count > 0) {
+                        batch.add(new Object[]{count, entry.getKey()});
+                        flushed.add(entry.getValue());
+                    }
+                });
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to flush views for {} articles, will retry: {}", batch.size(), e.getMessage());
+            return;
+        }
+        batch.forEach(row -> entityCache.evict(Article.class, row[1]));
+        for (int i = 0; i < batch.size(); i++) {
+            flushed.get(i).add(-(Long) batch.get(i)[0]);
+        }
+        logger.debug("Flushed views for {} articles", batch.size());
+    }
+
+    /**
+     * Forget pending views of a deleted article
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.getType() == ArticleChangedEvent.Type.DELETED) {
+            pending.remove(event.getArticleId());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
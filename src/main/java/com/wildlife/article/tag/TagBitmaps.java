@@ -0,0 +1,299 @@
+package com.wildlife.article.tag;
+
+import com.wildlife.article.api.TagCount;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Tag → article-id bitmaps over published articles.
+ * Article ids are used directly as positions in compressed (Roaring) bitmaps, so memory follows
+ * the number of tagged articles rather than the largest id: pooled sequences and bulk imports
+ * leave gaps between ids. AND/OR filters and tag counts are bitmap operations. A reverse map keeps
+ * each article's tags and publish date, for incremental updates and for ordering matches newest first.
+ * Reads run concurrently and return copies; writes take the write lock briefly.
+ */
+final class TagBitmaps {
+
+    // Newest first: publish date descending, then id descending
+    private static final Comparator<Candidate> NEWEST_FIRST = Comparator
+            .comparing((Candidate candidate) -> candidate.publishDate,
+                    Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparingLong(candidate -> candidate.id)
+            .reversed();
+
+    private final Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+    private final Map<Long, Entry> articles = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Whether the id can be used as a bit position
+     */
+    static boolean isIndexable(long id) {
+        return id >= 0 && id <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * Set the tags of an article, replacing any previous ones
+     */
+    void put(long id, Collection<String> tags, LocalDateTime publishDate) {
+        String[] distinct = new LinkedHashSet<>(tags).toArray(new String[0]);
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            if (distinct.length == 0) {
+                return;
+            }
+            for (String tag : distinct) {
+                bitmaps.computeIfAbsent(tag, key -> new RoaringBitmap()).add((int) id);
+            }
+            articles.put(id, new Entry(distinct, publishDate));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Entry existing = articles.remove(id);
+        if (existing == null) {
+            return;
+        }
+        for (String tag : existing.tags) {
+            RoaringBitmap bitmap = bitmaps.get(tag);
+            if (bitmap != null) {
+                bitmap.remove((int) id);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(tag);
+                }
+            }
+        }
+    }
+
+    /**
+     * Articles carrying any (union) or all (intersection) of the tags, as a new bitmap
+     */
+    RoaringBitmap match(Collection<String> tags, TagMatch match) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = null;
+            for (String tag : tags) {
+                RoaringBitmap bitmap = bitmaps.get(tag);
+                if (bitmap == null) {
+                    if (match == TagMatch.ALL) {
+                        return new RoaringBitmap();
+                    }
+                    continue;
+                }
+                if (result == null) {
+                    result = bitmap.clone();
+                } else if (match == TagMatch.ALL) {
+                    result.and(bitmap);
+                } else {
+                    result.or(bitmap);
+                }
+            }
+            return result != null ? result : new RoaringBitmap();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the matched articles for one page, newest first.
+     * Only the first offset + size candidates are kept while scanning, so no full sort is needed;
+     * the heap never holds more than the number of matches.
+     */
+    List<Long> page(RoaringBitmap ids, long offset, int size) {
+        int matches = ids.getCardinality();
+        if (offset < 0 || size <= 0 || offset >= matches) {
+            return List.of();
+        }
+        int keep = (int) Math.min(offset + size, matches);
+        PriorityQueue<Candidate> best = new PriorityQueue<>(keep + 1, NEWEST_FIRST.reversed());
+        lock.readLock().lock();
+        try {
+            IntIterator it = ids.getIntIterator();
+            while (it.hasNext()) {
+                int id = it.next();
+                Entry entry = articles.get((long) id);
+                if (entry == null) {
+                    continue;
+                }
+                best.add(new Candidate(id, entry.publishDate, 0));
+                if (best.size() > keep) {
+                    best.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return toIds(best, NEWEST_FIRST, (int) offset);
+    }
+
+    /**
+     * Published articles sharing tags with the given one, most shared tags first, then newest
+     */
+    List<Long> related(long id, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Comparator<Candidate> ranking = Comparator.comparingInt((Candidate candidate) -> candidate.shared)
+                .reversed()
+                .thenComparing(NEWEST_FIRST);
+        PriorityQueue<Candidate> best;
+        lock.readLock().lock();
+        try {
+            Entry source = articles.get(id);
+            if (source == null) {
+                return List.of();
+            }
+            RoaringBitmap[] sourceBitmaps = new RoaringBitmap[source.tags.length];
+            for (int i = 0; i < source.tags.length; i++) {
+                sourceBitmaps[i] = bitmaps.get(source.tags[i]);
+            }
+            RoaringBitmap candidates = RoaringBitmap.or(sourceBitmaps);
+            candidates.remove((int) id);
+            best = new PriorityQueue<>(Math.min(limit, candidates.getCardinality()) + 1, ranking.reversed());
+
+            IntIterator it = candidates.getIntIterator();
+            while (it.hasNext()) {
+                int candidate = it.next();
+                int shared = 0;
+                for (RoaringBitmap bitmap : sourceBitmaps) {
+                    if (bitmap.contains(candidate)) {
+                        shared++;
+                    }
+                }
+                best.add(new Candidate(candidate, articles.get((long) candidate).publishDate, shared));
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return toIds(best, ranking, 0);
+    }
+
+    /**
+     * Article count per tag, most used first. With a selection, counts only articles in it
+     * (facet counts for the current filter) and omits tags that do not occur there.
+     */
+    List<TagCount> counts(RoaringBitmap within, int limit) {
+        List<TagCount> counts = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, RoaringBitmap> entry : bitmaps.entrySet()) {
+                int count = within == null
+                        ? entry.getValue().getCardinality()
+                        : RoaringBitmap.andCardinality(entry.getValue(), within);
+                if (count > 0) {
+                    counts.add(new TagCount(entry.getKey(), count));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        counts.sort(Comparator.comparingInt(TagCount::getCount).reversed().thenComparing(TagCount::getTag));
+        return counts.size() > limit ? new ArrayList<>(counts.subList(0, limit)) : counts;
+    }
+
+    List<String> tags() {
+        lock.readLock().lock();
+        try {
+            List<String> tags = new ArrayList<>(bitmaps.keySet());
+            tags.sort(null);
+            return tags;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int tagCount() {
+        lock.readLock().lock();
+        try {
+            return bitmaps.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int articleCount() {
+        lock.readLock().lock();
+        try {
+            return articles.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    long estimateBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (Map.Entry<String, RoaringBitmap> entry : bitmaps.entrySet()) {
+                // map node + key + the bitmap's containers
+                bytes += 32 + 40 + 2L * entry.getKey().length() + entry.getValue().getSizeInBytes();
+            }
+            for (Entry entry : articles.values()) {
+                // map node + boxed key + entry + tag array (tag strings are shared with the bitmap keys)
+                bytes += 32 + 16 + 24 + 16 + 4L * entry.tags.length;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static List<Long> toIds(PriorityQueue<Candidate> candidates, Comparator<Candidate> order, int offset) {
+        List<Candidate> sorted = new ArrayList<>(candidates);
+        sorted.sort(order);
+        List<Long> ids = new ArrayList<>(Math.max(0, sorted.size() - offset));
+        for (int i = offset; i < sorted.size(); i++) {
+            ids.add(sorted.get(i).id);
+        }
+        return ids;
+    }
+
+    private static final class Entry {
+        final String[] tags;
+        final LocalDateTime publishDate;
+
+        Entry(String[] tags, LocalDateTime publishDate) {
+            this.tags = tags;
+            this.publishDate = publishDate;
+        }
+    }
+
+    private static final class Candidate {
+        final long id;
+        final LocalDateTime publishDate;
+        final int shared;
+
+        Candidate(long id, LocalDateTime publishDate, int shared) {
+            this.id = id;
+            this.publishDate = publishDate;
+            this.shared = shared;
+        }
+    }
+}
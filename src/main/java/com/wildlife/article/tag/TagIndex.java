@@ -0,0 +1,217 @@
+package com.wildlife.article.tag;
+
+import com.wildlife.article.api.TagCount;
+import com.wildlife.article.core.ArticleChangedEvent;
+import com.wildlife.article.persistence.ArticleRepository;
+import com.wildlife.article.persistence.ArticleTagRow;
+import com.wildlife.shared.datasource.ReadRouting;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-memory tag index over published articles, answering tag filters, tag lists and tag counts
+ * with bitmap operations instead of joins on article_tags.
+ * Bootstrapped by streaming (article, tag) pairs once the application is ready, then kept current
+ * from {@link ArticleChangedEvent}s after each write commits.
+ */
+@Component
+public class TagIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagIndex.class);
+
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private volatile TagBitmaps bitmaps = new TagBitmaps();
+    private volatile boolean ready;
+
+    // Changes that arrive while a rebuild is streaming, replayed onto the new index before it goes live
+    private final Object rebuildLock = new Object();
+    private List<Consumer<TagBitmaps>> pendingChanges;
+
+    @Autowired
+    public TagIndex(ArticleRepository articleRepository,
+                    PlatformTransactionManager transactionManager,
+                    MeterRegistry meterRegistry) {
+        this.articleRepository = articleRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        Gauge.builder("wildlife.tags.index.size", this, index -> index.bitmaps.estimateBytes())
+                .description("Approximate heap used by the in-memory tag index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("wildlife.tags.index.tags", this, index -> index.bitmaps.tagCount())
+                .description("Distinct tags on published articles")
+                .register(meterRegistry);
+        Gauge.builder("wildlife.tags.index.articles", this, index -> index.bitmaps.articleCount())
+                .description("Published articles with at least one tag")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Build a fresh index from the database and swap it in
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (rebuildLock) {
+            pendingChanges = new ArrayList<>();
+        }
+
+        TagBitmaps fresh = new TagBitmaps();
+        try {
+            ReadRouting.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<ArticleTagRow> rows = articleRepository.streamPublishedTags()) {
+                    // Rows arrive ordered by article id; collect each article's tags, then index it
+                    Long[] currentId = {null};
+                    LocalDateTime[] currentDate = {null};
+                    List<String> currentTags = new ArrayList<>();
+                    rows.forEach(row -> {
+                        if (!row.getArticleId().equals(currentId[0])) {
+                            putIfIndexable(fresh, currentId[0], currentTags, currentDate[0]);
+                            currentId[0] = row.getArticleId();
+                            currentDate[0] = row.getPublishDate();
+                            currentTags.clear();
+                        }
+                        currentTags.add(row.getTag());
+                    });
+                    putIfIndexable(fresh, currentId[0], currentTags, currentDate[0]);
+                }
+            }));
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                pendingChanges = null;
+            }
+            throw e;
+        }
+
+        synchronized (rebuildLock) {
+            pendingChanges.forEach(change -> change.accept(fresh));
+            pendingChanges = null;
+            bitmaps = fresh;
+            ready = true;
+        }
+        logger.info("Tag index built: {} tags over {} articles, ~{} KB in {} ms",
+                fresh.tagCount(), fresh.articleCount(), fresh.estimateBytes() / 1024,
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Apply an article write to the index once it has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        long id = event.getArticleId();
+        Consumer<TagBitmaps> change;
+        if (event.isPublishedAfter()) {
+            List<String> tags = event.getArticle().getTags();
+            LocalDateTime publishDate = event.getArticle().getPublishDate();
+            change = target -> putIfIndexable(target, id, tags, publishDate);
+        } else if (event.isPublishedBefore()) {
+            change = target -> target.remove(id);
+        } else {
+            // Draft before and after: never indexed
+            return;
+        }
+
+        synchronized (rebuildLock) {
+            if (pendingChanges != null) {
+                pendingChanges.add(change);
+            }
+            change.accept(bitmaps);
+        }
+    }
+
+    /**
+     * Whether the startup build has completed; before that the index is empty
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Ids of published articles carrying any or all of the tags
+     */
+    public RoaringBitmap match(Collection<String> tags, TagMatch match) {
+        return bitmaps.match(normalize(tags), match);
+    }
+
+    /**
+     * One page of the matched ids, newest publish date first
+     */
+    public List<Long> page(RoaringBitmap ids, long offset, int size) {
+        return bitmaps.page(ids, offset, size);
+    }
+
+    /**
+     * Ids of published articles sharing tags with the article, most shared tags first
+     */
+    public List<Long> findRelated(long articleId, int limit) {
+        return bitmaps.related(articleId, limit);
+    }
+
+    /**
+     * All tags in use by published articles, alphabetically
+     */
+    public List<String> getTags() {
+        return bitmaps.tags();
+    }
+
+    /**
+     * Tag usage counts, most used first. When tags are given, counts are restricted to the articles
+     * matching them, giving the facet counts for refining that filter.
+     */
+    public List<TagCount> getCounts(Collection<String> within, TagMatch match, int limit) {
+        Set<String> filter = normalize(within);
+        TagBitmaps current = bitmaps;
+        return current.counts(filter.isEmpty() ? null : current.match(filter, match), limit);
+    }
+
+    /**
+     * Trimmed, distinct, non-blank tags in request order
+     */
+    public static Set<String> normalize(Collection<String> tags) {
+        Set<String> normalized = new LinkedHashSet<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (StringUtils.hasText(tag)) {
+                    normalized.add(tag.trim());
+                }
+            }
+        }
+        return normalized;
+    }
+
+    private static void putIfIndexable(TagBitmaps target, Long id, Collection<String> tags,
+                                       LocalDateTime publishDate) {
+        if (id == null) {
+            return;
+        }
+        if (!TagBitmaps.isIndexable(id)) {
+            logger.warn("Article id {} is out of bitmap range and will not be tag-indexed", id);
+            return;
+        }
+        target.put(id, tags, publishDate);
+    }
+}
@@ -0,0 +1,32 @@
+package com.wildlife.article.tag;
+
+import com.wildlife.shared.exception.InvalidRequestException;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * How a multi-tag filter combines its tags
+ */
+public enum TagMatch {
+
+    /** Articles carrying at least one of the tags (union) */
+    ANY,
+
+    /** Articles carrying every one of the tags (intersection) */
+    ALL;
+
+    /**
+     * Parse the tagMatch request parameter; absent means ANY
+     */
+    public static TagMatch from(String value) {
+        if (!StringUtils.hasText(value)) {
+            return ANY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("tagMatch must be 'any' or 'all'");
+        }
+    }
+}
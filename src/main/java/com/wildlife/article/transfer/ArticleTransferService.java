@@ -0,0 +1,389 @@
+package com.wildlife.article.transfer;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.wildlife.article.api.ArticleImportResult;
+import com.wildlife.article.content.ArticleBody;
+import com.wildlife.article.content.ArticleContentStore;
+import com.wildlife.article.core.Article;
+import com.wildlife.article.core.ArticleChangedEvent;
+import com.wildlife.shared.config.JsonSupport;
+import com.wildlife.user.persistence.UserRepository;
+import com.wildlife.user.service.UserService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bulk export and import of articles as NDJSON (one JSON object per line).
+ * <p>
+ * The export reads all articles, tags included, through one forward-only cursor with a JDBC fetch
+ * size and writes each row as soon as it is read, so memory use does not grow with the table.
+ * Stored bodies are inflated straight into the output.
+ * The import parses the stream one line at a time and inserts articles and tags with JDBC batch
+ * inserts (bodies through the content store), committing every wildlife.transfer.batch-size rows.
+ * Imported articles get new ids; their author is kept when that user exists, otherwise the
+ * importing user becomes the author.
+ */
+@Service
+public class ArticleTransferService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArticleTransferService.class);
+
+    private static final String EXPORT_SQL =
+            "SELECT a.id, a.title, a.excerpt, c.encoding, c.body, a.category, a.author_id, a.cover_image_url, " +
+            "a.images, a.videos, a.featured, a.published, a.publish_date, a.views, a.created_at, a.updated_at, " +
+            "ARRAY(SELECT t.tag FROM article_tags t WHERE t.article_id = a.id ORDER BY t.tag) AS tags " +
+            "FROM articles a LEFT JOIN article_content c ON c.article_id = a.id ORDER BY a.id";
+
+    private static final String INSERT_ARTICLE_SQL =
+            "INSERT INTO articles (author_id, category, cover_image_url, created_at, excerpt, featured, " +
+            "images, publish_date, published, title, updated_at, videos, views) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_TAG_SQL = "INSERT INTO article_tags (article_id, tag) VALUES (?, ?)";
+
+    private static final int MAX_REJECTIONS = 20;
+
+    private static final ObjectReader RECORD_READER = JsonSupport.mapper().readerFor(ArticleRecord.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final ArticleContentStore contentStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache entityCache;
+    private final Counter exportedRows;
+    private final Counter importedRows;
+    private final int batchSize;
+
+    @Autowired
+    public ArticleTransferService(JdbcTemplate jdbcTemplate,
+                                  DataSource dataSource,
+                                  PlatformTransactionManager transactionManager,
+                                  UserRepository userRepository,
+                                  UserService userService,
+                                  ArticleContentStore contentStore,
+                                  ApplicationEventPublisher eventPublisher,
+                                  EntityManagerFactory entityManagerFactory,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${wildlife.transfer.fetch-size:500}") int fetchSize,
+                                  @Value("${wildlife.transfer.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        this.cursorTemplate.setFetchSize(fetchSize);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // PostgreSQL only streams with a fetch size inside a transaction
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.userRepository = userRepository;
+        this.userService = userService;
+        this.contentStore = contentStore;
+        this.eventPublisher = eventPublisher;
+        this.entityCache = entityManagerFactory.getCache().unwrap(Cache.class);
+        this.batchSize = Math.max(1, batchSize);
+        this.exportedRows = Counter.builder("wildlife.transfer.rows")
+                .description("Articles exported or imported in bulk")
+                .tag("direction", "export")
+                .register(meterRegistry);
+        this.importedRows = Counter.builder("wildlife.transfer.rows")
+                .description("Articles exported or imported in bulk")
+                .tag("direction", "import")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Write every article as one NDJSON line to the stream, in id order
+     */
+    public void exportArticles(OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        long[] rows = {0};
+        try (JsonGenerator generator = JsonSupport.mapper().getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            readOnlyTransaction.executeWithoutResult(status -> cursorTemplate.query(EXPORT_SQL, row -> {
+                try {
+                    writeRecord(generator, row);
+                } catch (IOException e) {
+                    // Client went away; abandon the cursor
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            exportedRows.increment(rows[0]);
+            long millis = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            logger.info("Exported {} articles in {} ms ({} rows/s)", rows[0], millis, rows[0] * 1000 / millis);
+        }
+    }
+
+    /**
+     * Insert the articles of an NDJSON stream in batches. Lines without a title or excerpt are
+     * skipped; a line that is not valid JSON stops the import, keeping the batches already committed.
+     */
+    public ArticleImportResult importArticles(InputStream in) throws IOException {
+        Long fallbackAuthorId = userService.getCurrentUserEntity().getId();
+        long start = System.nanoTime();
+        long imported = 0;
+        long skipped = 0;
+        long line = 0;
+        List<String> rejections = new ArrayList<>();
+        String error = null;
+        Map<Long, Boolean> knownAuthors = new HashMap<>();
+        List<ImportedArticle> batch = new ArrayList<>(batchSize);
+
+        try (MappingIterator<ArticleRecord> records = RECORD_READER.readValues(in)) {
+            while (records.hasNextValue()) {
+                ArticleRecord record = records.nextValue();
+                line++;
+                String rejection = validate(record);
+                if (rejection != null) {
+                    skipped++;
+                    if (rejections.size() < MAX_REJECTIONS) {
+                        rejections.add("Line " + line + ": " + rejection);
+                    }
+                    continue;
+                }
+                batch.add(new ImportedArticle(
+                        toArticle(record, resolveAuthor(record.getAuthorId(), fallbackAuthorId, knownAuthors)),
+                        record.getContent()));
+                if (batch.size() >= batchSize) {
+                    imported += insertBatch(batch);
+                    batch.clear();
+                }
+            }
+        } catch (JsonProcessingException e) {
+            error = "Stopped after line " + line + ": " + e.getOriginalMessage();
+        }
+        if (!batch.isEmpty()) {
+            imported += insertBatch(batch);
+        }
+
+        importedRows.increment(imported);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        ArticleImportResult result = new ArticleImportResult(imported, skipped, rejections, error, millis);
+        logger.info("Imported {} articles ({} skipped) in {} ms ({} rows/s)",
+                imported, skipped, millis, Math.round(result.getRowsPerSecond()));
+        return result;
+    }
+
+    private void writeRecord(JsonGenerator generator, ResultSet row) throws SQLException, IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", row.getLong("id"));
+        writeString(generator, "title", row.getString("title"));
+        writeString(generator, "excerpt", row.getString("excerpt"));
+        byte[] body = row.getBytes("body");
+        if (body != null) {
+            generator.writeFieldName("content");
+            ArticleBody.of(row.getString("encoding"), body).serialize(generator, null);
+        }
+        writeString(generator, "category", row.getString("category"));
+        long authorId = row.getLong("author_id");
+        if (!row.wasNull()) {
+            generator.writeNumberField("authorId", authorId);
+        }
+        writeString(generator, "coverImageUrl", row.getString("cover_image_url"));
+        // Stored jsonb arrays are passed through as they are
+        writeRaw(generator, "images", row.getString("images"));
+        writeRaw(generator, "videos", row.getString("videos"));
+        generator.writeBooleanField("featured", row.getBoolean("featured"));
+        generator.writeBooleanField("published", row.getBoolean("published"));
+        writeTimestamp(generator, "publishDate", row.getTimestamp("publish_date"));
+        generator.writeNumberField("views", row.getInt("views"));
+        writeTimestamp(generator, "createdAt", row.getTimestamp("created_at"));
+        writeTimestamp(generator, "updatedAt", row.getTimestamp("updated_at"));
+        generator.writeArrayFieldStart("tags");
+        Array tags = row.getArray("tags");
+        if (tags != null) {
+            for (Object tag : (Object[]) tags.getArray()) {
+                generator.writeString((String) tag);
+            }
+            tags.free();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    private static void writeString(JsonGenerator generator, String field, String value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(field, value);
+        }
+    }
+
+    private static void writeRaw(JsonGenerator generator, String field, String json) throws IOException {
+        generator.writeFieldName(field);
+        generator.writeRawValue(StringUtils.hasText(json) ? json : "[]");
+    }
+
+    private static void writeTimestamp(JsonGenerator generator, String field, Timestamp value) throws IOException {
+        if (value != null) {
+            generator.writeStringField(field, value.toLocalDateTime().toString());
+        }
+    }
+
+    private static String validate(ArticleRecord record) {
+        if (record == null) {
+            return "empty record";
+        }
+        if (!StringUtils.hasText(record.getTitle())) {
+            return "title is required";
+        }
+        if (!StringUtils.hasText(record.getExcerpt())) {
+            return "excerpt is required";
+        }
+        return null;
+    }
+
+    private Long resolveAuthor(Long authorId, Long fallbackAuthorId, Map<Long, Boolean> knownAuthors) {
+        if (authorId == null) {
+            return fallbackAuthorId;
+        }
+        return knownAuthors.computeIfAbsent(authorId, userRepository::existsById) ? authorId : fallbackAuthorId;
+    }
+
+    private static Article toArticle(ArticleRecord record, Long authorId) {
+        Article article = new Article();
+        article.setAuthorId(authorId);
+        article.setTitle(record.getTitle());
+        article.setExcerpt(record.getExcerpt());
+        article.setCategory(StringUtils.hasText(record.getCategory()) ? record.getCategory() : null);
+        article.setImages(jsonArray(record.getImages()));
+        article.setVideos(jsonArray(record.getVideos()));
+        article.setCoverImageUrl(record.getCoverImageUrl() != null
+                ? record.getCoverImageUrl()
+                : firstImageUrl(record.getImages()));
+        article.setFeatured(Boolean.TRUE.equals(record.getFeatured()));
+        article.setPublished(Boolean.TRUE.equals(record.getPublished()));
+        article.setViews(record.getViews() != null ? Math.max(0, record.getViews()) : 0);
+        LocalDateTime now = LocalDateTime.now();
+        article.setCreatedAt(record.getCreatedAt() != null ? record.getCreatedAt() : now);
+        article.setUpdatedAt(record.getUpdatedAt() != null ? record.getUpdatedAt() : now);
+        // The feeds only show published articles with a publish date; default it as
+        // 04_article_filter_indexes.sql backfills it
+        article.setPublishDate(record.getPublishDate() == null && article.getPublished()
+                ? article.getCreatedAt()
+                : record.getPublishDate());
+        article.setTags(record.getTags());
+        return article;
+    }
+
+    private static String jsonArray(JsonNode node) {
+        return node != null && node.isArray() ? node.toString() : "[]";
+    }
+
+    private static String firstImageUrl(JsonNode images) {
+        if (images == null || !images.isArray() || images.isEmpty()) {
+            return null;
+        }
+        String url = images.get(0).path("url").asText(null);
+        return StringUtils.hasText(url) ? url : null;
+    }
+
+    /**
+     * Insert the articles, their tags and their bodies in one transaction, three JDBC batches in all,
+     * and announce them to the in-memory indexes once it commits. Cached query results (categories,
+     * featured) are evicted after the commit, since Hibernate does not see these inserts.
+     */
+    private int insertBatch(List<ImportedArticle> batch) {
+        List<Article> articles = batch.stream().map(ImportedArticle::article).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            KeyHolder keys = new GeneratedKeyHolder();
+            jdbcTemplate.batchUpdate(
+                    connection -> connection.prepareStatement(INSERT_ARTICLE_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            setArticle(ps, articles.get(i));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return articles.size();
+                        }
+                    },
+                    keys);
+
+            List<Map<String, Object>> ids = keys.getKeyList();
+            List<Object[]> tags = new ArrayList<>();
+            Map<Long, String> contents = new HashMap<>();
+            for (int i = 0; i < articles.size(); i++) {
+                Article article = articles.get(i);
+                article.setId(((Number) ids.get(i).get("id")).longValue());
+                for (String tag : article.getTags()) {
+                    tags.add(new Object[]{article.getId(), tag});
+                }
+                contents.put(article.getId(), batch.get(i).content());
+            }
+            if (!tags.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_TAG_SQL, tags);
+            }
+            contentStore.insertAll(contents);
+            batch.forEach(imported -> eventPublisher.publishEvent(
+                    ArticleChangedEvent.created(imported.article()).withContent(imported.content())));
+        });
+        entityCache.evictQueryRegions();
+        return articles.size();
+    }
+
+    private static void setArticle(PreparedStatement ps, Article article) throws SQLException {
+        ps.setObject(1, article.getAuthorId(), Types.BIGINT);
+        ps.setString(2, article.getCategory());
+        ps.setString(3, article.getCoverImageUrl());
+        ps.setTimestamp(4, Timestamp.valueOf(article.getCreatedAt()));
+        ps.setString(5, article.getExcerpt());
+        ps.setBoolean(6, Boolean.TRUE.equals(article.getFeatured()));
+        // Sent untyped so the server casts the text to the jsonb column
+        ps.setObject(7, article.getImages(), Types.OTHER);
+        ps.setTimestamp(8, article.getPublishDate() != null ? Timestamp.valueOf(article.getPublishDate()) : null);
+        ps.setBoolean(9, article.isPublished());
+        ps.setString(10, article.getTitle());
+        ps.setTimestamp(11, Timestamp.valueOf(article.getUpdatedAt()));
+        ps.setObject(12, article.getVideos(), Types.OTHER);
+        ps.setInt(13, article.getViews());
+    }
+
+    /**
+     * An article read from the stream with its body, which is stored apart from the article row
+     */
+    private record ImportedArticle(Article article, String content) {
+    }
+}
@@ -0,0 +1,210 @@
+package com.wildlife.article.trending;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Exponentially decayed per-article scores with a bounded top-N.
+ * <p>
+ * Scores are kept relative to a landmark time: an event at time t adds exp((t - landmark) / decay),
+ * so existing scores never have to be decayed one by one and their relative order never changes as
+ * time passes. The only score that changes on a view is the viewed article's, and it only grows, so
+ * an indexed min-heap of the N best articles is maintained in O(log N) per view. When the exponent
+ * grows large, all scores are rescaled to a new landmark and forgotten articles are dropped.
+ * <p>
+ * Thread-safe; all methods synchronize on the instance.
+ */
+final class DecayingTopN {
+
+    // Rescale well before exp() loses precision or overflows
+    private static final double MAX_EXPONENT = 40;
+
+    // Articles whose decayed score has fallen below this many views are forgotten on rescale
+    static final double MIN_SCORE = 0.01;
+
+    // Best first: score descending, then newer (higher) id first
+    private static final Comparator<Entry> BEST_FIRST = Comparator
+            .comparingDouble((Entry entry) -> entry.score)
+            .thenComparingLong(entry -> entry.id)
+            .reversed();
+
+    private final double decayMillis;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Entry[] heap;
+    private int heapSize;
+    private long landmark;
+
+    DecayingTopN(long decayMillis, int capacity, long now) {
+        this.decayMillis = decayMillis;
+        this.heap = new Entry[capacity];
+        this.landmark = now;
+    }
+
+    /**
+     * Add weight to an article's score as of the given time (1 per view)
+     */
+    synchronized void add(long id, double weight, long now) {
+        if (now - landmark > MAX_EXPONENT * decayMillis) {
+            rescale(now);
+        }
+        Entry entry = entries.computeIfAbsent(id, Entry::new);
+        entry.score += weight * Math.exp((now - landmark) / decayMillis);
+
+        if (entry.heapIndex >= 0) {
+            siftDown(entry.heapIndex);
+        } else if (heapSize < heap.length) {
+            heap[heapSize] = entry;
+            entry.heapIndex = heapSize++;
+            siftUp(entry.heapIndex);
+        } else if (isBetter(entry, heap[0])) {
+            heap[0].heapIndex = -1;
+            heap[0] = entry;
+            entry.heapIndex = 0;
+            siftDown(0);
+        }
+    }
+
+    /**
+     * Forget an article. If it was in the top N, the best remaining article takes its place,
+     * which costs one pass over the tracked articles.
+     */
+    synchronized void remove(long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null || entry.heapIndex < 0) {
+            return;
+        }
+        removeFromHeap(entry.heapIndex);
+
+        Entry best = null;
+        for (Entry candidate : entries.values()) {
+            if (candidate.heapIndex < 0 && (best == null || isBetter(candidate, best))) {
+                best = candidate;
+            }
+        }
+        if (best != null) {
+            heap[heapSize] = best;
+            best.heapIndex = heapSize++;
+            siftUp(best.heapIndex);
+        }
+    }
+
+    /**
+     * Ids of the best-scoring articles, best first
+     */
+    synchronized List<Long> top(int limit) {
+        Entry[] sorted = Arrays.copyOf(heap, heapSize);
+        Arrays.sort(sorted, BEST_FIRST);
+        int size = Math.max(0, Math.min(limit, sorted.length));
+        List<Long> ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ids.add(sorted[i].id);
+        }
+        return ids;
+    }
+
+    /**
+     * Current decayed score (in views) of every article still worth remembering
+     */
+    synchronized Map<Long, Double> snapshot(long now) {
+        double factor = Math.exp((landmark - now) / decayMillis);
+        Map<Long, Double> scores = new HashMap<>();
+        for (Entry entry : entries.values()) {
+            double score = entry.score * factor;
+            if (score >= MIN_SCORE) {
+                scores.put(entry.id, score);
+            }
+        }
+        return scores;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Move the landmark to now, scaling every score by the same factor (the heap order is unchanged)
+     */
+    private void rescale(long now) {
+        double factor = Math.exp((landmark - now) / decayMillis);
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next();
+            entry.score *= factor;
+            if (entry.score < MIN_SCORE && entry.heapIndex < 0) {
+                iterator.remove();
+            }
+        }
+        landmark = now;
+    }
+
+    private void removeFromHeap(int index) {
+        heap[index].heapIndex = -1;
+        heapSize--;
+        if (index < heapSize) {
+            heap[index] = heap[heapSize];
+            heap[index].heapIndex = index;
+            siftDown(index);
+            siftUp(index);
+        }
+        heap[heapSize] = null;
+    }
+
+    // Min-heap on score: the root is the weakest of the top N
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!isBetter(heap[parent], heap[index])) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int weakest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < heapSize && isBetter(heap[weakest], heap[left])) {
+                weakest = left;
+            }
+            if (right < heapSize && isBetter(heap[weakest], heap[right])) {
+                weakest = right;
+            }
+            if (weakest == index) {
+                return;
+            }
+            swap(index, weakest);
+            index = weakest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        Entry entry = heap[i];
+        heap[i] = heap[j];
+        heap[j] = entry;
+        heap[i].heapIndex = i;
+        heap[j].heapIndex = j;
+    }
+
+    private static boolean isBetter(Entry a, Entry b) {
+        return BEST_FIRST.compare(a, b) < 0;
+    }
+
+    private static final class Entry {
+        private final long id;
+        private double score;
+        private int heapIndex = -1;
+
+        private Entry(long id) {
+            this.id = id;
+        }
+    }
+}
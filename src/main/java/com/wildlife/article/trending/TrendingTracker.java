@@ -0,0 +1,161 @@
+package com.wildlife.article.trending;
+
+import com.wildlife.article.core.ArticleChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Trending articles per {@link TrendingWindow}, from exponentially decayed view counts fed by the
+ * article view path. Each window keeps its own {@link DecayingTopN}, so recording a view costs
+ * O(log N) per window and reading a trending list never touches the database.
+ * <p>
+ * Scores are written to article_trending_scores on a timer and on shutdown, and read back (decayed
+ * by the time elapsed since) once the application is ready, so restarts do not reset trending.
+ */
+@Component
+public class TrendingTracker {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrendingTracker.class);
+
+    private static final String DELETE_SQL = "DELETE FROM article_trending_scores";
+    private static final String INSERT_SQL =
+            "INSERT INTO article_trending_scores (window_name, article_id, score, saved_at) VALUES (?, ?, ?, ?)";
+    // Only published articles are restored; deleted and unpublished ones are dropped on the next save
+    private static final String SELECT_SQL =
+            "SELECT s.window_name, s.article_id, s.score, s.saved_at FROM article_trending_scores s " +
+            "JOIN articles a ON a.id = s.article_id WHERE a.published = true";
+
+    private final Map<TrendingWindow, DecayingTopN> windows = new EnumMap<>(TrendingWindow.class);
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int topSize;
+
+    // Saving before the saved scores were read back would overwrite them with a partial set
+    private volatile boolean restored;
+
+    @Autowired
+    public TrendingTracker(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${wildlife.trending.top-size:100}") int topSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.topSize = Math.max(1, topSize);
+
+        long now = System.currentTimeMillis();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            DecayingTopN scores = new DecayingTopN(window.getDecay().toMillis(), this.topSize, now);
+            windows.put(window, scores);
+            Gauge.builder("wildlife.trending.articles", scores, DecayingTopN::size)
+                    .description("Articles with a trending score")
+                    .tag("window", window.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Count one view of a published article in every window
+     */
+    public void recordView(long articleId) {
+        long now = System.currentTimeMillis();
+        for (DecayingTopN scores : windows.values()) {
+            scores.add(articleId, 1.0, now);
+        }
+    }
+
+    /**
+     * Ids of up to limit trending articles in the window, hottest first
+     */
+    public List<Long> getTrending(TrendingWindow window, int limit) {
+        return windows.get(window).top(Math.min(limit, topSize));
+    }
+
+    /**
+     * Drop articles that stop being publicly visible once the change has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.isPublishedBefore() && !event.isPublishedAfter()) {
+            for (DecayingTopN scores : windows.values()) {
+                scores.remove(event.getArticleId());
+            }
+        }
+    }
+
+    /**
+     * Restore the last saved scores, decayed to now. Views already recorded since startup are kept.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        long now = System.currentTimeMillis();
+        try {
+            int[] count = {0};
+            jdbcTemplate.query(SELECT_SQL, row -> {
+                TrendingWindow window = TrendingWindow.from(row.getString("window_name"));
+                long savedAt = row.getTimestamp("saved_at").getTime();
+                double decayed = row.getDouble("score")
+                        * Math.exp(-Math.max(0, now - savedAt) / (double) window.getDecay().toMillis());
+                if (decayed >= DecayingTopN.MIN_SCORE) {
+                    windows.get(window).add(row.getLong("article_id"), decayed, now);
+                    count[0]++;
+                }
+            });
+            logger.info("Restored {} trending scores", count[0]);
+        } catch (RuntimeException e) {
+            // Trending starts from scratch; the next save recreates the snapshot
+            logger.warn("Could not restore trending scores: {}", e.getMessage());
+        }
+        restored = true;
+    }
+
+    /**
+     * Replace the saved scores with the current ones
+     */
+    @Scheduled(fixedDelayString = "${wildlife.trending.snapshot-interval-ms:60000}",
+               initialDelayString = "${wildlife.trending.snapshot-interval-ms:60000}")
+    public void save() {
+        if (!restored) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        Timestamp savedAt = new Timestamp(now);
+        List<Object[]> batch = new ArrayList<>();
+        windows.forEach((window, scores) -> scores.snapshot(now).forEach((id, score) ->
+                batch.add(new Object[]{window.name(), id, score, savedAt})));
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(DELETE_SQL);
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            });
+            logger.debug("Saved {} trending scores", batch.size());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to save trending scores, will retry: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        save();
+    }
+}
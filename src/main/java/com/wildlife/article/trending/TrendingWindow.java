@@ -0,0 +1,47 @@
+package com.wildlife.article.trending;
+
+import com.wildlife.shared.exception.InvalidRequestException;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Time scale of a trending list. Each view contributes exp(-age / window) to an article's score,
+ * so a view one window old counts about a third as much as a view made now.
+ */
+public enum TrendingWindow {
+
+    HOUR(Duration.ofHours(1)),
+
+    DAY(Duration.ofDays(1)),
+
+    WEEK(Duration.ofDays(7));
+
+    private final Duration decay;
+
+    TrendingWindow(Duration decay) {
+        this.decay = decay;
+    }
+
+    /**
+     * Decay time constant: the age at which a view's weight has dropped to 1/e
+     */
+    public Duration getDecay() {
+        return decay;
+    }
+
+    /**
+     * Parse the window request parameter; absent means DAY
+     */
+    public static TrendingWindow from(String value) {
+        if (!StringUtils.hasText(value)) {
+            return DAY;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("window must be 'hour', 'day' or 'week'");
+        }
+    }
+}
@@ -10,6 +10,7 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -40,8 +41,11 @@ public class AuthController {
     @ApiResponse(responseCode = "200", description = "Login successful")
     @ApiResponse(responseCode = "401", description = "Invalid credentials")
     @ApiResponse(responseCode = "403", description = "Account not approved or disabled")
-    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
-        LoginResponse response = authService.login(loginRequest);
+    @ApiResponse(responseCode = "429", description = "Too many login attempts for this email or from this address")
+    @ApiResponse(responseCode = "503", description = "Too many concurrent authentication requests")
+    public ResponseEntity<LoginResponse> login(@Valid @RequestBody LoginRequest loginRequest,
+                                               HttpServletRequest request) {
+        LoginResponse response = authService.login(loginRequest, request.getRemoteAddr());
         
         if (response.isSuccess()) {
             return ResponseEntity.ok(response);
@@ -62,6 +66,7 @@ public class AuthController {
     @Operation(summary = "User registration", description = "Register a new user account")
     @ApiResponse(responseCode = "201", description = "User registered successfully")
     @ApiResponse(responseCode = "400", description = "Validation errors or user already exists")
+    @ApiResponse(responseCode = "503", description = "Too many concurrent authentication requests")
     public ResponseEntity<StandardResponse<UserDto>> register(@Valid @RequestBody RegisterRequest registerRequest) {
         StandardResponse<UserDto> response = authService.register(registerRequest);
         
@@ -80,6 +85,7 @@ public class AuthController {
     @Operation(summary = "Create admin user", description = "Bootstrap endpoint to create the first admin user")
     @ApiResponse(responseCode = "201", description = "Admin user created successfully")
     @ApiResponse(responseCode = "400", description = "Admin already exists or validation errors")
+    @ApiResponse(responseCode = "503", description = "Too many concurrent authentication requests")
     public ResponseEntity<StandardResponse<UserDto>> createAdmin(@Valid @RequestBody RegisterRequest registerRequest) {
         StandardResponse<UserDto> response = authService.createAdmin(registerRequest);
         
@@ -165,6 +171,7 @@ public class AuthController {
     @ApiResponse(responseCode = "200", description = "Password changed successfully")
     @ApiResponse(responseCode = "400", description = "Invalid current password or validation errors")
     @ApiResponse(responseCode = "401", description = "Authentication required")
+    @ApiResponse(responseCode = "503", description = "Too many concurrent authentication requests")
     public ResponseEntity<StandardResponse<String>> changePassword(@RequestBody ChangePasswordRequest request) {
         StandardResponse<String> response = authService.changePassword(request.getCurrentPassword(), request.getNewPassword());
         
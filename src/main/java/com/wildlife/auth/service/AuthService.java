@@ -4,70 +4,97 @@ import com.wildlife.auth.dto.LoginRequest;
 import com.wildlife.auth.dto.LoginResponse;
 import com.wildlife.auth.dto.RegisterRequest;
 import com.wildlife.auth.dto.StandardResponse;
+import com.wildlife.shared.exception.ServiceUnavailableException;
+import com.wildlife.shared.exception.UserAlreadyExistsException;
 import com.wildlife.shared.security.JwtTokenProvider;
 import com.wildlife.user.api.UserDto;
 import com.wildlife.user.core.Role;
 import com.wildlife.user.core.User;
+import com.wildlife.user.core.UserChangedEvent;
 import com.wildlife.user.persistence.UserRepository;
 import com.wildlife.user.persistence.UserMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Optional;
 
 /**
- * Authentication service for user login, registration, and JWT operations
+ * Authentication service for user login, registration, and JWT operations.
+ * Flows that hash or verify a password (login, register, createAdmin, changePassword) are not
+ * transactional: the lookup and the write each run in their own short transaction, and the
+ * hashing in between runs on the {@link PasswordHasher} pool without holding a connection. This
+ * relies on spring.jpa.open-in-view being off: a request-long session would keep the lookup's
+ * connection while the password is hashed.
  */
 @Service
-@Transactional
 public class AuthService {
 
     private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginThrottle loginThrottle;
     private final JwtTokenProvider jwtTokenProvider;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
 
     @Autowired
     public AuthService(UserRepository userRepository, 
                       UserMapper userMapper,
-                      PasswordEncoder passwordEncoder,
-                      JwtTokenProvider jwtTokenProvider) {
+                      PasswordHasher passwordHasher,
+                      LoginThrottle loginThrottle,
+                      JwtTokenProvider jwtTokenProvider,
+                      ApplicationEventPublisher eventPublisher,
+                      PlatformTransactionManager transactionManager) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
+        this.loginThrottle = loginThrottle;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     /**
-     * Authenticate user and generate JWT token
+     * Authenticate user and generate JWT token.
+     * Throttled per client IP and email before the user is looked up or any password is hashed.
      */
-    public LoginResponse login(LoginRequest loginRequest) {
+    public LoginResponse login(LoginRequest loginRequest, String clientIp) {
+        loginThrottle.acquire(clientIp, loginRequest.getEmail());
         logger.info("Attempting login for email: {}", loginRequest.getEmail());
 
         try {
             // Find user by email
-            Optional<User> userOptional = userRepository.findByEmail(loginRequest.getEmail());
+            Optional<User> userOptional = readOnlyTransaction.execute(
+                    status -> userRepository.findByEmail(loginRequest.getEmail()));
             if (userOptional.isEmpty()) {
                 logger.warn("Login failed: User not found for email: {}", loginRequest.getEmail());
+                loginThrottle.recordFailure(clientIp, loginRequest.getEmail());
                 return LoginResponse.failure("Invalid credentials");
             }
 
             User user = userOptional.get();
 
-            // Check password
-            if (!passwordEncoder.matches(loginRequest.getPassword(), user.getPassword())) {
+            // Check password, outside any transaction
+            if (!passwordHasher.matches(loginRequest.getPassword(), user.getPassword())) {
                 logger.warn("Login failed: Invalid password for email: {}", loginRequest.getEmail());
+                loginThrottle.recordFailure(clientIp, loginRequest.getEmail());
                 return LoginResponse.failure("Invalid credentials");
             }
+            loginThrottle.recordSuccess(loginRequest.getEmail());
 
             // Check if user is approved
             if (!user.getApproved()) {
@@ -89,12 +116,16 @@ public class AuthService {
                 java.util.List.of("ROLE_" + user.getRole().toString())
             );
 
-            // Convert to DTO
-            UserDto userDto = userMapper.toDto(user);
+            // Convert to DTO; the article count needs the lazy articles collection
+            UserDto userDto = readOnlyTransaction.execute(status -> userRepository.findById(user.getId())
+                    .map(userMapper::toDto)
+                    .orElseThrow());
 
             logger.info("Login successful for email: {}", loginRequest.getEmail());
             return LoginResponse.success(token, userDto);
 
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Login error for email: {}", loginRequest.getEmail(), e);
             return LoginResponse.failure("Authentication failed. Please try again.");
@@ -109,29 +140,41 @@ public class AuthService {
 
         try {
             // Check if user already exists
-            if (userRepository.findByEmail(registerRequest.getEmail()).isPresent()) {
+            if (Boolean.TRUE.equals(readOnlyTransaction.execute(
+                    status -> userRepository.findByEmail(registerRequest.getEmail()).isPresent()))) {
                 logger.warn("Registration failed: User already exists for email: {}", registerRequest.getEmail());
                 return StandardResponse.failure("User already exists with this email");
             }
 
-            // Create new user
-            User user = new User();
-            user.setName(registerRequest.getName());
-            user.setEmail(registerRequest.getEmail());
-            user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
-            user.setRole(Role.CONTRIBUTOR);
-            user.setApproved(false); // Requires admin approval
-            user.setEnabled(true);
-
-            // Save user
-            User savedUser = userRepository.save(user);
+            // Hash outside any transaction
+            String passwordHash = passwordHasher.encode(registerRequest.getPassword());
 
-            // Convert to DTO
-            UserDto userDto = userMapper.toDto(savedUser);
+            // Create and save new user, checking again in case the email was taken meanwhile
+            UserDto userDto = transactionTemplate.execute(status -> {
+                if (userRepository.findByEmail(registerRequest.getEmail()).isPresent()) {
+                    throw new UserAlreadyExistsException("User already exists with this email");
+                }
+                User user = new User();
+                user.setName(registerRequest.getName());
+                user.setEmail(registerRequest.getEmail());
+                user.setPassword(passwordHash);
+                user.setRole(Role.CONTRIBUTOR);
+                user.setApproved(false); // Requires admin approval
+                user.setEnabled(true);
+
+                User savedUser = userRepository.save(user);
+                eventPublisher.publishEvent(UserChangedEvent.created(savedUser));
+                return userMapper.toDto(savedUser);
+            });
 
             logger.info("Registration successful for email: {}", registerRequest.getEmail());
             return StandardResponse.success("User registered successfully. Waiting for admin approval.", userDto);
 
+        } catch (UserAlreadyExistsException e) {
+            logger.warn("Registration failed: User already exists for email: {}", registerRequest.getEmail());
+            return StandardResponse.failure(e.getMessage());
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Registration error for email: {}", registerRequest.getEmail(), e);
             return StandardResponse.failure("Server error during registration");
@@ -146,35 +189,43 @@ public class AuthService {
 
         try {
             // Check if user already exists
-            if (userRepository.findByEmail(registerRequest.getEmail()).isPresent()) {
-                logger.warn("Admin creation failed: User already exists for email: {}", registerRequest.getEmail());
-                return StandardResponse.failure("User already exists with this email");
-            }
-
-            // Check if any admin already exists
-            if (userRepository.existsByRole(Role.ADMIN)) {
-                logger.warn("Admin creation failed: Admin user already exists");
-                return StandardResponse.failure("Admin user already exists in the system");
+            String conflict = readOnlyTransaction.execute(
+                    status -> adminCreationConflict(registerRequest.getEmail()));
+            if (conflict != null) {
+                logger.warn("Admin creation failed: {}", conflict);
+                return StandardResponse.failure(conflict);
             }
 
-            // Create admin user
-            User user = new User();
-            user.setName(registerRequest.getName());
-            user.setEmail(registerRequest.getEmail());
-            user.setPassword(passwordEncoder.encode(registerRequest.getPassword()));
-            user.setRole(Role.ADMIN);
-            user.setApproved(true); // Admin is pre-approved
-            user.setEnabled(true);
-
-            // Save user
-            User savedUser = userRepository.save(user);
+            // Hash outside any transaction
+            String passwordHash = passwordHasher.encode(registerRequest.getPassword());
 
-            // Convert to DTO
-            UserDto userDto = userMapper.toDto(savedUser);
+            // Create and save admin user, checking again in case one was created meanwhile
+            UserDto userDto = transactionTemplate.execute(status -> {
+                String lateConflict = adminCreationConflict(registerRequest.getEmail());
+                if (lateConflict != null) {
+                    throw new UserAlreadyExistsException(lateConflict);
+                }
+                User user = new User();
+                user.setName(registerRequest.getName());
+                user.setEmail(registerRequest.getEmail());
+                user.setPassword(passwordHash);
+                user.setRole(Role.ADMIN);
+                user.setApproved(true); // Admin is pre-approved
+                user.setEnabled(true);
+
+                User savedUser = userRepository.save(user);
+                eventPublisher.publishEvent(UserChangedEvent.created(savedUser));
+                return userMapper.toDto(savedUser);
+            });
 
             logger.info("Admin creation successful for email: {}", registerRequest.getEmail());
             return StandardResponse.success("Admin user created successfully.", userDto);
 
+        } catch (UserAlreadyExistsException e) {
+            logger.warn("Admin creation failed: {}", e.getMessage());
+            return StandardResponse.failure(e.getMessage());
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Admin creation error for email: {}", registerRequest.getEmail(), e);
             return StandardResponse.failure("Server error during admin creation");
@@ -184,6 +235,7 @@ public class AuthService {
     /**
      * Get current authenticated user
      */
+    @Transactional(readOnly = true)
     public StandardResponse<UserDto> getCurrentUser() {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -213,6 +265,7 @@ public class AuthService {
     /**
      * Update user profile
      */
+    @Transactional
     public StandardResponse<UserDto> updateProfile(UserDto updateRequest) {
         try {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -245,6 +298,7 @@ public class AuthService {
 
             // Save updated user
             User savedUser = userRepository.save(user);
+            eventPublisher.publishEvent(UserChangedEvent.updated(savedUser));
             UserDto userDto = userMapper.toDto(savedUser);
 
             logger.info("Profile updated for user: {}", user.getEmail());
@@ -267,27 +321,42 @@ public class AuthService {
             }
 
             String email = authentication.getName();
-            Optional<User> userOptional = userRepository.findByEmail(email);
+            Optional<User> userOptional = readOnlyTransaction.execute(status -> userRepository.findByEmail(email));
             
             if (userOptional.isEmpty()) {
                 return StandardResponse.failure("User not found");
             }
 
             User user = userOptional.get();
+            String verifiedHash = user.getPassword();
 
-            // Verify current password
-            if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+            // Verify current password and hash the new one, outside any transaction
+            if (!passwordHasher.matches(currentPassword, verifiedHash)) {
                 logger.warn("Password change failed: Invalid current password for user: {}", email);
                 return StandardResponse.failure("Current password is incorrect");
             }
+            String newHash = passwordHasher.encode(newPassword);
 
-            // Update password
-            user.setPassword(passwordEncoder.encode(newPassword));
-            userRepository.save(user);
+            // Update password, unless it was changed since it was verified
+            boolean updated = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                Optional<User> current = userRepository.findById(user.getId());
+                if (current.isEmpty() || !verifiedHash.equals(current.get().getPassword())) {
+                    return false;
+                }
+                current.get().setPassword(newHash);
+                userRepository.save(current.get());
+                return true;
+            }));
+            if (!updated) {
+                logger.warn("Password change failed: Password changed concurrently for user: {}", email);
+                return StandardResponse.failure("Current password is incorrect");
+            }
 
             logger.info("Password changed successfully for user: {}", email);
             return StandardResponse.success("Password changed successfully", null);
 
+        } catch (ServiceUnavailableException e) {
+            throw e;
         } catch (Exception e) {
             logger.error("Error changing password", e);
             return StandardResponse.failure("Error changing password");
@@ -297,6 +366,7 @@ public class AuthService {
     /**
      * Approve user - Bootstrap method for testing
      */
+    @Transactional
     public StandardResponse<UserDto> approveUser(String email) {
         logger.info("Attempting to approve user: {}", email);
 
@@ -309,11 +379,14 @@ public class AuthService {
             }
 
             User user = userOptional.get();
+            boolean wasApproved = Boolean.TRUE.equals(user.getApproved());
+            boolean wasEnabled = Boolean.TRUE.equals(user.getEnabled());
             user.setApproved(true);
             user.setEnabled(true);
 
             // Save updated user
             User savedUser = userRepository.save(user);
+            eventPublisher.publishEvent(UserChangedEvent.updated(savedUser, savedUser.getRole(), wasApproved, wasEnabled));
             UserDto userDto = userMapper.toDto(savedUser);
 
             logger.info("User approved successfully: {}", email);
@@ -324,4 +397,17 @@ public class AuthService {
             return StandardResponse.failure("Error approving user");
         }
     }
-} 
\ No newline at end of file
+
+    /**
+     * Why an admin with the email cannot be created, or null when it can. Runs in the caller's transaction.
+     */
+    private String adminCreationConflict(String email) {
+        if (userRepository.findByEmail(email).isPresent()) {
+            return "User already exists with this email";
+        }
+        if (userRepository.existsByRole(Role.ADMIN)) {
+            return "Admin user already exists in the system";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,336 @@
+package com.wildlife.auth.service;
+
+import com.wildlife.shared.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory login throttle, keyed by client IP and by email, checked before any database or
+ * password hashing work.
+ * <p>
+ * Each key has a token bucket (capacity attempts, refilled at refill-per-minute) and a count of
+ * consecutive failed logins. Once the failures exceed free-failures, the key is locked out for
+ * base-delay-ms, doubling with every further failure up to max-delay-ms. A successful login
+ * clears the email's failures; an IP's failures are only forgotten after failure-reset-ms without
+ * one, so a valid account cannot be used to reset a stuffing run. Bucket state and failure counts
+ * are updated with compare-and-set, without locks.
+ * <p>
+ * Each table keeps at most max-entries keys. When it is full, at most once a second, idle keys that
+ * are neither locked out nor have failed within failure-reset-ms are dropped, then, down to 90%,
+ * the keys without a lockout whose last failure is oldest. Lockouts are never dropped. A new key
+ * that finds the table still full is checked against a fresh bucket but not tracked, so it is
+ * limited by the other table alone (a new email by its IP) rather than refused.
+ */
+@Component
+public class LoginThrottle {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginThrottle.class);
+
+    private static final long PRUNE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final KeyTable ips;
+    private final KeyTable emails;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final long failureResetNanos;
+
+    @Autowired
+    public LoginThrottle(MeterRegistry meterRegistry,
+                         @Value("${wildlife.auth.login-throttle.ip.capacity:30}") int ipCapacity,
+                         @Value("${wildlife.auth.login-throttle.ip.refill-per-minute:30}") int ipRefillPerMinute,
+                         @Value("${wildlife.auth.login-throttle.ip.free-failures:20}") int ipFreeFailures,
+                         @Value("${wildlife.auth.login-throttle.email.capacity:5}") int emailCapacity,
+                         @Value("${wildlife.auth.login-throttle.email.refill-per-minute:5}") int emailRefillPerMinute,
+                         @Value("${wildlife.auth.login-throttle.email.free-failures:3}") int emailFreeFailures,
+                         @Value("${wildlife.auth.login-throttle.base-delay-ms:1000}") long baseDelayMillis,
+                         @Value("${wildlife.auth.login-throttle.max-delay-ms:300000}") long maxDelayMillis,
+                         @Value("${wildlife.auth.login-throttle.failure-reset-ms:900000}") long failureResetMillis,
+                         @Value("${wildlife.auth.login-throttle.max-entries:100000}") int maxEntries) {
+        this.baseDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, baseDelayMillis));
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(baseDelayMillis, maxDelayMillis));
+        this.failureResetNanos = TimeUnit.MILLISECONDS.toNanos(failureResetMillis);
+        this.ips = new KeyTable("ip", ipCapacity, ipRefillPerMinute, ipFreeFailures, maxEntries,
+                failureResetNanos, meterRegistry);
+        this.emails = new KeyTable("email", emailCapacity, emailRefillPerMinute, emailFreeFailures,
+                maxEntries, failureResetNanos, meterRegistry);
+    }
+
+    /**
+     * Take one login attempt for the IP and the email.
+     *
+     * @throws TooManyRequestsException when either is locked out or out of attempts
+     */
+    public void acquire(String clientIp, String email) {
+        long now = System.nanoTime();
+        Attempts ip = ips.get(normalizeIp(clientIp), now);
+        Attempts user = emails.get(normalizeEmail(email), now);
+
+        long ipLockedFor = ip.lockedFor(now);
+        long emailLockedFor = user.lockedFor(now);
+        if (ipLockedFor > 0 || emailLockedFor > 0) {
+            (ipLockedFor >= emailLockedFor ? ips : emails).throttledBackoff.increment();
+            throw rejected(Math.max(ipLockedFor, emailLockedFor));
+        }
+        long ipWait = ip.tryAcquire(now, ips.intervalNanos, ips.toleranceNanos);
+        if (ipWait > 0) {
+            ips.throttledRate.increment();
+            throw rejected(ipWait);
+        }
+        long emailWait = user.tryAcquire(now, emails.intervalNanos, emails.toleranceNanos);
+        if (emailWait > 0) {
+            emails.throttledRate.increment();
+            throw rejected(emailWait);
+        }
+    }
+
+    /**
+     * Count a failed login (unknown email or wrong password) against the IP and the email
+     */
+    public void recordFailure(String clientIp, String email) {
+        long now = System.nanoTime();
+        fail(ips, ips.get(normalizeIp(clientIp), now), now);
+        fail(emails, emails.get(normalizeEmail(email), now), now);
+    }
+
+    /**
+     * The password was right: forget the email's failures
+     */
+    public void recordSuccess(String email) {
+        Attempts user = emails.peek(normalizeEmail(email));
+        if (user != null) {
+            user.failures.set(0);
+            user.lockedUntil = System.nanoTime();
+        }
+    }
+
+    private void fail(KeyTable table, Attempts attempts, long now) {
+        if (now - attempts.lastFailure > failureResetNanos) {
+            attempts.failures.set(0);
+        }
+        attempts.lastFailure = now;
+        int failures = attempts.failures.incrementAndGet();
+        int excess = failures - table.freeFailures;
+        if (excess > 0) {
+            long delay = excess > 30 ? maxDelayNanos : Math.min(maxDelayNanos, baseDelayNanos << (excess - 1));
+            attempts.lockedUntil = now + delay;
+            if (excess == 1) {
+                logger.warn("Login throttle: {} locked out after {} failed logins", table.name, failures);
+            }
+        }
+    }
+
+    private static TooManyRequestsException rejected(long waitNanos) {
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return new TooManyRequestsException("Too many login attempts. Please try again later.", seconds);
+    }
+
+    private static String normalizeIp(String clientIp) {
+        return clientIp != null ? clientIp : "";
+    }
+
+    private static String normalizeEmail(String email) {
+        return email != null ? email.trim().toLowerCase(Locale.ROOT) : "";
+    }
+
+    /**
+     * Attempts of one IP or email
+     */
+    private static final class Attempts {
+
+        // Token bucket as a theoretical arrival time (GCRA): the attempt is allowed while
+        // allowAt - tolerance <= now, and each allowed attempt pushes allowAt one interval on
+        private final AtomicLong allowAt;
+        private final AtomicInteger failures = new AtomicInteger();
+        private volatile long lockedUntil;
+        private volatile long lastFailure;
+        private volatile long lastSeen;
+
+        private Attempts(long now) {
+            this.allowAt = new AtomicLong(now);
+            this.lockedUntil = now;
+            this.lastFailure = now;
+            this.lastSeen = now;
+        }
+
+        /**
+         * Nanos until the lockout ends, or 0 when not locked out
+         */
+        private long lockedFor(long now) {
+            return Math.max(0, lockedUntil - now);
+        }
+
+        /**
+         * Take a token; returns 0 when taken, otherwise the nanos until one is available
+         */
+        private long tryAcquire(long now, long intervalNanos, long toleranceNanos) {
+            while (true) {
+                long current = allowAt.get();
+                long wait = current - toleranceNanos - now;
+                if (wait > 0) {
+                    return wait;
+                }
+                long next = (current - now > 0 ? current : now) + intervalNanos;
+                if (allowAt.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Bounded map of keys of one kind, with its limits and meters
+     */
+    private static final class KeyTable {
+
+        private final String name;
+        private final long intervalNanos;
+        private final long toleranceNanos;
+        private final int freeFailures;
+        private final int maxEntries;
+        private final int evictTo;
+        private final long idleNanos;
+        private final long failureResetNanos;
+        private final Map<String, Attempts> entries = new ConcurrentHashMap<>();
+        private final AtomicLong nextPruneAt = new AtomicLong(System.nanoTime());
+        private final AtomicBoolean full = new AtomicBoolean();
+        private final Counter throttledRate;
+        private final Counter throttledBackoff;
+        private final Counter untracked;
+        private final Counter evicted;
+
+        private KeyTable(String name, int capacity, int refillPerMinute, int freeFailures, int maxEntries,
+                         long failureResetNanos, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, refillPerMinute);
+            this.toleranceNanos = intervalNanos * (Math.max(1, capacity) - 1);
+            this.freeFailures = Math.max(0, freeFailures);
+            this.maxEntries = Math.max(1, maxEntries);
+            // Evicting below the limit leaves room, so a full table is not pruned for every new key
+            this.evictTo = this.maxEntries - Math.max(1, this.maxEntries / 10);
+            // A key idle this long has a full bucket again, so dropping it when full loses little
+            this.idleNanos = intervalNanos * Math.max(1, capacity);
+            this.failureResetNanos = failureResetNanos;
+
+            this.throttledRate = Counter.builder("wildlife.auth.login.throttled")
+                    .description("Login attempts rejected before any credential check")
+                    .tag("key", name)
+                    .tag("reason", "rate")
+                    .register(meterRegistry);
+            this.throttledBackoff = Counter.builder("wildlife.auth.login.throttled")
+                    .description("Login attempts rejected before any credential check")
+                    .tag("key", name)
+                    .tag("reason", "backoff")
+                    .register(meterRegistry);
+            this.untracked = Counter.builder("wildlife.auth.login.throttle.untracked")
+                    .description("Login attempts of a new key not tracked because the table was full of lockouts")
+                    .tag("key", name)
+                    .register(meterRegistry);
+            this.evicted = Counter.builder("wildlife.auth.login.throttle.evicted")
+                    .description("Throttle entries dropped to keep the table bounded")
+                    .tag("key", name)
+                    .register(meterRegistry);
+            Gauge.builder("wildlife.auth.login.throttle.entries", entries, Map::size)
+                    .description("IPs or emails currently tracked by the login throttle")
+                    .tag("key", name)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * Attempts of the key, tracking it if new. While the table is full, a new key gets attempts
+         * that are not kept.
+         */
+        private Attempts get(String key, long now) {
+            Attempts attempts = entries.get(key);
+            if (attempts == null) {
+                Attempts created = new Attempts(now);
+                attempts = entries.computeIfAbsent(key, k -> created);
+                if (attempts == created && entries.size() > maxEntries) {
+                    prune(now);
+                    if (entries.size() > maxEntries) {
+                        // Only lockouts are left, or the last prune was too recent
+                        entries.remove(key, created);
+                        untracked.increment();
+                        if (full.compareAndSet(false, true)) {
+                            logger.warn("Login throttle: {} table full ({} entries), not tracking new keys",
+                                    name, maxEntries);
+                        }
+                        return created;
+                    }
+                }
+            }
+            attempts.lastSeen = now;
+            return attempts;
+        }
+
+        private Attempts peek(String key) {
+            return entries.get(key);
+        }
+
+        /**
+         * Drop idle keys that are not locked out and have not failed within failure-reset-ms, then,
+         * if the table is still over 90% full, the unlocked keys that failed longest ago. Runs at
+         * most once per PRUNE_INTERVAL_NANOS; locked-out keys are never dropped.
+         */
+        private void prune(long now) {
+            long due = nextPruneAt.get();
+            if (now - due < 0 || !nextPruneAt.compareAndSet(due, now + PRUNE_INTERVAL_NANOS)) {
+                return;
+            }
+            int before = entries.size();
+            entries.values().removeIf(a -> now - a.lastSeen > idleNanos
+                    && a.lockedUntil - now <= 0
+                    && (a.failures.get() == 0 || now - a.lastFailure > failureResetNanos));
+            int excess = entries.size() - evictTo;
+            if (excess > 0) {
+                evictOldestFailures(excess, now);
+            }
+            int dropped = before - entries.size();
+            evicted.increment(Math.max(0, dropped));
+            if (dropped > 0) {
+                full.set(false);
+            }
+        }
+
+        /**
+         * Drop up to count keys that are not locked out: those without failures first, then by
+         * their last failure, oldest first
+         */
+        private void evictOldestFailures(int count, long now) {
+            // Sort on a snapshot: the attempts keep changing while this runs
+            List<Candidate> candidates = new ArrayList<>();
+            for (Map.Entry<String, Attempts> entry : entries.entrySet()) {
+                Attempts a = entry.getValue();
+                if (a.lockedUntil - now <= 0) {
+                    boolean failing = a.failures.get() > 0;
+                    candidates.add(new Candidate(entry.getKey(), a, failing,
+                            now - (failing ? a.lastFailure : a.lastSeen)));
+                }
+            }
+            candidates.sort(Comparator.comparing(Candidate::failing)
+                    .thenComparing(Comparator.comparingLong(Candidate::age).reversed()));
+            for (int i = 0; i < Math.min(count, candidates.size()); i++) {
+                entries.remove(candidates.get(i).key(), candidates.get(i).attempts());
+            }
+        }
+    }
+
+    private record Candidate(String key, Attempts attempts, boolean failing, long age) {
+    }
+}
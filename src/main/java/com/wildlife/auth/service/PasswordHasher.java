@@ -0,0 +1,150 @@
+package com.wildlife.auth.service;
+
+import com.wildlife.shared.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Password hashing and verification on a dedicated, bounded pool of threads.
+ * <p>
+ * BCrypt costs tens of milliseconds of CPU per call, so it must never run while a database
+ * connection is held; callers hash between their short transactions. A burst of logins queues up
+ * to wildlife.auth.hashing.queue-capacity calls; beyond that, or when a call waits longer than
+ * wildlife.auth.hashing.timeout-ms, a {@link ServiceUnavailableException} (503) is thrown
+ * instead of piling up request threads.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHasher.class);
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMillis;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer waitTimer;
+    private final Counter rejected;
+
+    @Autowired
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${wildlife.auth.hashing.threads:0}") int threads,
+                          @Value("${wildlife.auth.hashing.queue-capacity:32}") int queueCapacity,
+                          @Value("${wildlife.auth.hashing.timeout-ms:2000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+
+        // 0 means one thread per core: hashing is pure CPU work
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("wildlife.auth.hashing")
+                .description("Time spent hashing or verifying a password")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("wildlife.auth.hashing")
+                .description("Time spent hashing or verifying a password")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("wildlife.auth.hashing.wait")
+                .description("Time a password hashing call waited in the queue")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("wildlife.auth.hashing.rejected")
+                .description("Password hashing calls refused because the pool was saturated or too slow")
+                .register(meterRegistry);
+        Gauge.builder("wildlife.auth.hashing.queue", executor, pool -> pool.getQueue().size())
+                .description("Password hashing calls waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("wildlife.auth.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing calls currently running")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hash a raw password for storage
+     *
+     * @throws ServiceUnavailableException when the hashing pool is saturated
+     */
+    public String encode(CharSequence rawPassword) {
+        return run(encodeTimer, () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Whether the raw password matches the stored hash
+     *
+     * @throws ServiceUnavailableException when the hashing pool is saturated
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(matchesTimer, () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T run(Timer timer, Callable<T> hashing) {
+        long queuedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(hashing);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            logger.warn("Password hashing pool saturated ({} queued), refusing request", executor.getQueue().size());
+            throw new ServiceUnavailableException("Too many authentication requests. Please try again shortly.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            logger.warn("Password hashing did not complete within {} ms, refusing request", timeoutMillis);
+            throw new ServiceUnavailableException("Too many authentication requests. Please try again shortly.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Authentication was interrupted. Please try again.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.wildlife.home.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * Homepage API Contract Interface
+ *
+ * Serves everything the homepage needs in one request from a precomputed snapshot,
+ * instead of separate calls for featured, recent, most viewed articles and categories.
+ *
+ * @author Wildlife Team
+ * @version 1.0.0
+ */
+@Tag(name = "Home", description = "Homepage feed")
+@RequestMapping("/api/home")
+public interface HomeApi {
+
+    @Operation(summary = "Get homepage feed",
+               description = "Featured, recent and most viewed articles plus categories, from a snapshot " +
+                             "rebuilt when published articles change. The Age header and snapshotAgeMillis " +
+                             "report how old the snapshot is.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Homepage feed retrieved successfully")
+    })
+    @GetMapping
+    ResponseEntity<HomeDto> getHome();
+}
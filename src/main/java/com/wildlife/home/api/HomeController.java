@@ -0,0 +1,39 @@
+package com.wildlife.home.api;
+
+import com.wildlife.home.core.HomeSnapshot;
+import com.wildlife.home.service.HomeFeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+/**
+ * Home Controller Implementation
+ *
+ * Implements the HomeApi interface contract. Reads are a single reference load of the
+ * current snapshot; no database access happens on this path once the snapshot is built.
+ *
+ * @author Wildlife Team
+ * @version 1.0.0
+ */
+@RestController
+public class HomeController implements HomeApi {
+
+    private final HomeFeedService homeFeedService;
+
+    @Autowired
+    public HomeController(HomeFeedService homeFeedService) {
+        this.homeFeedService = homeFeedService;
+    }
+
+    @Override
+    public ResponseEntity<HomeDto> getHome() {
+        HomeSnapshot snapshot = homeFeedService.getSnapshot();
+        HomeDto home = HomeDto.from(snapshot, Instant.now());
+        return ResponseEntity.ok()
+                .header(HttpHeaders.AGE, String.valueOf(home.getSnapshotAgeMillis() / 1000))
+                .body(home);
+    }
+}
@@ -0,0 +1,87 @@
+package com.wildlife.home.api;
+
+import com.wildlife.article.api.ArticleSummaryDto;
+import com.wildlife.home.core.HomeSnapshot;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Homepage response: the sections of the current home feed snapshot and how old it is
+ */
+public class HomeDto {
+
+    private List<ArticleSummaryDto> featured;
+    private List<ArticleSummaryDto> recent;
+    private List<ArticleSummaryDto> mostViewed;
+    private List<String> categories;
+    private Instant generatedAt;
+    private long snapshotAgeMillis;
+
+    // Constructors
+    public HomeDto() {}
+
+    /**
+     * Wrap a snapshot without copying its lists; the age is measured at the given instant
+     */
+    public static HomeDto from(HomeSnapshot snapshot, Instant now) {
+        HomeDto dto = new HomeDto();
+        dto.setFeatured(snapshot.getFeatured());
+        dto.setRecent(snapshot.getRecent());
+        dto.setMostViewed(snapshot.getMostViewed());
+        dto.setCategories(snapshot.getCategories());
+        dto.setGeneratedAt(snapshot.getGeneratedAt());
+        dto.setSnapshotAgeMillis(Math.max(0, Duration.between(snapshot.getGeneratedAt(), now).toMillis()));
+        return dto;
+    }
+
+    // Getters and Setters
+    public List<ArticleSummaryDto> getFeatured() {
+        return featured;
+    }
+
+    public void setFeatured(List<ArticleSummaryDto> featured) {
+        this.featured = featured;
+    }
+
+    public List<ArticleSummaryDto> getRecent() {
+        return recent;
+    }
+
+    public void setRecent(List<ArticleSummaryDto> recent) {
+        this.recent = recent;
+    }
+
+    public List<ArticleSummaryDto> getMostViewed() {
+        return mostViewed;
+    }
+
+    public void setMostViewed(List<ArticleSummaryDto> mostViewed) {
+        this.mostViewed = mostViewed;
+    }
+
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(List<String> categories) {
+        this.categories = categories;
+    }
+
+    public Instant getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(Instant generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    public long getSnapshotAgeMillis() {
+        return snapshotAgeMillis;
+    }
+
+    public void setSnapshotAgeMillis(long snapshotAgeMillis) {
+        this.snapshotAgeMillis = snapshotAgeMillis;
+    }
+}
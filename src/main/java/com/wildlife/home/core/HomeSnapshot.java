@@ -0,0 +1,64 @@
+package com.wildlife.home.core;
+
+import com.wildlife.article.api.ArticleSummaryDto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Immutable snapshot of everything the homepage shows.
+ * Built off the request path and published by swapping a single reference, so readers never
+ * lock and never observe a half-built feed. The contained lists are unmodifiable; the summary
+ * DTOs must be treated as read-only since they are shared by all concurrent responses.
+ */
+public final class HomeSnapshot {
+
+    private final List<ArticleSummaryDto> featured;
+    private final List<ArticleSummaryDto> recent;
+    private final List<ArticleSummaryDto> mostViewed;
+    private final List<String> categories;
+    private final Instant generatedAt;
+
+    public HomeSnapshot(List<ArticleSummaryDto> featured,
+                        List<ArticleSummaryDto> recent,
+                        List<ArticleSummaryDto> mostViewed,
+                        List<String> categories,
+                        Instant generatedAt) {
+        this.featured = List.copyOf(featured);
+        this.recent = List.copyOf(recent);
+        this.mostViewed = List.copyOf(mostViewed);
+        this.categories = List.copyOf(categories);
+        this.generatedAt = generatedAt;
+    }
+
+    public List<ArticleSummaryDto> getFeatured() {
+        return featured;
+    }
+
+    public List<ArticleSummaryDto> getRecent() {
+        return recent;
+    }
+
+    public List<ArticleSummaryDto> getMostViewed() {
+        return mostViewed;
+    }
+
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    public Instant getGeneratedAt() {
+        return generatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "HomeSnapshot{" +
+                "featured=" + featured.size() +
+                ", recent=" + recent.size() +
+                ", mostViewed=" + mostViewed.size() +
+                ", categories=" + categories.size() +
+                ", generatedAt=" + generatedAt +
+                '}';
+    }
+}
@@ -0,0 +1,154 @@
+package com.wildlife.home.service;
+
+import com.wildlife.article.core.ArticleChangedEvent;
+import com.wildlife.article.service.ArticleService;
+import com.wildlife.home.core.HomeSnapshot;
+import com.wildlife.shared.datasource.ReadRouting;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves the homepage from a materialized {@link HomeSnapshot}.
+ * The snapshot is rebuilt asynchronously after feed-relevant article changes commit, and on a
+ * fallback timer so view-count ordering and the recent window stay fresh. Concurrent rebuild
+ * requests are coalesced: while a rebuild runs, further requests only mark the snapshot stale,
+ * and the running rebuild loops once more to pick them up.
+ */
+@Service
+public class HomeFeedService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HomeFeedService.class);
+
+    private final AtomicReference<HomeSnapshot> snapshot = new AtomicReference<>();
+    private final AtomicBoolean stale = new AtomicBoolean();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private final ArticleService articleService;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer rebuildTimer;
+    private final int featuredLimit;
+    private final int recentDays;
+    private final int recentLimit;
+    private final int mostViewedLimit;
+
+    @Autowired
+    public HomeFeedService(ArticleService articleService,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${wildlife.home.featured-limit:6}") int featuredLimit,
+                           @Value("${wildlife.home.recent-days:7}") int recentDays,
+                           @Value("${wildlife.home.recent-limit:10}") int recentLimit,
+                           @Value("${wildlife.home.most-viewed-limit:5}") int mostViewedLimit) {
+        this.articleService = articleService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.featuredLimit = featuredLimit;
+        this.recentDays = recentDays;
+        this.recentLimit = recentLimit;
+        this.mostViewedLimit = mostViewedLimit;
+        this.rebuildTimer = Timer.builder("wildlife.home.snapshot.rebuild")
+                .description("Time to rebuild the home feed snapshot")
+                .register(meterRegistry);
+        Gauge.builder("wildlife.home.snapshot.age", this, service -> service.getSnapshotAge().toMillis())
+                .description("Age of the home feed snapshot being served")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Current snapshot. Only the very first call before startup has finished building one
+     * pays for a synchronous build.
+     */
+    public HomeSnapshot getSnapshot() {
+        HomeSnapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        HomeSnapshot built = build();
+        return snapshot.compareAndSet(null, built) ? built : snapshot.get();
+    }
+
+    /**
+     * Age of the snapshot being served; zero before the first build
+     */
+    public Duration getSnapshotAge() {
+        HomeSnapshot current = snapshot.get();
+        return current != null ? Duration.between(current.getGeneratedAt(), Instant.now()) : Duration.ZERO;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    /**
+     * Rebuild after changes to articles that were or become publicly visible.
+     * Edits to drafts never appear on the homepage and are ignored.
+     */
+    @Async
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        if (event.isPublishedBefore() || event.isPublishedAfter()) {
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${wildlife.home.refresh-interval-ms:300000}",
+               initialDelayString = "${wildlife.home.refresh-interval-ms:300000}")
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * Mark the snapshot stale and rebuild it unless another thread is already rebuilding,
+     * in which case that thread rebuilds again when it finishes
+     */
+    public void refresh() {
+        stale.set(true);
+        while (stale.get() && rebuilding.compareAndSet(false, true)) {
+            try {
+                if (stale.getAndSet(false)) {
+                    snapshot.set(build());
+                }
+            } catch (RuntimeException e) {
+                // Keep serving the previous snapshot; the next change or timer tick retries
+                logger.error("Failed to rebuild home feed snapshot", e);
+                return;
+            } finally {
+                rebuilding.set(false);
+            }
+        }
+    }
+
+    private HomeSnapshot build() {
+        // From the primary: a rebuild after a publish must not read a replica that has not seen it yet
+        HomeSnapshot built = rebuildTimer.record(() -> ReadRouting.callOnPrimary(
+                () -> transactionTemplate.execute(status -> new HomeSnapshot(
+                        articleService.getFeaturedArticles(featuredLimit),
+                        articleService.getRecentArticles(recentDays, recentLimit),
+                        articleService.getMostViewedArticles(PageRequest.of(0, mostViewedLimit)).getContent(),
+                        articleService.getAllCategories(),
+                        Instant.now()))));
+        logger.debug("Rebuilt {}", built);
+        return built;
+    }
+}
@@ -17,9 +17,6 @@ public class TestArticleEntity {
     @Column(name = "title")
     private String title;
 
-    @Column(name = "content")
-    private String content;
-
     @Column(name = "excerpt")
     private String excerpt;
 
@@ -51,8 +48,6 @@ public class TestArticleEntity {
     public String getTitle() { return title; }
     public void setTitle(String title) { this.title = title; }
 
-    public String getContent() { return content; }
-    public void setContent(String content) { this.content = content; }
 
     public String getExcerpt() { return excerpt; }
     public void setExcerpt(String excerpt) { this.excerpt = excerpt; }
@@ -0,0 +1,148 @@
+package com.wildlife.shared.config;
+
+import com.wildlife.shared.datasource.DataSourceRole;
+import com.wildlife.shared.datasource.ReadWriteRoutingDataSource;
+import com.wildlife.shared.datasource.ReplicaAwareJpaDialect;
+import com.wildlife.shared.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+
+/**
+ * Database connection pools.
+ * <p>
+ * Without wildlife.datasource.replica.url the auto-configured pool on spring.datasource is used
+ * for everything. With it, a primary and a replica pool are created and read-only transactions
+ * are routed to the replica ({@link ReadWriteRoutingDataSource}); those transactions do not fill
+ * the second-level cache ({@link ReplicaAwareJpaDialect}). Pool metrics (hikaricp.* and
+ * jdbc.connections.*) carry a role tag of primary or replica.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    public static final String PRIMARY_POOL_NAME = "wildlife-primary";
+    public static final String REPLICA_POOL_NAME = "wildlife-replica";
+
+    /**
+     * Tag pool metrics with the pool's role; everything that is not the replica pool is the primary
+     */
+    @Bean
+    public MeterFilter dataSourceRoleMeterFilter() {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if (!id.getName().startsWith("hikaricp.") && !id.getName().startsWith("jdbc.connections.")) {
+                    return id;
+                }
+                boolean replica = REPLICA_POOL_NAME.equals(id.getTag("pool"))
+                        || DataSourceRole.REPLICA.tag().equals(id.getTag("name"));
+                DataSourceRole role = replica ? DataSourceRole.REPLICA : DataSourceRole.PRIMARY;
+                return id.withTag(Tag.of("role", role.tag()));
+            }
+        };
+    }
+
+    @Configuration
+    @ConditionalOnExpression("!'${wildlife.datasource.replica.url:}'.isEmpty()")
+    static class ReadReplicaConfig {
+
+        /**
+         * Primary pool, configured like the auto-configured one (spring.datasource.*)
+         */
+        @Bean
+        @ConfigurationProperties("spring.datasource.hikari")
+        public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+            HikariDataSource primary = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .build();
+            primary.setPoolName(PRIMARY_POOL_NAME);
+            return primary;
+        }
+
+        /**
+         * Replica pool (wildlife.datasource.replica.*); connections are read-only
+         */
+        @Bean
+        @ConfigurationProperties("wildlife.datasource.replica.hikari")
+        public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                                  @Value("${wildlife.datasource.replica.url}") String url,
+                                                  @Value("${wildlife.datasource.replica.username}") String username,
+                                                  @Value("${wildlife.datasource.replica.password}") String password) {
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(properties.determineDriverClassName())
+                    .url(url)
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName(REPLICA_POOL_NAME);
+            replica.setReadOnly(true);
+            return replica;
+        }
+
+        @Bean
+        public ReplicaLagMonitor replicaLagMonitor(
+                @Qualifier("replicaDataSource") DataSource replica,
+                MeterRegistry meterRegistry,
+                @Value("${wildlife.datasource.replica.max-lag-ms:2000}") long maxLagMillis,
+                @Value("${wildlife.datasource.replica.lag-check-interval-ms:1000}") long checkIntervalMillis) {
+            return new ReplicaLagMonitor(replica, maxLagMillis, checkIntervalMillis, meterRegistry);
+        }
+
+        /**
+         * The DataSource used by JPA, JdbcTemplate and the transaction manager. Connections are
+         * taken lazily, on the first statement, once the transaction's read-only flag is known.
+         */
+        @Bean
+        @Primary
+        public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                     @Qualifier("replicaDataSource") DataSource replica,
+                                     ReplicaLagMonitor replicaLagMonitor,
+                                     @Value("${wildlife.datasource.replica.sticky-ms:5000}") long stickyMillis) {
+            LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+            dataSource.setTargetDataSource(new ReadWriteRoutingDataSource(
+                    primary, replica, replicaLagMonitor, Duration.ofMillis(stickyMillis)));
+            // Defaults of a fresh Hikari connection to PostgreSQL, so none is opened to find them out
+            dataSource.setDefaultAutoCommit(true);
+            dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+            return dataSource;
+        }
+
+        /**
+         * Install {@link ReplicaAwareJpaDialect} on the entity manager factory, from which the JPA
+         * transaction manager takes its dialect
+         */
+        @Bean
+        public static BeanPostProcessor replicaAwareJpaDialectInstaller(
+                ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                    if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory) {
+                        entityManagerFactory.setJpaDialect(new ReplicaAwareJpaDialect(replicaLagMonitor.getObject()));
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
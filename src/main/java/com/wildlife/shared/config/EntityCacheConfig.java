@@ -0,0 +1,96 @@
+package com.wildlife.shared.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.ehcache.config.CacheConfiguration;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Hibernate second-level cache: one on-heap Ehcache cache per region, used through JCache.
+ * <p>
+ * Each region's size and time-to-live come from wildlife.entity-cache.regions.&lt;region&gt;
+ * (max-entries, ttl-ms). The regions are created here before Hibernate starts, and Hibernate
+ * fails on any region that is not declared. Gets, puts and evictions per region are published as
+ * cache.* metrics (tag cache=&lt;region&gt;), and Hibernate's statistics as hibernate.* metrics.
+ */
+@Configuration
+public class EntityCacheConfig {
+
+    public static final String ARTICLES = "articles";
+    public static final String ARTICLE_TAGS = "article-tags";
+    public static final String USERS = "users";
+    public static final String ARTICLE_CATEGORIES = "article-categories";
+    public static final String ARTICLE_FEATURED = "article-featured";
+
+    // Regions Hibernate creates for itself once the query cache is on
+    private static final String DEFAULT_QUERY_RESULTS = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    private static final String REGION_PROPERTY_PREFIX = "wildlife.entity-cache.regions.";
+
+    // Defaults when not configured; a ttl of 0 never expires. Update timestamps must outlive every
+    // cached query result, or stale results would be served after their tables changed
+    private static final List<Region> REGIONS = List.of(
+            new Region(ARTICLES, 5000, 600_000),
+            new Region(ARTICLE_TAGS, 5000, 600_000),
+            new Region(USERS, 1000, 1_800_000),
+            new Region(ARTICLE_CATEGORIES, 16, 300_000),
+            new Region(ARTICLE_FEATURED, 64, 60_000),
+            new Region(DEFAULT_QUERY_RESULTS, 256, 300_000),
+            new Region(UPDATE_TIMESTAMPS, 1000, 0));
+
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager(Environment environment) {
+        CachingProvider provider = Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), getClass().getClassLoader());
+        for (Region region : REGIONS) {
+            long maxEntries = environment.getProperty(
+                    REGION_PROPERTY_PREFIX + region.name() + ".max-entries", Long.class, region.maxEntries());
+            long ttlMillis = environment.getProperty(
+                    REGION_PROPERTY_PREFIX + region.name() + ".ttl-ms", Long.class, region.ttlMillis());
+            CacheConfiguration<Object, Object> configuration = CacheConfigurationBuilder
+                    .newCacheConfigurationBuilder(Object.class, Object.class,
+                            ResourcePoolsBuilder.heap(Math.max(1, maxEntries)))
+                    .withExpiry(ttlMillis > 0
+                            ? ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofMillis(ttlMillis))
+                            : ExpiryPolicyBuilder.noExpiration())
+                    .build();
+            if (cacheManager.getCache(region.name()) != null) {
+                // Left over from an earlier context in the same JVM
+                cacheManager.destroyCache(region.name());
+            }
+            cacheManager.createCache(region.name(), Eh107Configuration.fromEhcacheCacheConfiguration(configuration));
+            cacheManager.enableStatistics(region.name(), true);
+        }
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer entityCacheHibernateProperties(CacheManager entityCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+    }
+
+    @Bean
+    public MeterBinder entityCacheMetrics(CacheManager entityCacheManager) {
+        return registry -> REGIONS.forEach(region ->
+                JCacheMetrics.monitor(registry, entityCacheManager.getCache(region.name())));
+    }
+
+    private record Region(String name, long maxEntries, long ttlMillis) {
+    }
+}
@@ -1,8 +1,6 @@
 package com.wildlife.shared.config;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
 import org.slf4j.Logger;
@@ -20,9 +18,6 @@ import java.util.Map;
 public class JsonListConverter implements AttributeConverter<List<Map<String, Object>>, String> {
 
     private static final Logger logger = LoggerFactory.getLogger(JsonListConverter.class);
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-    private static final TypeReference<List<Map<String, Object>>> TYPE_REFERENCE = 
-            new TypeReference<List<Map<String, Object>>>() {};
 
     @Override
     public String convertToDatabaseColumn(List<Map<String, Object>> attribute) {
@@ -31,7 +26,7 @@ public class JsonListConverter implements AttributeConverter<List<Map<String, Ob
         }
         
         try {
-            return objectMapper.writeValueAsString(attribute);
+            return JsonSupport.writer().writeValueAsString(attribute);
         } catch (JsonProcessingException e) {
             logger.error("Error converting list to JSON string", e);
             return "[]";
@@ -45,7 +40,7 @@ public class JsonListConverter implements AttributeConverter<List<Map<String, Ob
         }
         
         try {
-            List<Map<String, Object>> result = objectMapper.readValue(dbData, TYPE_REFERENCE);
+            List<Map<String, Object>> result = JsonSupport.mapListReader().readValue(dbData);
             return result != null ? result : new ArrayList<>();
         } catch (JsonProcessingException e) {
             logger.error("Error converting JSON string to list: {}", dbData, e);
@@ -0,0 +1,54 @@
+package com.wildlife.shared.config;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Shared Jackson instances for code that works outside the Spring context (JPA converters,
+ * MapStruct mappers). ObjectMapper configuration is expensive and readers/writers are immutable
+ * and thread-safe, so they are built once here and reused instead of one mapper per class.
+ * Settings mirror spring.jackson in application.yml.
+ */
+public final class JsonSupport {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .findAndRegisterModules()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    private static final ObjectWriter WRITER = MAPPER.writer();
+
+    private static final ObjectReader MAP_LIST_READER =
+            MAPPER.readerFor(new TypeReference<List<Map<String, Object>>>() {});
+
+    private JsonSupport() {}
+
+    public static ObjectMapper mapper() {
+        return MAPPER;
+    }
+
+    public static ObjectWriter writer() {
+        return WRITER;
+    }
+
+    /**
+     * Reader for untyped JSON arrays of objects
+     */
+    public static ObjectReader mapListReader() {
+        return MAP_LIST_READER;
+    }
+
+    /**
+     * Reader bound to a type; callers keep the result in a static field
+     */
+    public static ObjectReader readerFor(TypeReference<?> type) {
+        return MAPPER.readerFor(type);
+    }
+}
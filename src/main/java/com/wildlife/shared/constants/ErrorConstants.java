@@ -25,6 +25,10 @@ public final class ErrorConstants {
     public static final String ERROR_FILE_SIZE_EXCEEDED = "FILE_SIZE_EXCEEDED";
     public static final String ERROR_DATA_INTEGRITY_VIOLATION = "DATA_INTEGRITY_VIOLATION";
     public static final String ERROR_INTERNAL_SERVER_ERROR = "INTERNAL_SERVER_ERROR";
+    public static final String ERROR_INVALID_REQUEST = "INVALID_REQUEST";
+    public static final String ERROR_CONCURRENT_MODIFICATION = "CONCURRENT_MODIFICATION";
+    public static final String ERROR_SERVICE_UNAVAILABLE = "SERVICE_UNAVAILABLE";
+    public static final String ERROR_TOO_MANY_REQUESTS = "TOO_MANY_REQUESTS";
 
     // Generic Error Messages
     public static final String MSG_RESOURCE_NOT_FOUND = "Resource not found";
@@ -35,6 +39,7 @@ public final class ErrorConstants {
     public static final String MSG_MALFORMED_JSON = "Request body is malformed or cannot be parsed";
     public static final String MSG_FILE_SIZE_EXCEEDED = "Uploaded file size exceeds the maximum allowed limit";
     public static final String MSG_DATA_INTEGRITY_VIOLATION = "Data integrity constraint violation occurred";
+    public static final String MSG_CONCURRENT_MODIFICATION = "The resource was modified by another request. Reload it and try again.";
     public static final String MSG_INTERNAL_SERVER_ERROR = "An unexpected error occurred. Please try again later.";
 
     // Parameter Error Messages
@@ -77,6 +82,10 @@ public final class ErrorConstants {
     public static final String LOG_ENDPOINT_NOT_FOUND = "Endpoint not found";
     public static final String LOG_FILE_SIZE_EXCEEDED = "File size exceeded";
     public static final String LOG_DATA_INTEGRITY_VIOLATION = "Data integrity violation";
+    public static final String LOG_INVALID_REQUEST = "Invalid request";
+    public static final String LOG_CONCURRENT_MODIFICATION = "Concurrent modification";
+    public static final String LOG_SERVICE_UNAVAILABLE = "Service unavailable";
+    public static final String LOG_TOO_MANY_REQUESTS = "Too many requests";
 
     // Special Values
     public static final String CLOUDINARY_SUCCESS_RESULT = "ok";
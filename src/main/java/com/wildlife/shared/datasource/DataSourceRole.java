@@ -0,0 +1,16 @@
+package com.wildlife.shared.datasource;
+
+/**
+ * Database a connection is taken from when a read replica is configured
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA;
+
+    /**
+     * Value of the role tag on pool metrics
+     */
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
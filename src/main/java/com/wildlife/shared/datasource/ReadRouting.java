@@ -0,0 +1,53 @@
+package com.wildlife.shared.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Pins the current thread's reads to the primary database.
+ * <p>
+ * Read-only transactions go to the read replica when one is configured. In-memory views that are
+ * kept current by change events (counts, indexes, snapshots) rebuild through this, so a lagging
+ * replica cannot overwrite a change they have already applied. Without a replica it has no effect.
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private ReadRouting() {
+        // Utility class
+    }
+
+    /**
+     * Run the task with every connection it opens taken from the primary
+     */
+    public static void runOnPrimary(Runnable task) {
+        callOnPrimary(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * Call the task with every connection it opens taken from the primary
+     */
+    public static <T> T callOnPrimary(Supplier<T> task) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_REQUIRED.remove();
+            } else {
+                PRIMARY_REQUIRED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * Whether the current thread is inside {@link #runOnPrimary} or {@link #callOnPrimary}
+     */
+    public static boolean isPrimaryRequired() {
+        return PRIMARY_REQUIRED.get() != null;
+    }
+}
@@ -0,0 +1,114 @@
+package com.wildlife.shared.datasource;
+
+import com.wildlife.shared.security.SecurityUtils;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Sends read-only transactions to the read replica and everything else to the primary.
+ * <p>
+ * A read-only transaction still uses the primary when
+ * <ul>
+ *   <li>the replica is lagging or unreachable ({@link ReplicaLagMonitor}),</li>
+ *   <li>the thread is inside {@link ReadRouting#runOnPrimary}, or</li>
+ *   <li>the authenticated user committed a write within wildlife.datasource.replica.sticky-ms,
+ *       so they read their own writes.</li>
+ * </ul>
+ * The lookup runs when a connection is taken, so this must sit behind a
+ * LazyConnectionDataSourceProxy: the transaction's read-only flag is set only after it has begun.
+ * It also runs only once per session, so spring.jpa.open-in-view stays off: a session held for the
+ * whole request would reuse a read-only transaction's replica connection for a later write.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final int PRUNE_THRESHOLD = 1024;
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long stickyNanos;
+
+    // User id -> System.nanoTime() until which their reads stay on the primary
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica,
+                                      ReplicaLagMonitor lagMonitor, Duration sticky) {
+        this.lagMonitor = lagMonitor;
+        this.stickyNanos = sticky.toNanos();
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Optional<Long> userId = SecurityUtils.getCurrentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                userId.ifPresent(this::stickAfterCommit);
+            }
+            return DataSourceRole.PRIMARY;
+        }
+        if (ReadRouting.isPrimaryRequired() || !lagMonitor.isUsable()
+                || userId.map(this::isSticky).orElse(false)) {
+            return DataSourceRole.PRIMARY;
+        }
+        return DataSourceRole.REPLICA;
+    }
+
+    /**
+     * Not a single pool: keep pool metrics from unwrapping whichever target happens to be current
+     */
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return iface.isInstance(this);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return (T) this;
+        }
+        throw new SQLException("ReadWriteRoutingDataSource cannot be unwrapped to " + iface.getName());
+    }
+
+    private void stickAfterCommit(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    stick(userId);
+                }
+            });
+        } else {
+            stick(userId);
+        }
+    }
+
+    private void stick(Long userId) {
+        long now = System.nanoTime();
+        stickyUntil.put(userId, now + stickyNanos);
+        if (stickyUntil.size() > PRUNE_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until - now < 0);
+        }
+    }
+
+    private boolean isSticky(Long userId) {
+        Long until = stickyUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() < 0) {
+            stickyUntil.remove(userId, until);
+            return false;
+        }
+        return true;
+    }
+}
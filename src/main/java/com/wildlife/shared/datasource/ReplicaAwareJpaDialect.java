@@ -0,0 +1,57 @@
+package com.wildlife.shared.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * Keeps rows read from the replica out of the second-level cache.
+ * <p>
+ * The entity and query caches are shared by every transaction, so a row loaded from a lagging
+ * replica would be served to later transactions on the primary too, e.g. an article version that
+ * makes the next PATCH fail with a false conflict. A read-only transaction that may be routed to
+ * the replica ({@link ReadWriteRoutingDataSource}) therefore reads the caches but never puts into
+ * them ({@link CacheMode#GET}); the caches are filled by primary reads. A user inside their sticky
+ * window is treated the same, which only costs a cache put.
+ */
+public class ReplicaAwareJpaDialect extends HibernateJpaDialect {
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaAwareJpaDialect(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly() || ReadRouting.isPrimaryRequired() || !lagMonitor.isUsable()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previous = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReplicaTransactionData(transactionData, session, previous);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReplicaTransactionData replica) {
+            // A session opened before the transaction outlives it, so give back its cache mode
+            replica.session().setCacheMode(replica.previousCacheMode());
+            super.cleanupTransaction(replica.delegate());
+        } else {
+            super.cleanupTransaction(transactionData);
+        }
+    }
+
+    private record ReplicaTransactionData(Object delegate, Session session, CacheMode previousCacheMode) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.wildlife.shared.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how far the read replica is behind the primary and decides whether it may serve reads.
+ * <p>
+ * The replica is usable while its replay lag is at most wildlife.datasource.replica.max-lag-ms and
+ * the last check succeeded less than three check intervals ago: a check held up (e.g. behind other
+ * scheduled jobs) does not leave a falling-behind replica in use. It starts unusable, so reads go
+ * to the primary until the first check.
+ * A server that is not in recovery (e.g. a second standalone instance when testing locally) has
+ * no lag.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Caught up when everything received has been replayed; otherwise the age of the last replayed commit
+    private static final String LAG_SQL =
+            "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 " +
+            "END";
+
+    private static final int CHECK_TIMEOUT_SECONDS = 2;
+
+    // A check older than this many intervals no longer vouches for the replica
+    private static final int STALE_CHECK_INTERVALS = 3;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagMillis;
+    private final long staleNanos;
+
+    private volatile boolean usable;
+    private volatile long checkedAt;
+    private volatile double lagMillis = Double.NaN;
+
+    public ReplicaLagMonitor(DataSource replica, long maxLagMillis, long checkIntervalMillis,
+                             MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replica);
+        this.replicaJdbcTemplate.setQueryTimeout(CHECK_TIMEOUT_SECONDS);
+        this.maxLagMillis = maxLagMillis;
+        this.staleNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, checkIntervalMillis) * STALE_CHECK_INTERVALS);
+        Gauge.builder("wildlife.datasource.replica.lag", this, monitor -> monitor.lagMillis)
+                .description("Replay lag of the read replica at the last check; NaN when it could not be checked")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("wildlife.datasource.replica.usable", this, monitor -> monitor.isUsable() ? 1 : 0)
+                .description("Whether read-only transactions are currently sent to the read replica")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether read-only transactions may use the replica
+     */
+    public boolean isUsable() {
+        return usable && System.nanoTime() - checkedAt <= staleNanos;
+    }
+
+    @Scheduled(fixedDelayString = "${wildlife.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        boolean nowUsable;
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Double.class);
+            lagMillis = lag != null ? lag : Double.NaN;
+            nowUsable = lag != null && lag <= maxLagMillis;
+        } catch (RuntimeException e) {
+            lagMillis = Double.NaN;
+            nowUsable = false;
+            if (usable) {
+                logger.warn("Read replica check failed, reading from the primary: {}", e.getMessage());
+            }
+        }
+
+        if (nowUsable != usable) {
+            if (nowUsable) {
+                logger.info("Read replica in use (lag {} ms)", Math.round(lagMillis));
+            } else if (!Double.isNaN(lagMillis)) {
+                logger.warn("Read replica lag {} ms exceeds {} ms, reading from the primary",
+                        Math.round(lagMillis), maxLagMillis);
+            }
+            usable = nowUsable;
+        }
+        checkedAt = System.nanoTime();
+    }
+}
@@ -1,6 +1,7 @@
 package com.wildlife.shared.dto;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.util.List;
@@ -84,12 +85,13 @@ public class ApiResponse<T> {
     }
     
     /**
-     * Pagination information in frontend expected format
+     * Pagination information in frontend expected format.
+     * pages and total are null (and omitted from JSON) for count-free pages.
      */
     public static class PaginationInfo {
         private int current;
-        private int pages;
-        private long total;
+        private Integer pages;
+        private Long total;
         private boolean hasNext;
         private boolean hasPrev;
         
@@ -103,7 +105,7 @@ public class ApiResponse<T> {
             this.hasPrev = page.hasPrevious();
         }
         
-        public PaginationInfo(int current, int pages, long total, boolean hasNext, boolean hasPrev) {
+        public PaginationInfo(int current, Integer pages, Long total, boolean hasNext, boolean hasPrev) {
             this.current = current;
             this.pages = pages;
             this.total = total;
@@ -120,19 +122,19 @@ public class ApiResponse<T> {
             this.current = current;
         }
         
-        public int getPages() {
+        public Integer getPages() {
             return pages;
         }
         
-        public void setPages(int pages) {
+        public void setPages(Integer pages) {
             this.pages = pages;
         }
         
-        public long getTotal() {
+        public Long getTotal() {
             return total;
         }
         
-        public void setTotal(long total) {
+        public void setTotal(Long total) {
             this.total = total;
         }
         
@@ -212,6 +214,117 @@ public class ApiResponse<T> {
             ArticleData<T> data = new ArticleData<>(page.getContent(), pagination);
             return new ArticleDataResponse<>(data);
         }
+        
+        // Static factory method for creating from a count-free Slice (no total or pages)
+        public static <T> ArticleDataResponse<T> fromSlice(Slice<T> slice) {
+            PaginationInfo pagination = new PaginationInfo(
+                slice.getNumber() + 1, // Convert back to 1-based for frontend
+                null,
+                null,
+                slice.hasNext(),
+                slice.hasPrevious()
+            );
+            ArticleData<T> data = new ArticleData<>(slice.getContent(), pagination);
+            return new ArticleDataResponse<>(data);
+        }
+    }
+
+    /**
+     * Cursor pagination information for keyset paginated feeds
+     * No totals are reported - clients pass nextCursor back until hasNext is false
+     */
+    public static class CursorPaginationInfo {
+        private int limit;
+        private boolean hasNext;
+        private String nextCursor;
+
+        public CursorPaginationInfo(int limit, boolean hasNext, String nextCursor) {
+            this.limit = limit;
+            this.hasNext = hasNext;
+            this.nextCursor = nextCursor;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public void setLimit(int limit) {
+            this.limit = limit;
+        }
+
+        @JsonProperty("hasNext")
+        public boolean isHasNext() {
+            return hasNext;
+        }
+
+        public void setHasNext(boolean hasNext) {
+            this.hasNext = hasNext;
+        }
+
+        public String getNextCursor() {
+            return nextCursor;
+        }
+
+        public void setNextCursor(String nextCursor) {
+            this.nextCursor = nextCursor;
+        }
+    }
+
+    /**
+     * Cursor-paginated article response format
+     * Returns: { "data": { "articles": [...], "pagination": { "limit", "hasNext", "nextCursor" } } }
+     */
+    public static class ArticleCursorDataResponse<T> {
+        private ArticleCursorData<T> data;
+
+        public ArticleCursorDataResponse(ArticleCursorData<T> data) {
+            this.data = data;
+        }
+
+        public ArticleCursorData<T> getData() {
+            return data;
+        }
+
+        public void setData(ArticleCursorData<T> data) {
+            this.data = data;
+        }
+
+        public static class ArticleCursorData<T> {
+            private List<T> articles;
+            private CursorPaginationInfo pagination;
+
+            public ArticleCursorData(List<T> articles, CursorPaginationInfo pagination) {
+                this.articles = articles;
+                this.pagination = pagination;
+            }
+
+            public List<T> getArticles() {
+                return articles;
+            }
+
+            public void setArticles(List<T> articles) {
+                this.articles = articles;
+            }
+
+            public CursorPaginationInfo getPagination() {
+                return pagination;
+            }
+
+            public void setPagination(CursorPaginationInfo pagination) {
+                this.pagination = pagination;
+            }
+        }
+
+        // Static factory method for creating from CursorPage
+        public static <T> ArticleCursorDataResponse<T> fromCursorPage(CursorPage<T> page) {
+            CursorPaginationInfo pagination = new CursorPaginationInfo(
+                page.getLimit(),
+                page.hasNext(),
+                page.getNextCursor()
+            );
+            ArticleCursorData<T> data = new ArticleCursorData<>(page.getContent(), pagination);
+            return new ArticleCursorDataResponse<>(data);
+        }
     }
 
     /**
@@ -0,0 +1,38 @@
+package com.wildlife.shared.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (cursor) paginated result.
+ * Carries no total count - callers follow {@code nextCursor} until {@code hasNext} is false.
+ */
+public class CursorPage<T> {
+
+    private final List<T> content;
+    private final int limit;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public CursorPage(List<T> content, int limit, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.limit = limit;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
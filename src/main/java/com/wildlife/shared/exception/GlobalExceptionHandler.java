@@ -6,6 +6,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -124,6 +126,26 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    /**
+     * Handle InvalidRequestException
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(
+            InvalidRequestException ex, HttpServletRequest request) {
+        
+        String traceId = generateTraceId();
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.BAD_REQUEST.value(),
+            ErrorConstants.ERROR_INVALID_REQUEST,
+            ex.getMessage(),
+            request.getRequestURI(),
+            traceId
+        );
+
+        logError(traceId, ErrorConstants.LOG_INVALID_REQUEST, ex, request);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
     /**
      * Handle authentication exceptions
      */
@@ -351,6 +373,72 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    /**
+     * Handle updates made against a stale version of a resource (optimistic locking)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            OptimisticLockingFailureException ex, HttpServletRequest request) {
+        
+        String traceId = generateTraceId();
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.CONFLICT.value(),
+            ErrorConstants.ERROR_CONCURRENT_MODIFICATION,
+            ErrorConstants.MSG_CONCURRENT_MODIFICATION,
+            request.getRequestURI(),
+            traceId
+        );
+
+        logError(traceId, ErrorConstants.LOG_CONCURRENT_MODIFICATION, ex, request);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+
+    /**
+     * Handle requests refused because the server is temporarily saturated
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+            ServiceUnavailableException ex, HttpServletRequest request) {
+        
+        String traceId = generateTraceId();
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            ErrorConstants.ERROR_SERVICE_UNAVAILABLE,
+            ex.getMessage(),
+            request.getRequestURI(),
+            traceId
+        );
+
+        logError(traceId, ErrorConstants.LOG_SERVICE_UNAVAILABLE, ex, request);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+
+    /**
+     * Handle requests rejected by a throttle; the client is told how long to wait
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(
+            TooManyRequestsException ex, HttpServletRequest request) {
+        
+        String traceId = generateTraceId();
+        ErrorResponse errorResponse = new ErrorResponse(
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            ErrorConstants.ERROR_TOO_MANY_REQUESTS,
+            ex.getMessage(),
+            request.getRequestURI(),
+            traceId
+        );
+
+        // Expected under attack; keep it out of the error log
+        logger.debug("{} [TraceId: {}] [Path: {}] - retry after {} s",
+            ErrorConstants.LOG_TOO_MANY_REQUESTS, traceId, request.getRequestURI(), ex.getRetryAfterSeconds());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
     /**
      * Handle all other unexpected exceptions
      */
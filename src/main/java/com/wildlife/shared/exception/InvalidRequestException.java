@@ -0,0 +1,21 @@
+package com.wildlife.shared.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a request parameter is syntactically valid but cannot be honoured,
+ * e.g. a tampered pagination cursor or too many ids in one batch request.
+ * Returns HTTP 400 Bad Request status.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
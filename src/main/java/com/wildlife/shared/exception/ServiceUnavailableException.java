@@ -0,0 +1,21 @@
+package com.wildlife.shared.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when the server is temporarily too busy to handle a request,
+ * e.g. when the password hashing pool is saturated.
+ * Returns HTTP 503 Service Unavailable status with a Retry-After header.
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public ServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
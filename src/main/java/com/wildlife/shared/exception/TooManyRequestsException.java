@@ -0,0 +1,27 @@
+package com.wildlife.shared.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a client has made too many attempts and must wait, e.g. repeated
+ * failed logins for the same email or from the same IP.
+ * Returns HTTP 429 Too Many Requests status with a Retry-After header.
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Seconds the client should wait before trying again
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -1,5 +1,6 @@
 package com.wildlife.shared.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,7 +9,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -16,62 +16,57 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * JWT Authentication Filter for processing and validating JWT tokens in requests.
  * Extracts JWT from Authorization header and sets authentication in security context.
+ * The token is verified and its claims read once per request, or taken from the
+ * {@link VerifiedTokenCache} when the same token was seen before.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
+
     @Autowired
     private JwtTokenProvider tokenProvider;
 
+    @Autowired
+    private VerifiedTokenCache tokenCache;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
                                   HttpServletResponse response, 
                                   FilterChain filterChain) throws ServletException, IOException {
 
-        try {
-            String jwt = getJwtFromRequest(request);
-
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                Long userId = tokenProvider.getUserIdFromToken(jwt);
-                String email = tokenProvider.getEmailFromToken(jwt);
-                String name = tokenProvider.getNameFromToken(jwt);
-                List<String> roles = tokenProvider.getRolesFromToken(jwt);
-
-                // Convert roles to Spring Security authorities
-                List<SimpleGrantedAuthority> authorities = roles.stream()
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
-
-                // Create UserPrincipal for the authenticated user
-                UserPrincipal userPrincipal = new UserPrincipal(
-                    userId, email, name, null, authorities, true
-                );
-
-                UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(
-                        userPrincipal, null, authorities
-                    );
-                    
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                logger.debug("Set authentication for user: {} with roles: {}", email, roles);
+        String jwt = getJwtFromRequest(request);
+        if (StringUtils.hasText(jwt)) {
+            try {
+                authenticate(request, tokenCache.verify(jwt));
+            } catch (JwtException | IllegalArgumentException ex) {
+                tokenProvider.logInvalidToken(ex);
+            } catch (Exception ex) {
+                logger.error("Could not set user authentication in security context", ex);
             }
-        } catch (Exception ex) {
-            logger.error("Could not set user authentication in security context", ex);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Put the token's user into the security context
+     */
+    private void authenticate(HttpServletRequest request, VerifiedToken token) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(token.toPrincipal(), null, token.getAuthorities());
+        authentication.setDetails(authenticationDetailsSource.buildDetails(request));
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        logger.debug("Set authentication for user: {} with roles: {}", token.getEmail(), token.getRoles());
+    }
+
     /**
      * Extract JWT token from Authorization header
      */
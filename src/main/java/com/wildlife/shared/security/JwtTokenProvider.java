@@ -2,27 +2,36 @@ package com.wildlife.shared.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * JWT Token Provider for generating, validating, and parsing JWT tokens.
  * Provides secure token management for the wildlife conservation platform.
+ * The signing key and parser are built once; {@link #parseAndVerify(String)} verifies a token
+ * and reads all of its claims in one pass.
  */
 @Component
 public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    private static final Map<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+
     @Value("${wildlife.jwt.secret:mySecretKey}")
     private String jwtSecret;
 
@@ -32,6 +41,16 @@ public class JwtTokenProvider {
     @Value("${wildlife.jwt.issuer:wildlife-api}")
     private String jwtIssuer;
 
+    // Derived once from the secret; the parser is immutable and thread-safe
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
     /**
      * Generate JWT token for authenticated user
      */
@@ -73,57 +92,57 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Verify the token's signature and expiry and read all of its claims in one pass.
+     *
+     * @throws JwtException when the token is malformed, expired or not signed with our key
+     * @throws IllegalArgumentException when the token is empty or its subject is not a user id
+     */
+    public VerifiedToken parseAndVerify(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        List<String> roles = readRoles(claims);
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            authorities.add(authority(role));
+        }
+        Date issuedAt = claims.getIssuedAt();
+        Date expiration = claims.getExpiration();
+        return new VerifiedToken(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("name", String.class),
+                roles,
+                authorities,
+                issuedAt != null ? issuedAt.toInstant() : null,
+                expiration != null ? expiration.toInstant() : null);
+    }
+
     /**
      * Get user ID from JWT token
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return Long.parseLong(claims.getSubject());
+        return Long.parseLong(parseClaims(token).getSubject());
     }
 
     /**
      * Get email from JWT token
      */
     public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("email", String.class);
+        return parseClaims(token).get("email", String.class);
     }
 
     /**
      * Get name from JWT token
      */
     public String getNameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("name", String.class);
+        return parseClaims(token).get("name", String.class);
     }
 
     /**
      * Get roles from JWT token
      */
-    @SuppressWarnings("unchecked")
     public List<String> getRolesFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.get("roles", List.class);
+        return readRoles(parseClaims(token));
     }
 
     /**
@@ -131,38 +150,38 @@ public class JwtTokenProvider {
      */
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
-        } catch (SecurityException ex) {
+        } catch (Exception ex) {
+            logInvalidToken(ex);
+        }
+        return false;
+    }
+
+    /**
+     * Log why a token was rejected, one line without a stack trace
+     */
+    public void logInvalidToken(Exception ex) {
+        if (ex instanceof SecurityException) {
             logger.error("Invalid JWT signature: {}", ex.getMessage());
-        } catch (MalformedJwtException ex) {
+        } else if (ex instanceof MalformedJwtException) {
             logger.error("Invalid JWT token: {}", ex.getMessage());
-        } catch (ExpiredJwtException ex) {
+        } else if (ex instanceof ExpiredJwtException) {
             logger.error("Expired JWT token: {}", ex.getMessage());
-        } catch (UnsupportedJwtException ex) {
+        } else if (ex instanceof UnsupportedJwtException) {
             logger.error("Unsupported JWT token: {}", ex.getMessage());
-        } catch (IllegalArgumentException ex) {
+        } else if (ex instanceof IllegalArgumentException) {
             logger.error("JWT claims string is empty: {}", ex.getMessage());
-        } catch (Exception ex) {
+        } else {
             logger.error("JWT validation error: {}", ex.getMessage());
         }
-        return false;
     }
 
     /**
      * Get expiration date from token
      */
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return claims.getExpiration();
+        return parseClaims(token).getExpiration();
     }
 
     /**
@@ -173,10 +192,36 @@ public class JwtTokenProvider {
         return expiration.before(new Date());
     }
 
+    private Claims parseClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private static List<String> readRoles(Claims claims) {
+        List<?> roles = claims.get("roles", List.class);
+        if (roles == null) {
+            return List.of();
+        }
+        List<String> names = new ArrayList<>(roles.size());
+        for (Object role : roles) {
+            if (role != null) {
+                names.add(role.toString());
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Shared authority for a role; only roles from verified tokens get here, so the map stays as
+     * small as the set of roles we sign
+     */
+    private static GrantedAuthority authority(String role) {
+        return AUTHORITIES.computeIfAbsent(role, SimpleGrantedAuthority::new);
+    }
+
     /**
      * Get signing key for JWT
      */
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        return signingKey;
     }
 } 
\ No newline at end of file
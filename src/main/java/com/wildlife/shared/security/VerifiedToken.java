@@ -0,0 +1,86 @@
+package com.wildlife.shared.security;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Claims of a JWT whose signature and expiry have been checked, read once by
+ * {@link JwtTokenProvider#parseAndVerify(String)}. Immutable; authorities are shared instances.
+ */
+public final class VerifiedToken {
+
+    private final Long userId;
+    private final String email;
+    private final String name;
+    private final List<String> roles;
+    private final List<GrantedAuthority> authorities;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    VerifiedToken(Long userId, String email, String name, List<String> roles,
+                  List<GrantedAuthority> authorities, Instant issuedAt, Instant expiresAt) {
+        this.userId = userId;
+        this.email = email;
+        this.name = name;
+        this.roles = List.copyOf(roles);
+        this.authorities = List.copyOf(authorities);
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<String> getRoles() {
+        return roles;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * When the token was issued, or null when it does not say
+     */
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    /**
+     * Expiry of the token, or null when it has none
+     */
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Whether the token has expired by the given time
+     */
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    /**
+     * Principal for the security context; tokens carry no password
+     */
+    public UserPrincipal toPrincipal() {
+        return new UserPrincipal(userId, email, name, null, authorities, true);
+    }
+
+    @Override
+    public String toString() {
+        return "VerifiedToken{userId=" + userId + ", email='" + email + "', roles=" + roles +
+               ", expiresAt=" + expiresAt + "}";
+    }
+}
@@ -0,0 +1,153 @@
+package com.wildlife.shared.security;
+
+import com.wildlife.user.core.User;
+import com.wildlife.user.core.UserChangedEvent;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded cache of verified bearer tokens, so a token sent on many requests is verified once.
+ * <p>
+ * Entries are looked up by the raw token: the map hashes it and confirms a match with equals, so
+ * a token whose hash collides with a cached one can never reuse that token's principal. An entry
+ * is never served at or after the token's exp, and tokens without one are not cached. At most
+ * wildlife.jwt.cache-size tokens are kept; when full, expired entries are dropped first.
+ * <p>
+ * Once a change to a user's role or enabled flag commits, their tokens issued up to and including
+ * that second (iat has whole seconds) are rejected, cached or not, and they have to log in again for
+ * a token with the new claims; a login within the same second has to be repeated. The cut-off is kept until every token issued before it has expired
+ * (wildlife.jwt.expiration). It is held in memory, so it applies on the instance that made the change.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider tokenProvider;
+    private final int maxEntries;
+    private final Map<String, VerifiedToken> cache = new ConcurrentHashMap<>();
+    private final Duration tokenLifetime;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter revoked;
+
+    // User id -> tokens issued at or before this second are rejected
+    private final Map<Long, Instant> revokedBefore = new ConcurrentHashMap<>();
+
+    @Autowired
+    public VerifiedTokenCache(JwtTokenProvider tokenProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${wildlife.jwt.cache-size:10000}") int cacheSize,
+                              @Value("${wildlife.jwt.expiration:86400000}") long expirationMillis) {
+        this.tokenProvider = tokenProvider;
+        this.maxEntries = Math.max(0, cacheSize);
+        this.tokenLifetime = Duration.ofMillis(Math.max(0, expirationMillis));
+        this.hits = Counter.builder("wildlife.auth.token.cache")
+                .description("Bearer token lookups in the verified-token cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("wildlife.auth.token.cache")
+                .description("Bearer token lookups in the verified-token cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.revoked = Counter.builder("wildlife.auth.token.revoked")
+                .description("Bearer tokens rejected because they were issued before a role or enabled change")
+                .register(meterRegistry);
+        Gauge.builder("wildlife.auth.token.cache.size", cache, Map::size)
+                .description("Verified tokens currently cached")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The token's verified claims, from the cache or from {@link JwtTokenProvider#parseAndVerify(String)}.
+     *
+     * @throws JwtException when the token is malformed, expired, not signed with our key, or
+     *                       was issued before a change to the user's role or enabled flag
+     * @throws IllegalArgumentException when the token is empty or its subject is not a user id
+     */
+    public VerifiedToken verify(String token) {
+        Instant now = Instant.now();
+        VerifiedToken cached = cache.get(token);
+        if (cached != null) {
+            if (!cached.isExpiredAt(now)) {
+                // Also catches a token cached by a verification that raced with the revocation
+                if (isRevoked(cached)) {
+                    cache.remove(token, cached);
+                    throw revokedToken();
+                }
+                hits.increment();
+                return cached;
+            }
+            cache.remove(token, cached);
+        }
+        misses.increment();
+
+        VerifiedToken verified = tokenProvider.parseAndVerify(token);
+        if (isRevoked(verified)) {
+            throw revokedToken();
+        }
+        if (maxEntries > 0 && verified.getExpiresAt() != null && !verified.isExpiredAt(now)) {
+            makeRoom(now);
+            cache.put(token, verified);
+        }
+        return verified;
+    }
+
+    /**
+     * Reject the user's tokens issued up to now, and in the rest of this second, and drop them from the cache
+     */
+    public void revokeUser(Long userId) {
+        Instant now = Instant.now();
+        // iat has whole seconds: a token from earlier in this second has the same iat as one from later
+        revokedBefore.put(userId, now.truncatedTo(ChronoUnit.SECONDS));
+        revokedBefore.values().removeIf(cutOff -> cutOff.plus(tokenLifetime).isBefore(now));
+        cache.values().removeIf(token -> token.getUserId().equals(userId));
+    }
+
+    /**
+     * Revoke the user's tokens once a change to their role or enabled flag has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        User user = event.getUser();
+        boolean enabled = Boolean.TRUE.equals(user.getEnabled());
+        if (event.getType() == UserChangedEvent.Type.UPDATED
+                && (!Objects.equals(event.getRoleBefore(), user.getRole()) || event.isEnabledBefore() != enabled)) {
+            revokeUser(event.getUserId());
+        }
+    }
+
+    private boolean isRevoked(VerifiedToken token) {
+        Instant cutOff = revokedBefore.get(token.getUserId());
+        return cutOff != null && (token.getIssuedAt() == null || !token.getIssuedAt().isAfter(cutOff));
+    }
+
+    private JwtException revokedToken() {
+        revoked.increment();
+        return new JwtException("Token was issued before the user's role or access changed");
+    }
+
+    private void makeRoom(Instant now) {
+        if (cache.size() < maxEntries) {
+            return;
+        }
+        cache.values().removeIf(token -> token.isExpiredAt(now));
+        Iterator<VerifiedToken> it = cache.values().iterator();
+        while (cache.size() >= maxEntries && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.wildlife.stats.api;
+
+/**
+ * Published and draft article counts for one author
+ */
+public class AuthorStatsDto {
+
+    private Long authorId;
+    private String name;
+    private long published;
+    private long drafts;
+
+    // Constructors
+    public AuthorStatsDto() {}
+
+    public AuthorStatsDto(Long authorId, String name, long published, long drafts) {
+        this.authorId = authorId;
+        this.name = name;
+        this.published = published;
+        this.drafts = drafts;
+    }
+
+    // Getters and Setters
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public void setAuthorId(Long authorId) {
+        this.authorId = authorId;
+    }
+
+    /**
+     * Author's display name; null if the user no longer exists
+     */
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getPublished() {
+        return published;
+    }
+
+    public void setPublished(long published) {
+        this.published = published;
+    }
+
+    public long getDrafts() {
+        return drafts;
+    }
+
+    public void setDrafts(long drafts) {
+        this.drafts = drafts;
+    }
+
+    public long getTotal() {
+        return published + drafts;
+    }
+}
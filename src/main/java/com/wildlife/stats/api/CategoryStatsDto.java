@@ -0,0 +1,49 @@
+package com.wildlife.stats.api;
+
+/**
+ * Published and draft article counts for one category; a null category means uncategorized
+ */
+public class CategoryStatsDto {
+
+    private String category;
+    private long published;
+    private long drafts;
+
+    // Constructors
+    public CategoryStatsDto() {}
+
+    public CategoryStatsDto(String category, long published, long drafts) {
+        this.category = category;
+        this.published = published;
+        this.drafts = drafts;
+    }
+
+    // Getters and Setters
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public long getPublished() {
+        return published;
+    }
+
+    public void setPublished(long published) {
+        this.published = published;
+    }
+
+    public long getDrafts() {
+        return drafts;
+    }
+
+    public void setDrafts(long drafts) {
+        this.drafts = drafts;
+    }
+
+    public long getTotal() {
+        return published + drafts;
+    }
+}
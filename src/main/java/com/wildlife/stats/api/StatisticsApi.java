@@ -0,0 +1,49 @@
+package com.wildlife.stats.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+/**
+ * Statistics API Contract Interface
+ *
+ * Admin dashboard breakdowns served from in-memory counters that are kept current by article
+ * and user writes and periodically reconciled against the database.
+ *
+ * @author Wildlife Team
+ * @version 1.0.0
+ */
+@Tag(name = "Statistics", description = "Admin dashboard statistics")
+@RequestMapping("/api/statistics")
+public interface StatisticsApi {
+
+    @Operation(summary = "Get article counts per category",
+               description = "Published and draft articles per category, largest first (admin only)",
+               security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Category breakdown retrieved successfully"),
+        @ApiResponse(responseCode = "503", description = "Statistics are still being loaded")
+    })
+    @GetMapping("/categories")
+    ResponseEntity<List<CategoryStatsDto>> getCategoryStatistics();
+
+    @Operation(summary = "Get article counts per author",
+               description = "Published and draft articles of the authors with the most published articles (admin only)",
+               security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Author breakdown retrieved successfully"),
+        @ApiResponse(responseCode = "503", description = "Statistics are still being loaded")
+    })
+    @GetMapping("/authors")
+    ResponseEntity<List<AuthorStatsDto>> getAuthorStatistics(
+            @Parameter(description = "Maximum number of authors") @RequestParam(defaultValue = "20") int limit);
+}
@@ -0,0 +1,57 @@
+package com.wildlife.stats.api;
+
+import com.wildlife.stats.service.StatisticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Statistics Controller Implementation
+ *
+ * Implements the StatisticsApi interface contract. Breakdowns are read from the in-memory
+ * counters; only author names are loaded from the database.
+ *
+ * @author Wildlife Team
+ * @version 1.0.0
+ */
+@RestController
+public class StatisticsController implements StatisticsApi {
+
+    private static final int MAX_AUTHORS = 100;
+
+    private final StatisticsService statisticsService;
+
+    @Autowired
+    public StatisticsController(StatisticsService statisticsService) {
+        this.statisticsService = statisticsService;
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<CategoryStatsDto>> getCategoryStatistics() {
+        if (!statisticsService.isReady()) {
+            return notReady();
+        }
+        return ResponseEntity.ok(statisticsService.getCategoryBreakdown());
+    }
+
+    @Override
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<AuthorStatsDto>> getAuthorStatistics(int limit) {
+        if (!statisticsService.isReady()) {
+            return notReady();
+        }
+        return ResponseEntity.ok(statisticsService.getAuthorBreakdown(Math.min(Math.max(limit, 1), MAX_AUTHORS)));
+    }
+
+    private static <T> ResponseEntity<T> notReady() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
+    }
+}
@@ -0,0 +1,325 @@
+package com.wildlife.stats.service;
+
+import com.wildlife.article.core.ArticleChangedEvent;
+import com.wildlife.article.core.ArticleSnapshot;
+import com.wildlife.shared.datasource.ReadRouting;
+import com.wildlife.stats.api.AuthorStatsDto;
+import com.wildlife.stats.api.CategoryStatsDto;
+import com.wildlife.user.core.Role;
+import com.wildlife.user.core.User;
+import com.wildlife.user.core.UserChangedEvent;
+import com.wildlife.user.persistence.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Dashboard statistics for articles and users, kept as in-memory counters per dimension
+ * (published/draft per category and per author; users per role, approval and enabled flag).
+ * <p>
+ * Counters are moved from {@link ArticleChangedEvent}s and {@link UserChangedEvent}s after each
+ * write commits, and replaced by one GROUPING SETS query at startup and on a timer
+ * (wildlife.statistics.reconcile-interval-ms), which corrects any drift from concurrent writes
+ * or writes that bypass the services. Until the first reconcile succeeds {@link #isReady()} is
+ * false and callers should count from the database instead.
+ */
+@Service
+public class StatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StatisticsService.class);
+
+    // ConcurrentHashMap has no null keys; articles without a category are counted under this one
+    private static final String NO_CATEGORY = "";
+
+    private static final String COUNTS_SQL =
+            "SELECT CASE WHEN GROUPING(category) = 0 THEN 'category' ELSE 'author' END AS dimension, " +
+            "category AS name, author_id AS owner_id, published AS flag, COUNT(*) AS total " +
+            "FROM articles GROUP BY GROUPING SETS ((category, published), (author_id, published)) " +
+            "UNION ALL " +
+            "SELECT CASE WHEN GROUPING(role) = 0 THEN 'role' " +
+            "WHEN GROUPING(approved) = 0 THEN 'approved' ELSE 'enabled' END, " +
+            "role, NULL, CASE WHEN GROUPING(approved) = 0 THEN approved ELSE enabled END, COUNT(*) " +
+            "FROM users GROUP BY GROUPING SETS ((role), (approved), (enabled))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Null until the first reconcile
+    private volatile Counters counters;
+
+    @Autowired
+    public StatisticsService(JdbcTemplate jdbcTemplate,
+                             UserRepository userRepository,
+                             PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Whether the counters have been loaded; the getters return 0 until then
+     */
+    public boolean isReady() {
+        return counters != null;
+    }
+
+    public long getPublishedArticles() {
+        Counters current = counters;
+        return current == null ? 0 : Math.max(0, current.publishedArticles.get());
+    }
+
+    public long getDraftArticles() {
+        Counters current = counters;
+        return current == null ? 0 : Math.max(0, current.draftArticles.get());
+    }
+
+    public long getTotalUsers() {
+        Counters current = counters;
+        return current == null ? 0 : Math.max(0, current.users.get());
+    }
+
+    public long getApprovedUsers() {
+        Counters current = counters;
+        return current == null ? 0 : Math.max(0, current.approvedUsers.get());
+    }
+
+    public long getEnabledUsers() {
+        Counters current = counters;
+        return current == null ? 0 : Math.max(0, current.enabledUsers.get());
+    }
+
+    public long getUsersWithRole(Role role) {
+        Counters current = counters;
+        return current == null ? 0 : Math.max(0, current.usersByRole.get(role).get());
+    }
+
+    /**
+     * Published and draft articles per category, largest first; null category means uncategorized
+     */
+    public List<CategoryStatsDto> getCategoryBreakdown() {
+        Counters current = counters;
+        if (current == null) {
+            return List.of();
+        }
+        List<CategoryStatsDto> breakdown = new ArrayList<>();
+        current.byCategory.forEach((category, tally) -> {
+            if (!tally.isEmpty()) {
+                breakdown.add(new CategoryStatsDto(NO_CATEGORY.equals(category) ? null : category,
+                        tally.getPublished(), tally.getDrafts()));
+            }
+        });
+        breakdown.sort(Comparator.comparingLong(CategoryStatsDto::getTotal).reversed()
+                .thenComparing(CategoryStatsDto::getCategory, Comparator.nullsLast(Comparator.naturalOrder())));
+        return breakdown;
+    }
+
+    /**
+     * Published and draft articles of the limit authors with the most published articles.
+     * Author names are loaded in one query for the returned authors only.
+     */
+    public List<AuthorStatsDto> getAuthorBreakdown(int limit) {
+        Counters current = counters;
+        if (current == null || limit <= 0) {
+            return List.of();
+        }
+        List<AuthorStatsDto> breakdown = new ArrayList<>();
+        current.byAuthor.forEach((authorId, tally) -> {
+            if (!tally.isEmpty()) {
+                breakdown.add(new AuthorStatsDto(authorId, null, tally.getPublished(), tally.getDrafts()));
+            }
+        });
+        breakdown.sort(Comparator.comparingLong(AuthorStatsDto::getPublished)
+                .thenComparingLong(AuthorStatsDto::getDrafts)
+                .reversed()
+                .thenComparing(AuthorStatsDto::getAuthorId));
+        List<AuthorStatsDto> top = new ArrayList<>(breakdown.subList(0, Math.min(limit, breakdown.size())));
+
+        Map<Long, String> names = new HashMap<>();
+        for (User user : userRepository.findAllById(top.stream().map(AuthorStatsDto::getAuthorId).toList())) {
+            names.put(user.getId(), user.getName());
+        }
+        top.forEach(author -> author.setName(names.get(author.getAuthorId())));
+        return top;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    /**
+     * Replace the counters with exact ones from a single grouped query
+     */
+    @Scheduled(fixedDelayString = "${wildlife.statistics.reconcile-interval-ms:300000}",
+               initialDelayString = "${wildlife.statistics.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            Counters exact = new Counters();
+            ReadRouting.runOnPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(COUNTS_SQL, row -> {
+                String dimension = row.getString("dimension");
+                String name = row.getString("name");
+                long ownerId = row.getLong("owner_id");
+                boolean ownerKnown = !row.wasNull();
+                boolean flag = row.getBoolean("flag");
+                boolean flagKnown = !row.wasNull();
+                long total = row.getLong("total");
+
+                switch (dimension) {
+                    case "category" -> exact.countArticles(name, null, flag, total);
+                    case "author" -> {
+                        if (ownerKnown) {
+                            exact.byAuthor.computeIfAbsent(ownerId, key -> new Tally()).add(flag, total);
+                        }
+                    }
+                    case "role" -> {
+                        if (name != null) {
+                            exact.usersByRole.get(Role.fromString(name)).addAndGet(total);
+                        }
+                    }
+                    case "approved" -> {
+                        if (flagKnown && flag) {
+                            exact.approvedUsers.addAndGet(total);
+                        }
+                    }
+                    // Every user is in exactly one enabled group, so these rows also give the total
+                    case "enabled" -> {
+                        exact.users.addAndGet(total);
+                        if (flagKnown && flag) {
+                            exact.enabledUsers.addAndGet(total);
+                        }
+                    }
+                    default -> logger.debug("Ignoring statistics dimension {}", dimension);
+                }
+            })));
+            Counters previous = counters;
+            if (logger.isDebugEnabled() && previous != null) {
+                logger.debug("Reconciled statistics: articles cached {}/{}, exact {}/{}; users cached {}, exact {}",
+                        previous.publishedArticles.get(), previous.draftArticles.get(),
+                        exact.publishedArticles.get(), exact.draftArticles.get(),
+                        previous.users.get(), exact.users.get());
+            }
+            counters = exact;
+        } catch (RuntimeException e) {
+            // Keep the incrementally maintained counters; the next tick retries
+            logger.warn("Failed to reconcile statistics: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Move the article between buckets once the change has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onArticleChanged(ArticleChangedEvent event) {
+        Counters current = counters;
+        if (current == null) {
+            return;
+        }
+        ArticleSnapshot article = event.getArticle();
+        if (event.getType() != ArticleChangedEvent.Type.CREATED) {
+            current.countArticles(event.getCategoryBefore(), article.getAuthorId(), event.isPublishedBefore(), -1);
+        }
+        if (event.getType() != ArticleChangedEvent.Type.DELETED) {
+            current.countArticles(article.getCategory(), article.getAuthorId(), article.isPublished(), 1);
+        }
+    }
+
+    /**
+     * Move the user between buckets once the change has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        Counters current = counters;
+        if (current == null) {
+            return;
+        }
+        User user = event.getUser();
+        if (event.getType() == UserChangedEvent.Type.UPDATED) {
+            current.countUser(event.getRoleBefore(), event.isApprovedBefore(), event.isEnabledBefore(), -1);
+        }
+        current.countUser(user.getRole(), Boolean.TRUE.equals(user.getApproved()),
+                Boolean.TRUE.equals(user.getEnabled()), 1);
+    }
+
+    private static final class Counters {
+        private final Map<String, Tally> byCategory = new ConcurrentHashMap<>();
+        private final Map<Long, Tally> byAuthor = new ConcurrentHashMap<>();
+        private final AtomicLong publishedArticles = new AtomicLong();
+        private final AtomicLong draftArticles = new AtomicLong();
+        // Every role is present up front, so the map itself is never modified
+        private final Map<Role, AtomicLong> usersByRole = new EnumMap<>(Role.class);
+        private final AtomicLong users = new AtomicLong();
+        private final AtomicLong approvedUsers = new AtomicLong();
+        private final AtomicLong enabledUsers = new AtomicLong();
+
+        private Counters() {
+            for (Role role : Role.values()) {
+                usersByRole.put(role, new AtomicLong());
+            }
+        }
+
+        /**
+         * Count delta articles in a category, and for an author when one is given
+         */
+        private void countArticles(String category, Long authorId, boolean published, long delta) {
+            byCategory.computeIfAbsent(category == null ? NO_CATEGORY : category, key -> new Tally())
+                    .add(published, delta);
+            if (authorId != null) {
+                byAuthor.computeIfAbsent(authorId, key -> new Tally()).add(published, delta);
+            }
+            (published ? publishedArticles : draftArticles).addAndGet(delta);
+        }
+
+        private void countUser(Role role, boolean approved, boolean enabled, long delta) {
+            users.addAndGet(delta);
+            if (role != null) {
+                usersByRole.get(role).addAndGet(delta);
+            }
+            if (approved) {
+                approvedUsers.addAndGet(delta);
+            }
+            if (enabled) {
+                enabledUsers.addAndGet(delta);
+            }
+        }
+    }
+
+    private static final class Tally {
+        private final AtomicLong published = new AtomicLong();
+        private final AtomicLong drafts = new AtomicLong();
+
+        private void add(boolean isPublished, long delta) {
+            (isPublished ? published : drafts).addAndGet(delta);
+        }
+
+        private long getPublished() {
+            return Math.max(0, published.get());
+        }
+
+        private long getDrafts() {
+            return Math.max(0, drafts.get());
+        }
+
+        private boolean isEmpty() {
+            return getPublished() == 0 && getDrafts() == 0;
+        }
+    }
+}
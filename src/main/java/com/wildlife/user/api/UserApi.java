@@ -11,6 +11,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -63,7 +64,8 @@ public interface UserApi {
     // ==================== ADMIN USER MANAGEMENT ====================
 
     @Operation(summary = "Get all users", 
-               description = "Retrieve all users with pagination (admin only)",
+               description = "Retrieve all users with pagination (admin only). " +
+                             "With withTotal=false no count query runs and totals are omitted.",
                security = @SecurityRequirement(name = "bearerAuth"))
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Users retrieved successfully"),
@@ -71,16 +73,21 @@ public interface UserApi {
         @ApiResponse(responseCode = "403", description = "Admin access required")
     })
     @GetMapping
-    ResponseEntity<Page<UserDto>> getAllUsers(Pageable pageable);
+    ResponseEntity<Slice<UserDto>> getAllUsers(
+            Pageable pageable,
+            @Parameter(description = "Whether to count all matching users (false reports only whether a next page exists)")
+            @RequestParam(defaultValue = "true") boolean withTotal);
 
     @Operation(summary = "Search users", 
                description = "Search users by name or email (admin only)",
                security = @SecurityRequirement(name = "bearerAuth"))
     @GetMapping("/search")
-    ResponseEntity<Page<UserDto>> searchUsers(
+    ResponseEntity<Slice<UserDto>> searchUsers(
             @Parameter(description = "Search term for name or email", required = true)
             @RequestParam String q,
-            Pageable pageable);
+            Pageable pageable,
+            @Parameter(description = "Whether to count all matching users (false reports only whether a next page exists)")
+            @RequestParam(defaultValue = "true") boolean withTotal);
 
     @Operation(summary = "Get user by ID", 
                description = "Retrieve a specific user by ID (admin only)",
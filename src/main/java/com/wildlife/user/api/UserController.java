@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -49,15 +50,15 @@ public class UserController implements UserApi {
 
     @Override
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<UserDto>> getAllUsers(@PageableDefault(size = 20) Pageable pageable) {
-        Page<UserDto> users = userService.findAll(pageable);
+    public ResponseEntity<Slice<UserDto>> getAllUsers(@PageableDefault(size = 20) Pageable pageable, boolean withTotal) {
+        Slice<UserDto> users = withTotal ? userService.findAll(pageable) : userService.findAllSlice(pageable);
         return ResponseEntity.ok(users);
     }
 
     @Override
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<UserDto>> searchUsers(String q, Pageable pageable) {
-        Page<UserDto> users = userService.searchUsers(q, pageable);
+    public ResponseEntity<Slice<UserDto>> searchUsers(String q, Pageable pageable, boolean withTotal) {
+        Slice<UserDto> users = withTotal ? userService.searchUsers(q, pageable) : userService.searchUsersSlice(q, pageable);
         return ResponseEntity.ok(users);
     }
 
@@ -1,11 +1,14 @@
 package com.wildlife.user.core;
 
 import com.wildlife.article.core.Article;
+import com.wildlife.shared.config.EntityCacheConfig;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -18,8 +21,10 @@ import java.util.Objects;
 /**
  * User entity representing system users with role-based access control.
  * Uses local JWT authentication and authorization.
+ * Kept in the second-level cache (see EntityCacheConfig), so loading the current user is a cache hit.
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = EntityCacheConfig.USERS)
 @Table(name = "users", indexes = {
     @Index(name = "idx_user_email", columnList = "email"),
     @Index(name = "idx_user_role", columnList = "role"),
@@ -28,8 +33,10 @@ import java.util.Objects;
 @EntityListeners(AuditingEntityListener.class)
 public class User {
 
+    // Pooled sequence (scripts/database/09_id_sequences.sql): one nextval per 50 ids, so inserts can be batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_id_seq")
+    @SequenceGenerator(name = "user_id_seq", sequenceName = "user_id_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Email is required")
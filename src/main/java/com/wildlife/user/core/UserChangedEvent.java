@@ -0,0 +1,84 @@
+package com.wildlife.user.core;
+
+/**
+ * Application event published by the user and auth services whenever a user's role, approval or
+ * enabled flag is written. Carries the values from before the change so that listeners
+ * maintaining counters can move the user between buckets; consume it after the transaction commits.
+ */
+public class UserChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED
+    }
+
+    private final Type type;
+    private final User user;
+    private final Role roleBefore;
+    private final boolean approvedBefore;
+    private final boolean enabledBefore;
+
+    private UserChangedEvent(Type type, User user, Role roleBefore, boolean approvedBefore, boolean enabledBefore) {
+        this.type = type;
+        this.user = user;
+        this.roleBefore = roleBefore;
+        this.approvedBefore = approvedBefore;
+        this.enabledBefore = enabledBefore;
+    }
+
+    public static UserChangedEvent created(User user) {
+        return new UserChangedEvent(Type.CREATED, user, null, false, false);
+    }
+
+    /**
+     * An update that did not change the role, approval or enabled flag (e.g. a profile edit)
+     */
+    public static UserChangedEvent updated(User user) {
+        return updated(user, user.getRole(), Boolean.TRUE.equals(user.getApproved()),
+                Boolean.TRUE.equals(user.getEnabled()));
+    }
+
+    public static UserChangedEvent updated(User user, Role roleBefore, boolean approvedBefore, boolean enabledBefore) {
+        return new UserChangedEvent(Type.UPDATED, user, roleBefore, approvedBefore, enabledBefore);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * The user as written
+     */
+    public User getUser() {
+        return user;
+    }
+
+    public Long getUserId() {
+        return user.getId();
+    }
+
+    /**
+     * Role before this change; null for creations
+     */
+    public Role getRoleBefore() {
+        return roleBefore;
+    }
+
+    public boolean isApprovedBefore() {
+        return approvedBefore;
+    }
+
+    public boolean isEnabledBefore() {
+        return enabledBefore;
+    }
+
+    @Override
+    public String toString() {
+        return "UserChangedEvent{" +
+                "type=" + type +
+                ", userId=" + user.getId() +
+                ", roleBefore=" + roleBefore +
+                ", role=" + user.getRole() +
+                '}';
+    }
+}
@@ -2,6 +2,7 @@ package com.wildlife.user.persistence;
 
 import com.wildlife.user.api.UserDto;
 import com.wildlife.user.core.User;
+import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -23,6 +24,16 @@ public interface UserMapper {
     @Mapping(target = "articleCount", expression = "java(user.getArticles() != null ? (long) user.getArticles().size() : 0L)")
     UserDto toDto(User user);
 
+    /**
+     * Public author details shown with articles: id, name and role only.
+     * Unlike toDto, this does not touch the lazy articles collection.
+     */
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "name", source = "name")
+    @Mapping(target = "role", source = "role")
+    UserDto toAuthorDto(User user);
+
     /**
      * Convert UserDto to User entity
      */
@@ -4,6 +4,7 @@ import com.wildlife.user.core.User;
 import com.wildlife.user.core.Role;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -36,6 +37,11 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
      */
     boolean existsByRole(Role role);
 
+    /**
+     * All users, without a count query (reads one row past the page)
+     */
+    Slice<User> findSliceBy(Pageable pageable);
+
     /**
      * Find all users by role
      */
@@ -89,6 +95,14 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
            "LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
     Page<User> searchByNameOrEmail(@Param("searchTerm") String searchTerm, Pageable pageable);
 
+    /**
+     * Search users by name or email, without a count query (reads one row past the page)
+     */
+    @Query("SELECT u FROM User u WHERE " +
+           "LOWER(u.name) LIKE LOWER(CONCAT('%', :searchTerm, '%')) OR " +
+           "LOWER(u.email) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
+    Slice<User> searchSliceByNameOrEmail(@Param("searchTerm") String searchTerm, Pageable pageable);
+
     /**
      * Count users by role
      */
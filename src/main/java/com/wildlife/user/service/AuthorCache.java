@@ -0,0 +1,98 @@
+package com.wildlife.user.service;
+
+import com.wildlife.user.api.UserDto;
+import com.wildlife.user.core.User;
+import com.wildlife.user.core.UserChangedEvent;
+import com.wildlife.user.persistence.UserMapper;
+import com.wildlife.user.persistence.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Public author details (id, name, role) for article responses, batched and cached.
+ * A lookup for many ids serves what it can from a bounded LRU cache and loads the rest with one
+ * findAllById, so hydrating a page of articles costs at most one user query.
+ * Entries are evicted when a {@link UserChangedEvent} for the user commits.
+ */
+@Component
+public class AuthorCache {
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final Map<Long, UserDto> cache;
+
+    // Bumped on every eviction, so a load that raced with a user change does not cache the old row
+    private long generation;
+
+    @Autowired
+    public AuthorCache(UserRepository userRepository,
+                       UserMapper userMapper,
+                       @Value("${wildlife.authors.cache-size:1000}") int cacheSize) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        int maxEntries = Math.max(1, cacheSize);
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, UserDto> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Author details by user id; ids without a user are absent from the result
+     */
+    public Map<Long, UserDto> getAuthors(Collection<Long> ids) {
+        Map<Long, UserDto> authors = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        long loadGeneration;
+        synchronized (this) {
+            for (Long id : new LinkedHashSet<>(ids)) {
+                if (id == null) {
+                    continue;
+                }
+                UserDto author = cache.get(id);
+                if (author != null) {
+                    authors.put(id, author);
+                } else {
+                    missing.add(id);
+                }
+            }
+            loadGeneration = generation;
+        }
+        if (missing.isEmpty()) {
+            return authors;
+        }
+
+        Map<Long, UserDto> loaded = new HashMap<>();
+        for (User user : userRepository.findAllById(missing)) {
+            loaded.put(user.getId(), userMapper.toAuthorDto(user));
+        }
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                cache.putAll(loaded);
+            }
+        }
+        authors.putAll(loaded);
+        return authors;
+    }
+
+    /**
+     * Drop the user's cached details once a change to them has committed
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onUserChanged(UserChangedEvent event) {
+        cache.remove(event.getUserId());
+        generation++;
+    }
+}
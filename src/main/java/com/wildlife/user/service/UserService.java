@@ -3,16 +3,20 @@ package com.wildlife.user.service;
 import com.wildlife.user.api.UserDto;
 import com.wildlife.user.core.User;
 import com.wildlife.user.core.Role;
+import com.wildlife.user.core.UserChangedEvent;
 import com.wildlife.shared.exception.ResourceNotFoundException;
 import com.wildlife.shared.exception.UserAlreadyExistsException;
 import com.wildlife.user.persistence.UserMapper;
 import com.wildlife.user.persistence.UserRepository;
 import com.wildlife.shared.security.SecurityUtils;
+import com.wildlife.stats.service.StatisticsService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,11 +36,18 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final StatisticsService statisticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public UserService(UserRepository userRepository, UserMapper userMapper) {
+    public UserService(UserRepository userRepository,
+                       UserMapper userMapper,
+                       StatisticsService statisticsService,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
+        this.statisticsService = statisticsService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -83,6 +94,15 @@ public class UserService {
                 .map(userMapper::toDto);
     }
 
+    /**
+     * Get all users without a total count
+     */
+    @Transactional(readOnly = true)
+    public Slice<UserDto> findAllSlice(Pageable pageable) {
+        return userRepository.findSliceBy(pageable)
+                .map(userMapper::toDto);
+    }
+
     /**
      * Search users by name or email
      */
@@ -92,6 +112,15 @@ public class UserService {
                 .map(userMapper::toDto);
     }
 
+    /**
+     * Search users by name or email without a total count
+     */
+    @Transactional(readOnly = true)
+    public Slice<UserDto> searchUsersSlice(String searchTerm, Pageable pageable) {
+        return userRepository.searchSliceByNameOrEmail(searchTerm, pageable)
+                .map(userMapper::toDto);
+    }
+
     /**
      * Find users by role
      */
@@ -134,6 +163,7 @@ public class UserService {
         }
 
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(savedUser));
         logger.info("Updated profile for user ID: {}", savedUser.getId());
         
         return userMapper.toDto(savedUser);
@@ -146,8 +176,11 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
         
+        boolean wasApproved = Boolean.TRUE.equals(user.getApproved());
         user.setApproved(true);
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(
+                savedUser, savedUser.getRole(), wasApproved, Boolean.TRUE.equals(savedUser.getEnabled())));
         
         logger.info("User approved: {} (ID: {})", savedUser.getEmail(), savedUser.getId());
         return userMapper.toDto(savedUser);
@@ -160,8 +193,11 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
         
+        boolean wasEnabled = Boolean.TRUE.equals(user.getEnabled());
         user.setEnabled(false);
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(
+                savedUser, savedUser.getRole(), Boolean.TRUE.equals(savedUser.getApproved()), wasEnabled));
         
         logger.info("User disabled: {} (ID: {})", savedUser.getEmail(), savedUser.getId());
         return userMapper.toDto(savedUser);
@@ -174,8 +210,11 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
         
+        boolean wasEnabled = Boolean.TRUE.equals(user.getEnabled());
         user.setEnabled(true);
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(
+                savedUser, savedUser.getRole(), Boolean.TRUE.equals(savedUser.getApproved()), wasEnabled));
         
         logger.info("User enabled: {} (ID: {})", savedUser.getEmail(), savedUser.getId());
         return userMapper.toDto(savedUser);
@@ -191,6 +230,8 @@ public class UserService {
         Role oldRole = user.getRole();
         user.setRole(newRole);
         User savedUser = userRepository.save(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(savedUser, oldRole,
+                Boolean.TRUE.equals(savedUser.getApproved()), Boolean.TRUE.equals(savedUser.getEnabled())));
         
         logger.info("User role changed from {} to {}: {} (ID: {})", 
                    oldRole, newRole, savedUser.getEmail(), savedUser.getId());
@@ -198,11 +239,22 @@ public class UserService {
     }
 
     /**
-     * Get user statistics
+     * Get user statistics, from the in-memory counters once they are loaded
      */
     @Transactional(readOnly = true)
     public UserStatsDto getUserStatistics() {
         UserStatsDto stats = new UserStatsDto();
+        if (statisticsService.isReady()) {
+            long total = statisticsService.getTotalUsers();
+            long approved = statisticsService.getApprovedUsers();
+            stats.setTotalUsers(total);
+            stats.setApprovedUsers(approved);
+            stats.setPendingApprovalUsers(Math.max(0, total - approved));
+            stats.setEnabledUsers(statisticsService.getEnabledUsers());
+            stats.setAdminUsers(statisticsService.getUsersWithRole(Role.ADMIN));
+            stats.setContributorUsers(statisticsService.getUsersWithRole(Role.CONTRIBUTOR));
+            return stats;
+        }
         stats.setTotalUsers(userRepository.count());
         stats.setApprovedUsers(userRepository.countByApprovedTrue());
         stats.setPendingApprovalUsers(userRepository.countByApprovedFalse());
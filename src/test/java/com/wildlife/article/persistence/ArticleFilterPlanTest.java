@@ -0,0 +1,286 @@
+package com.wildlife.article.persistence;
+
+import com.wildlife.article.core.Article;
+import com.wildlife.article.tag.TagMatch;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query plans of the filtered public feed (GET /api/articles) on PostgreSQL, with the schema and
+ * indexes from scripts/database. The SQL is the one ArticleListRepositoryImpl generates, captured
+ * by a StatementInspector, and is explained as a generic plan (plan_cache_mode =
+ * force_generic_plan), the plan the driver and server settle on once a statement has run a few
+ * times. Each filter combination must be served by its partial feed index in publish_date order,
+ * without a Seq Scan or a Sort.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+@ActiveProfiles("test")
+class ArticleFilterPlanTest {
+
+    private static final Path SCRIPTS = Path.of("scripts", "database");
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20);
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static boolean seeded;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", postgres::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        // The schema comes from the scripts, as in production
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+    }
+
+    @BeforeAll
+    static void createSchema() throws Exception {
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            // The driver splits each script itself and honours $$ function bodies
+            for (String script : new String[]{"01_initial_schema.sql", "02_keyset_pagination_indexes.sql",
+                    "03_full_text_search.sql", "04_article_filter_indexes.sql", "05_article_cover_image.sql",
+                    "06_article_media_jsonb.sql", "07_article_tags.sql", "08_article_trending_scores.sql",
+                    "09_id_sequences.sql", "10_article_version.sql", "11_article_content.sql"}) {
+                statement.execute(Files.readString(SCRIPTS.resolve(script)));
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureInstaller(SqlCapture sqlCapture) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlCapture);
+        }
+    }
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        // 40k articles: 90% published, 5% featured, eight categories, one a minute; two tags each
+        jdbcTemplate.execute(
+                "INSERT INTO articles (title, excerpt, published, featured, category, views, " +
+                "publish_date, created_at, updated_at) " +
+                "SELECT 'Article ' || g, 'Excerpt of article number ' || g, g % 10 <> 3, g % 20 = 0, " +
+                "(ARRAY['Mammals', 'Birds', 'Reptiles', 'Marine', 'Insects', 'Plants', 'Amphibians', 'Fish'])" +
+                "[1 + g % 8], g % 1000, " +
+                "now() - g * interval '1 minute', now() - g * interval '1 minute', now() " +
+                "FROM generate_series(1, 40000) g");
+        jdbcTemplate.execute(
+                "INSERT INTO article_tags (article_id, tag) " +
+                "SELECT id, (ARRAY['elephant', 'heron', 'python', 'coral', 'beetle', 'orchid'])[1 + id % 6] " +
+                "FROM articles " +
+                "UNION ALL SELECT id, 'habitat-' || id % 40 FROM articles");
+        jdbcTemplate.execute("VACUUM ANALYZE articles");
+        jdbcTemplate.execute("VACUUM ANALYZE article_tags");
+        seeded = true;
+    }
+
+    @Test
+    void unfilteredFeedUsesFeedIndex() throws SQLException {
+        String sql = single(sqlCapture.capture(() -> articleRepository.findListSlice(
+                Specification.where(ArticleSpecifications.isPublished()), FIRST_PAGE)));
+
+        assertFeedIndexScan(explainGeneric(sql), "idx_article_feed");
+    }
+
+    @Test
+    void categoryFeedUsesCategoryIndex() throws SQLException {
+        String sql = single(sqlCapture.capture(() -> articleRepository.findListSlice(
+                published().and(ArticleSpecifications.hasCategory("Birds")), FIRST_PAGE)));
+
+        assertFeedIndexScan(explainGeneric(sql), "idx_article_category_feed");
+    }
+
+    @Test
+    void categoryKeysetPageUsesCategoryIndex() throws SQLException {
+        String sql = single(sqlCapture.capture(() -> articleRepository.findList(
+                published().and(ArticleSpecifications.hasCategory("Birds"))
+                        .and(ArticleSpecifications.publishedBefore(LocalDateTime.now().minusDays(10), 1_000_000L)),
+                21)));
+
+        assertFeedIndexScan(explainGeneric(sql), "idx_article_category_feed");
+    }
+
+    @Test
+    void featuredFeedUsesFeaturedIndex() throws SQLException {
+        String sql = single(sqlCapture.capture(() -> articleRepository.findListSlice(
+                published().and(ArticleSpecifications.isFeatured(true)), FIRST_PAGE)));
+
+        assertFeedIndexScan(explainGeneric(sql), "idx_article_featured_feed");
+    }
+
+    @Test
+    void categoryAndFeaturedFeedUsesCategoryFeaturedIndex() throws SQLException {
+        // The index is partial on featured = TRUE: the generic plan may only use it for a literal
+        String sql = single(sqlCapture.capture(() -> articleRepository.findListSlice(
+                published().and(ArticleSpecifications.hasCategory("Mammals"))
+                        .and(ArticleSpecifications.isFeatured(true)), FIRST_PAGE)));
+
+        assertFeedIndexScan(explainGeneric(sql), "idx_article_category_featured_feed");
+    }
+
+    @Test
+    void categoryCountReadsOnlyTheCategoryIndex() throws SQLException {
+        // A full second page needs the total, so the count query runs too
+        List<String> statements = sqlCapture.capture(() -> articleRepository.findListPage(
+                published().and(ArticleSpecifications.hasCategory("Birds")), PageRequest.of(1, 20)));
+        String count = statements.stream()
+                .filter(sql -> sql.startsWith("select count"))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(explainGeneric(count)).contains("idx_article_category_feed").doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void textFilterScansTheFeedIndex() throws SQLException {
+        String sql = single(sqlCapture.capture(() -> articleRepository.findListSlice(
+                published().and(ArticleSpecifications.matchesText("number 12")), FIRST_PAGE)));
+
+        assertFeedIndexScan(explainGeneric(sql), "idx_article_feed");
+    }
+
+    @Test
+    void tagFilterScansTheFeedIndex() throws SQLException {
+        String sql = single(sqlCapture.capture(() -> articleRepository.findListSlice(
+                published().and(ArticleSpecifications.hasTags(List.of("heron", "habitat-7"), TagMatch.ALL)),
+                FIRST_PAGE)));
+
+        // The correlated tag count is a SubPlan per feed row, looked up by index
+        assertThat(explainGeneric(sql))
+                .contains("Index Scan using idx_article_feed")
+                .doesNotContain("Seq Scan");
+    }
+
+    private static Specification<Article> published() {
+        return Specification.where(ArticleSpecifications.isPublished());
+    }
+
+    private static String single(List<String> statements) {
+        assertThat(statements).hasSize(1);
+        return statements.get(0);
+    }
+
+    private static void assertFeedIndexScan(String plan, String index) {
+        assertThat(plan)
+                .contains("Index Scan using " + index)
+                .doesNotContain("Seq Scan")
+                .doesNotContain("Sort");
+    }
+
+    /**
+     * EXPLAIN the statement as a prepared statement's generic plan, as used once the driver and
+     * server have switched to one; the parameter values do not matter to it
+     */
+    private static String explainGeneric(String sql) throws SQLException {
+        StringBuilder numbered = new StringBuilder();
+        int parameters = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameters);
+            } else {
+                numbered.append(c);
+            }
+        }
+        String arguments = parameters == 0 ? "" : "(" + String.join(", ", Collections.nCopies(parameters, "NULL")) + ")";
+
+        try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+            statement.execute("SET plan_cache_mode = force_generic_plan");
+            statement.execute("PREPARE feed AS " + numbered);
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet rows = statement.executeQuery("EXPLAIN EXECUTE feed" + arguments)) {
+                while (rows.next()) {
+                    plan.append(rows.getString(1)).append('\n');
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+    }
+
+    /**
+     * Records the SQL Hibernate prepares on the capturing thread
+     */
+    static class SqlCapture implements StatementInspector {
+
+        private final ThreadLocal<List<String>> captured = new ThreadLocal<>();
+
+        @Override
+        public String inspect(String sql) {
+            List<String> statements = captured.get();
+            if (statements != null) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+
+        List<String> capture(Runnable work) {
+            List<String> statements = new ArrayList<>();
+            captured.set(statements);
+            try {
+                work.run();
+            } finally {
+                captured.remove();
+            }
+            return statements;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.wildlife.article.service;
+
+import com.wildlife.article.api.ArticleBatchItem;
+import com.wildlife.article.core.Article;
+import com.wildlife.article.persistence.ArticleRepository;
+import com.wildlife.user.core.User;
+import com.wildlife.user.persistence.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query count of a full batch of articles with their authors: the articles (tags fetch-joined)
+ * and the distinct authors are one query each, however many articles share an author.
+ * Counted with Hibernate's statistics; the bodies are read from article_content by
+ * ArticleContentStore in one more JDBC query, outside Hibernate.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ArticleBatchQueryCountTest {
+
+    private static final int AUTHORS = 25;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void hundredArticlesWithAuthorsCostAtMostTwoQueries() {
+        List<User> authors = userRepository.saveAll(IntStream.rangeClosed(1, AUTHORS)
+                .mapToObj(i -> new User("author" + i + "@example.org", "Author " + i, "not-a-real-hash"))
+                .toList());
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < ArticleService.MAX_BATCH_IDS; i++) {
+            Article article = new Article("Article " + i, "Excerpt of article " + i,
+                    authors.get(i % AUTHORS).getId());
+            article.setPublished(true);
+            article.setPublishDate(LocalDateTime.now().minusMinutes(i));
+            article.setCategory("Mammals");
+            article.setTags(List.of("elephant", "herd-" + i % 5));
+            articles.add(article);
+        }
+        List<Long> ids = articleRepository.saveAll(articles).stream().map(Article::getId).toList();
+
+        // Start cold: nothing from the inserts may be served from the second-level cache
+        entityManagerFactory.getCache().evictAll();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<ArticleBatchItem> items = articleService.getArticlesByIds(ids, false);
+
+        assertThat(items).hasSize(ArticleService.MAX_BATCH_IDS).allSatisfy(item -> {
+            assertThat(item.getArticle()).isNotNull();
+            assertThat(item.getArticle().getAuthor()).isNotNull();
+        });
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+}
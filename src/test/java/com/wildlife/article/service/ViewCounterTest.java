@@ -0,0 +1,169 @@
+package com.wildlife.article.service;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Concurrency stress test of the write-behind view counter: views recorded from many threads while
+ * flushes run (and sometimes fail) concurrently must all reach the database exactly once.
+ */
+class ViewCounterTest {
+
+    private static final int THREADS = 16;
+    private static final int VIEWS_PER_THREAD = 50_000;
+    private static final int ARTICLES = 8;
+
+    // articles.views as written by the flushed UPDATEs
+    private final Map<Long, LongAdder> database = new ConcurrentHashMap<>();
+    private final AtomicInteger batches = new AtomicInteger();
+    private final AtomicBoolean failEveryThirdBatch = new AtomicBoolean();
+    // Pending views of each written article, as seen while its UPDATE runs
+    private final Map<Long, Long> pendingWhileWriting = new ConcurrentHashMap<>();
+
+    private ViewCounter viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            // A failed batch is rolled back: nothing of it is applied
+            if (failEveryThirdBatch.get() && batches.incrementAndGet() % 3 == 0) {
+                throw new DataAccessResourceFailureException("connection lost");
+            }
+            List<Object[]> rows = invocation.getArgument(1);
+            for (Object[] row : rows) {
+                pendingWhileWriting.put((Long) row[1], viewCounter.getPending((Long) row[1]));
+                database.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]);
+            }
+            return new int[rows.size()];
+        });
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        when(entityManagerFactory.getCache()).thenReturn(mock(Cache.class));
+
+        viewCounter = new ViewCounter(jdbcTemplate, transactionManager, entityManagerFactory);
+    }
+
+    @Test
+    void noViewIsLostOrCountedTwiceWhileFlushing() throws Exception {
+        failEveryThirdBatch.set(true);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean counting = new AtomicBoolean(true);
+        try {
+            Future<?> flusher = pool.submit(() -> {
+                start.await();
+                while (counting.get()) {
+                    viewCounter.flush();
+                    Thread.sleep(1);
+                }
+                return null;
+            });
+            List<Future<?>> readers = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                readers.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                        viewCounter.increment((long) ((thread + i) % ARTICLES) + 1);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> reader : readers) {
+                reader.get(60, TimeUnit.SECONDS);
+            }
+            counting.set(false);
+            flusher.get(60, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        failEveryThirdBatch.set(false);
+        viewCounter.flush();
+
+        long total = 0;
+        for (long id = 1; id <= ARTICLES; id++) {
+            assertThat(viewCounter.getPending(id)).isZero();
+            total += database.get(id).sum();
+        }
+        assertThat(total).isEqualTo((long) THREADS * VIEWS_PER_THREAD);
+        // Each article gets the same share of every thread's views
+        for (long id = 1; id <= ARTICLES; id++) {
+            assertThat(database.get(id).sum()).isEqualTo((long) THREADS * VIEWS_PER_THREAD / ARTICLES);
+        }
+    }
+
+    @Test
+    void pendingViewsIncludeEveryIncrementUntilFlushed() {
+        for (int i = 0; i < 5; i++) {
+            viewCounter.increment(42L);
+        }
+
+        assertThat(viewCounter.increment(42L)).isEqualTo(6);
+        assertThat(viewCounter.getPending(42L)).isEqualTo(6);
+
+        viewCounter.flush();
+
+        assertThat(viewCounter.getPending(42L)).isZero();
+        assertThat(database.get(42L).sum()).isEqualTo(6);
+    }
+
+    @Test
+    void viewsStayPendingUntilTheirUpdateHasCommitted() {
+        for (int i = 0; i < 3; i++) {
+            viewCounter.increment(7L);
+        }
+
+        viewCounter.flush();
+
+        // Readers add pending views to the stored count, so they must not vanish mid-flush
+        assertThat(pendingWhileWriting).containsEntry(7L, 3L);
+        assertThat(viewCounter.getPending(7L)).isZero();
+    }
+
+    @Test
+    void failedFlushKeepsViewsPendingForTheNextOne() {
+        failEveryThirdBatch.set(true);
+        for (int batch = 1; batch <= 3; batch++) {
+            viewCounter.increment(9L);
+            viewCounter.flush(); // the third batch fails
+        }
+
+        assertThat(viewCounter.getPending(9L)).isEqualTo(1);
+        assertThat(database.get(9L).sum()).isEqualTo(2);
+
+        viewCounter.flush();
+
+        assertThat(viewCounter.getPending(9L)).isZero();
+        assertThat(database.get(9L).sum()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,87 @@
+package com.wildlife.auth.service;
+
+import com.wildlife.user.core.User;
+import com.wildlife.user.persistence.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Connections held by a login or registration request while its password is hashed: none. Each
+ * request goes through MockMvc, so a session kept open for the whole request would show up here.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PasswordHashingConnectionTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @SpyBean
+    private PasswordEncoder passwordEncoder;
+
+    // Active pool connections seen from the hashing thread; -1 until a hash runs
+    private final AtomicInteger activeWhileHashing = new AtomicInteger(-1);
+
+    @BeforeEach
+    void recordActiveConnectionsWhileHashing() {
+        doAnswer(invocation -> {
+            activeWhileHashing.set(dataSource.getHikariPoolMXBean().getActiveConnections());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).matches(any(), anyString());
+        doAnswer(invocation -> {
+            activeWhileHashing.set(dataSource.getHikariPoolMXBean().getActiveConnections());
+            return invocation.callRealMethod();
+        }).when(passwordEncoder).encode(any());
+    }
+
+    @Test
+    void loginHoldsNoConnectionWhileThePasswordIsVerified() throws Exception {
+        User user = new User("heron@example.org", "Night Heron", "$2a$10$" + "x".repeat(53));
+        user.setApproved(true);
+        userRepository.save(user);
+        activeWhileHashing.set(-1);
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"heron@example.org\",\"password\":\"wrong-password\"}"))
+                .andExpect(status().isUnauthorized());
+
+        assertThat(activeWhileHashing.get()).isZero();
+    }
+
+    @Test
+    void registrationHoldsNoConnectionWhileThePasswordIsHashed() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Marsh Harrier\",\"email\":\"harrier@example.org\"," +
+                                "\"password\":\"reed-beds\"}"))
+                .andExpect(status().isCreated());
+
+        assertThat(activeWhileHashing.get()).isZero();
+    }
+}
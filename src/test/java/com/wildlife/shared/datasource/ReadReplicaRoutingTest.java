@@ -0,0 +1,104 @@
+package com.wildlife.shared.datasource;
+
+import com.wildlife.shared.config.DataSourceConfig;
+import com.wildlife.user.persistence.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Routing of one request's transactions with a read replica configured. The replica pool logs in
+ * as a role that may only SELECT, so a write that ends up on a replica connection fails as it
+ * would on a hot standby.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    private static final String REPLICA_ROLE = "replica_reader";
+
+    @Container
+    static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void databases(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", postgres::getDriverClassName);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("wildlife.datasource.replica.url", postgres::getJdbcUrl);
+        registry.add("wildlife.datasource.replica.username", () -> REPLICA_ROLE);
+        registry.add("wildlife.datasource.replica.password", () -> REPLICA_ROLE);
+    }
+
+    @BeforeAll
+    static void createReplicaRole() throws Exception {
+        try (Connection connection = DriverManager.getConnection(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("CREATE ROLE " + REPLICA_ROLE + " LOGIN PASSWORD '" + REPLICA_ROLE + "'");
+            statement.execute("GRANT USAGE ON SCHEMA public TO " + REPLICA_ROLE);
+            // Tables are created later, by Hibernate, as the primary's user
+            statement.execute("ALTER DEFAULT PRIVILEGES IN SCHEMA public GRANT SELECT ON TABLES TO " + REPLICA_ROLE);
+        }
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void registrationLooksUpOnTheReplicaAndWritesToThePrimary() throws Exception {
+        replicaLagMonitor.check();
+        assertThat(replicaLagMonitor.isUsable()).isTrue();
+        long replicaBorrows = replicaConnectionBorrows();
+
+        // register: a read-only lookup, then the insert, in one request
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Marsh Warden\",\"email\":\"warden@example.org\"," +
+                                "\"password\":\"heron-watch\"}"))
+                .andExpect(status().isCreated());
+
+        assertThat(replicaConnectionBorrows()).isGreaterThan(replicaBorrows);
+        assertThat(userRepository.findByEmail("warden@example.org")).isPresent();
+    }
+
+    private long replicaConnectionBorrows() {
+        return meterRegistry.get("hikaricp.connections.usage")
+                .tag("pool", DataSourceConfig.REPLICA_POOL_NAME)
+                .timer()
+                .count();
+    }
+}
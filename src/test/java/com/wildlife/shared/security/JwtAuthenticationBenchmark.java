@@ -0,0 +1,130 @@
+package com.wildlife.shared.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of authenticating one request with a bearer token, before and after single-parse
+ * verification.
+ * <ul>
+ *   <li>legacyFilter: what the filter used to do, validateToken and four claim getters, each
+ *       deriving the key and building a parser to verify the token again.</li>
+ *   <li>singleParseFilter: JwtAuthenticationFilter with the token cache disabled, so every
+ *       request runs one {@link JwtTokenProvider#parseAndVerify(String)}.</li>
+ *   <li>cachedFilter: JwtAuthenticationFilter with the token cache, for a repeated token.</li>
+ * </ul>
+ * Run after mvn test-compile with the main method, or with
+ * java -cp target/test-classes:&lt;test classpath&gt; org.openjdk.jmh.Main JwtAuthenticationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-long-enough-for-hs512-signatures-0123456789";
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private String token;
+    private JwtAuthenticationFilter singleParseFilter;
+    private JwtAuthenticationFilter cachedFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(tokenProvider, "jwtExpirationMs", 3_600_000L);
+        ReflectionTestUtils.setField(tokenProvider, "jwtIssuer", "wildlife-api");
+        tokenProvider.init();
+        token = tokenProvider.generateTokenForUserId(42L, "ranger@example.org", "Park Ranger",
+                List.of("ROLE_CONTRIBUTOR"));
+
+        singleParseFilter = filter(tokenProvider, 0);
+        cachedFilter = filter(tokenProvider, 10_000);
+        request = new MockHttpServletRequest("GET", "/api/articles");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object legacyFilter() {
+        if (!legacyParse(token).getSubject().isEmpty()) {
+            Long userId = Long.parseLong(legacyParse(token).getSubject());
+            String email = legacyParse(token).get("email", String.class);
+            String name = legacyParse(token).get("name", String.class);
+            List<?> roles = legacyParse(token).get("roles", List.class);
+            List<GrantedAuthority> authorities = roles.stream()
+                    .<GrantedAuthority>map(role -> new SimpleGrantedAuthority(role.toString()))
+                    .toList();
+            UserPrincipal principal = new UserPrincipal(userId, email, name, null, authorities, true);
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(principal, null, authorities));
+        }
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object singleParseFilter() throws Exception {
+        singleParseFilter.doFilterInternal(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object cachedFilter() throws Exception {
+        cachedFilter.doFilterInternal(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthenticationBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    private static JwtAuthenticationFilter filter(JwtTokenProvider tokenProvider, int cacheSize) {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "tokenProvider", tokenProvider);
+        ReflectionTestUtils.setField(filter, "tokenCache",
+                new VerifiedTokenCache(tokenProvider, new SimpleMeterRegistry(), cacheSize, 3_600_000L));
+        return filter;
+    }
+}